@@ -0,0 +1,82 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.dto.ErrorExceptionDto;
+import com.example.customexception.response.BatchErrorResponse;
+import com.example.customexception.validation.BatchValidator;
+import com.example.customexception.validation.RequestValidator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 요청 목록 순차 검증과 BatchValidator 병렬 검증 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchValidationBenchmark {
+
+  @Param({"100", "10000"})
+  public int size;
+
+  /**
+   * 위반 요청 비율 (%)
+   */
+  @Param({"10"})
+  public int invalidPercent;
+
+  private RequestValidator requestValidator;
+  private BatchValidator batchValidator;
+  private List<ErrorExceptionDto.Request> errorRequests;
+
+  @Setup
+  public void setUp() {
+    requestValidator = new RequestValidator(false);
+    requestValidator.warmUp(Collections.singleton(ErrorExceptionDto.Request.class));
+    batchValidator = new BatchValidator(
+        requestValidator, Runtime.getRuntime().availableProcessors(), 256);
+    errorRequests = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      boolean invalid = i % 100 < invalidPercent;
+      errorRequests.add(ErrorExceptionDto.Request.builder()
+          .title(invalid ? "" : "title")
+          .description("description")
+          .completed(false)
+          .build());
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    batchValidator.close();
+    requestValidator.close();
+  }
+
+  @Benchmark
+  public List<BatchErrorResponse.ItemError> sequential() {
+    List<BatchErrorResponse.ItemError> errors = new ArrayList<>();
+    for (int i = 0; i < errorRequests.size(); i++) {
+      String message =
+          RequestValidator.violationMessage(requestValidator.validate(errorRequests.get(i)));
+      if (!message.isEmpty()) {
+        errors.add(new BatchErrorResponse.ItemError(i, message));
+      }
+    }
+    return errors;
+  }
+
+  @Benchmark
+  public List<BatchErrorResponse.ItemError> forkJoin() {
+    return batchValidator.validate(errorRequests);
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.advice.ExceptionAspect;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ExceptionAspect.camelToSnake 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CamelToSnakeBenchmark {
+
+  @Param({"title", "errorRequest", "requestDescriptionText", "HTTPStatusCode"})
+  public String input;
+
+  @Benchmark
+  public String camelToSnake() {
+    return ExceptionAspect.camelToSnake(input);
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.exception.ErrorException;
+import com.example.customexception.exception.StackTracePolicy;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * ErrorException 생성, throw/catch 처리량 비교 (스택 트레이스 생성 여부, 호출 깊이별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ErrorExceptionBenchmark {
+
+  @Param({"true", "false"})
+  public boolean stackless;
+
+  @Param({"10", "100"})
+  public int depth;
+
+  @Setup
+  public void setUp() {
+    StackTracePolicy.configure(
+        stackless ? EnumSet.of(ResponseCode.NOT_FOUND) : Collections.emptySet());
+  }
+
+  @TearDown
+  public void tearDown() {
+    StackTracePolicy.configure(Collections.emptySet());
+  }
+
+  @Benchmark
+  public ErrorException constructWithResponseCode() {
+    return construct(depth, true);
+  }
+
+  @Benchmark
+  public ErrorException constructWithMessage() {
+    return construct(depth, false);
+  }
+
+  @Benchmark
+  public ErrorCode throwAndCatch() {
+    try {
+      return recurse(depth);
+    } catch (ErrorException e) {
+      return e.getResponseCode();
+    }
+  }
+
+  private ErrorCode recurse(int remaining) {
+    if (remaining == 0) {
+      throw new ErrorException(ResponseCode.NOT_FOUND);
+    }
+    return recurse(remaining - 1);
+  }
+
+  private ErrorException construct(int remaining, boolean withResponseCode) {
+    if (remaining == 0) {
+      return withResponseCode
+          ? new ErrorException(ResponseCode.NOT_FOUND)
+          : new ErrorException("ErrorException 발생");
+    }
+    return construct(remaining - 1, withResponseCode);
+  }
+}
@@ -0,0 +1,65 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.exception.ErrorException;
+import com.example.customexception.exception.StackTracePolicy;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 인자가 있는 ErrorException 메시지 생성 비용 비교 (문자열 미리 생성, 템플릿 지연 생성)
+ *
+ * <p>스택 트레이스 생성 비용을 빼기 위해 NOT_FOUND를 stackless로 설정 (할당량은 -prof gc로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorExceptionMessageBenchmark {
+
+  private long id = 12_345L;
+  private String name = "order";
+
+  @Setup
+  public void setUp() {
+    StackTracePolicy.configure(EnumSet.of(ResponseCode.NOT_FOUND));
+  }
+
+  @TearDown
+  public void tearDown() {
+    StackTracePolicy.configure(Collections.emptySet());
+  }
+
+  /**
+   * 메시지를 미리 만들고 예외는 버림
+   */
+  @Benchmark
+  public ErrorException eagerDiscarded() {
+    return new ErrorException(
+        ResponseCode.NOT_FOUND, name + " " + id + " not found");
+  }
+
+  /**
+   * 템플릿으로 만들고 예외는 버림 (메시지 미생성)
+   */
+  @Benchmark
+  public ErrorException lazyDiscarded() {
+    return ErrorException.of(ResponseCode.NOT_FOUND, "{} {} not found", name, id);
+  }
+
+  /**
+   * 템플릿으로 만들고 메시지 사용
+   */
+  @Benchmark
+  public String lazyRendered() {
+    return ErrorException.of(ResponseCode.NOT_FOUND, "{} {} not found", name, id).getMessage();
+  }
+}
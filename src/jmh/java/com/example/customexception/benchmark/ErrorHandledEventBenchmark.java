@@ -0,0 +1,56 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.exception.ErrorException;
+import com.example.customexception.jfr.ErrorHandledEvent;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpStatus;
+
+/**
+ * ErrorHandledEvent 1건 기록 비용 (JFR 기록 중 여부별, 할당량은 -prof gc로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorHandledEventBenchmark {
+
+  @Param({"false", "true"})
+  public boolean recording;
+
+  private Recording jfrRecording;
+
+  @Setup
+  public void setUp() {
+    if (recording) {
+      jfrRecording = new Recording();
+      jfrRecording.setToDisk(false);
+      jfrRecording.enable("com.example.customexception.ErrorHandled");
+      jfrRecording.start();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (jfrRecording != null) {
+      jfrRecording.close();
+    }
+  }
+
+  @Benchmark
+  public void event() {
+    ErrorHandledEvent event = new ErrorHandledEvent();
+    event.begin();
+    event.commit(ErrorException.class, ResponseCode.NOT_FOUND, HttpStatus.BAD_REQUEST,
+        "GET", "/api/exception04", "handleRtaException");
+  }
+}
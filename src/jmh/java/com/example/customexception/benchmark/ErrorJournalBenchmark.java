@@ -0,0 +1,94 @@
+package com.example.customexception.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.example.customexception.config.JournalProperties;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.exception.ErrorException;
+import com.example.customexception.journal.ErrorJournal;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 에러 1건 기록 비용 비교 (memory-mapped journal, Logback 파일 로그 한 줄)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ErrorJournalBenchmark {
+
+  private static final String METHOD = "GET";
+  private static final String PATH = "/api/exception04";
+
+  @Param({"NONE", "ROTATE"})
+  public JournalProperties.Fsync fsync;
+
+  private Path directory;
+  private ErrorJournal errorJournal;
+  private LoggerContext loggerContext;
+  private Logger logger;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("error-journal-benchmark");
+
+    JournalProperties journalProperties = new JournalProperties();
+    journalProperties.setEnabled(true);
+    journalProperties.setDirectory(directory.resolve("journal").toString());
+    journalProperties.setFsync(fsync);
+    errorJournal = new ErrorJournal(
+        journalProperties, Clock.systemUTC(), ResponseCodeRegistry.getInstance());
+
+    loggerContext = new LoggerContext();
+    PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+    encoder.setContext(loggerContext);
+    encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %-5level [%thread] %logger - %msg%n");
+    encoder.start();
+    FileAppender<ILoggingEvent> appender = new FileAppender<>();
+    appender.setContext(loggerContext);
+    appender.setFile(directory.resolve("error.log").toString());
+    appender.setEncoder(encoder);
+    appender.start();
+    logger = loggerContext.getLogger("ExceptionLogger");
+    logger.addAppender(appender);
+    logger.setAdditive(false);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    errorJournal.close();
+    loggerContext.stop();
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public void journal() {
+    errorJournal.append(ResponseCode.NOT_FOUND, METHOD, PATH, ErrorException.class);
+  }
+
+  @Benchmark
+  public void logFile() {
+    logger.warn("[{}] {} {} {} : {}", "handleRtaException", ResponseCode.NOT_FOUND.getCode(),
+        METHOD, PATH, ErrorException.class.getName());
+  }
+}
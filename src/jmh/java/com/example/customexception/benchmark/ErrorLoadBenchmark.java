@@ -0,0 +1,128 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.CustomExceptionApplication;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.exception.ErrorException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+/**
+ * 에러 응답 부하 비교 (플랫폼 스레드 풀, 가상 스레드)
+ *
+ * <p>Tomcat 스레드 수보다 많은 동시 요청으로 /api/exception* 과, 느린 하위 호출 후 ErrorException을 던지는
+ * 엔드포인트를 호출한다. virtual=true는 Java 21 이상에서만 가상 스레드로 실행되며, 그 미만에서는 플랫폼 스레드 풀로
+ * 실행된다. (./gradlew jmh -PjmhIncludes=ErrorLoadBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(256)
+public class ErrorLoadBenchmark {
+
+  private static final String[] EXCEPTION_PATHS = {
+      "/api/exception01", "/api/exception02", "/api/exception03", "/api/exception04"
+  };
+
+  @Param({"false", "true"})
+  public boolean virtual;
+
+  /**
+   * 플랫폼 스레드 풀 최대 크기
+   */
+  @Param({"64"})
+  public int maxThreads;
+
+  /**
+   * 하위 호출 지연 (ms)
+   */
+  @Param({"20"})
+  public long downstreamMillis;
+
+  private ConfigurableApplicationContext context;
+  private HttpClient httpClient;
+  private String baseUrl;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(
+        CustomExceptionApplication.class, SlowDownstreamController.class)
+        .properties(
+            "server.port=0",
+            "server.tomcat.threads.max=" + maxThreads,
+            "custom-exception.threads.virtual=" + virtual,
+            "logging.level.root=off")
+        .run();
+    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    baseUrl = "http://localhost:" + port;
+    httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @State(Scope.Thread)
+  public static class Cursor {
+
+    private int next;
+
+    String nextPath() {
+      return EXCEPTION_PATHS[next++ & (EXCEPTION_PATHS.length - 1)];
+    }
+  }
+
+  @Benchmark
+  public int exceptionEndpoints(Cursor cursor) throws Exception {
+    return send(cursor.nextPath());
+  }
+
+  @Benchmark
+  public int slowDownstreamError() throws Exception {
+    return send("/bench/slow-error?millis=" + downstreamMillis);
+  }
+
+  private int send(String path) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+  /**
+   * 느린 하위 호출 후 ErrorException (벤치마크 전용, 컴포넌트 스캔 대상 아님)
+   */
+  @ResponseBody
+  @RequestMapping
+  public static class SlowDownstreamController {
+
+    @GetMapping("/bench/slow-error")
+    public String slowError(@RequestParam long millis) throws InterruptedException {
+      Thread.sleep(millis);
+      throw ErrorException.of(ResponseCode.NOT_FOUND);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.metrics.ErrorMetrics;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.HttpStatus;
+
+/**
+ * ErrorMetrics 기록 비용 (다중 스레드 경합 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class ErrorMetricsBenchmark {
+
+  @Param({"true", "false"})
+  public boolean enabled;
+
+  private ErrorMetrics errorMetrics;
+
+  @Setup
+  public void setUp() {
+    errorMetrics = new ErrorMetrics(enabled, ResponseCodeRegistry.getInstance());
+  }
+
+  @Benchmark
+  public void record() {
+    errorMetrics.record(
+        "handleRtaException", ResponseCode.NOT_FOUND, HttpStatus.BAD_REQUEST, 1_500L);
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.response.ErrorResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ErrorResponse 생성 (message, timestamp 기본값 처리 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseBenchmark {
+
+  private static final String CODE = ResponseCode.NOT_FOUND.getCode();
+  private static final String MESSAGE = ResponseCode.NOT_FOUND.getMessage();
+  private static final String TIMESTAMP = "20220601120000";
+
+  @Benchmark
+  public ErrorResponse buildWithAllFields() {
+    return ErrorResponse.builder()
+        .statusCode(CODE)
+        .message(MESSAGE)
+        .method("GET")
+        .path("/api/exception04")
+        .timestamp(TIMESTAMP)
+        .build();
+  }
+
+  @Benchmark
+  public ErrorResponse buildWithMessageFallback() {
+    return ErrorResponse.builder()
+        .statusCode(CODE)
+        .method("GET")
+        .path("/api/exception04")
+        .timestamp(TIMESTAMP)
+        .build();
+  }
+
+  @Benchmark
+  public ErrorResponse buildWithTimestampFallback() {
+    return ErrorResponse.builder()
+        .statusCode(CODE)
+        .message(MESSAGE)
+        .method("GET")
+        .path("/api/exception04")
+        .build();
+  }
+
+  @Benchmark
+  public ErrorResponse buildWithAllFallbacks() {
+    return ErrorResponse.builder()
+        .statusCode(CODE)
+        .method("GET")
+        .path("/api/exception04")
+        .build();
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.response.ErrorResponse;
+import com.example.customexception.response.ErrorResponseEncoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * ErrorResponse 직렬화 비교 (Jackson, ErrorResponseEncoder)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseSerializationBenchmark {
+
+  private ObjectMapper objectMapper;
+  private ErrorResponseEncoder errorResponseEncoder;
+  private ErrorResponse errorResponse;
+  private DataBufferFactory bufferFactory;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    errorResponseEncoder = new ErrorResponseEncoder(ResponseCodeRegistry.getInstance());
+    bufferFactory = new DefaultDataBufferFactory();
+    errorResponse = ErrorResponse.builder()
+        .statusCode(ResponseCode.NOT_FOUND.getCode())
+        .method("GET")
+        .path("/api/exception04")
+        .timestamp("20220601120000")
+        .build();
+  }
+
+  @Benchmark
+  public byte[] jackson() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(errorResponse);
+  }
+
+  @Benchmark
+  public byte[] preEncoded() {
+    return errorResponseEncoder.encode(errorResponse);
+  }
+
+  @Benchmark
+  public DataBuffer preEncodedDataBuffer() {
+    return errorResponseEncoder.encode(bufferFactory, errorResponse);
+  }
+}
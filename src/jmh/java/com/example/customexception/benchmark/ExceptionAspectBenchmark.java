@@ -0,0 +1,170 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.advice.ExceptionAspect;
+import com.example.customexception.advice.ExceptionResolver;
+import com.example.customexception.config.JournalProperties;
+import com.example.customexception.config.LoggingProperties;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.controller.ExceptionController;
+import com.example.customexception.dto.ErrorExceptionDto;
+import com.example.customexception.exception.ErrorException;
+import com.example.customexception.journal.ErrorJournal;
+import com.example.customexception.logging.ExceptionLogger;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.metrics.HeavyHitters;
+import com.example.customexception.metrics.RecentErrors;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.ErrorResponse;
+import com.example.customexception.response.TimestampProvider;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+/**
+ * ExceptionAspect 예외 타입별 처리 비용 (예외 생성 비용 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionAspectBenchmark {
+
+  private ExceptionAspect exceptionAspect;
+  private MockHttpServletRequest request;
+
+  private RuntimeException exception;
+  private ErrorException errorException;
+  private MethodArgumentNotValidException methodArgumentNotValidException;
+  private MissingServletRequestParameterException missingServletRequestParameterException;
+  private ConstraintViolationException constraintViolationException;
+  private MethodArgumentTypeMismatchException methodArgumentTypeMismatchException;
+  private HttpMessageNotReadableException httpMessageNotReadableException;
+  private NoHandlerFoundException noHandlerFoundException;
+  private HttpRequestMethodNotSupportedException httpRequestMethodNotSupportedException;
+  private HttpMediaTypeNotSupportedException httpMediaTypeNotSupportedException;
+
+  @Setup
+  public void setUp() throws Exception {
+    exceptionAspect = new ExceptionAspect(
+        TimestampProvider.systemDefault(),
+        new ErrorMessages(ResponseCodeRegistry.getInstance()),
+        new ExceptionLogger(Clock.systemDefaultZone(), new LoggingProperties()),
+        new ErrorMetrics(true, ResponseCodeRegistry.getInstance()),
+        new RecentErrors(true, Clock.systemDefaultZone(), 1024, 1),
+        new ErrorJournal(
+            new JournalProperties(),
+            Clock.systemDefaultZone(),
+            ResponseCodeRegistry.getInstance()),
+        new HeavyHitters(true, Clock.systemDefaultZone(), 20, 4, 2048, 60_000),
+        new ExceptionResolver());
+    request = new MockHttpServletRequest("POST", "/api/methodArgumentNotvalidException");
+
+    ErrorExceptionDto.Request errorRequest = ErrorExceptionDto.Request.builder()
+        .title("")
+        .description("")
+        .completed(true)
+        .build();
+
+    MethodParameter methodParameter = new MethodParameter(
+        ExceptionController.class.getMethod(
+            "methodArgumentNotValidException", ErrorExceptionDto.Request.class), 0);
+    BeanPropertyBindingResult bindingResult =
+        new BeanPropertyBindingResult(errorRequest, "errorRequest");
+    bindingResult.rejectValue("title", "NotBlank", "공백일 수 없습니다");
+    bindingResult.rejectValue("description", "NotBlank", "공백일 수 없습니다");
+    bindingResult.rejectValue("completed", "AssertFalse", "false여야 합니다");
+
+    try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+      constraintViolationException = new ConstraintViolationException(
+          validatorFactory.getValidator().validate(errorRequest));
+    }
+
+    exception = new RuntimeException("RuntimeException 발생");
+    errorException = new ErrorException(ResponseCode.CUSTOM_EXCEPTION);
+    methodArgumentNotValidException =
+        new MethodArgumentNotValidException(methodParameter, bindingResult);
+    missingServletRequestParameterException =
+        new MissingServletRequestParameterException("id", "Long");
+    methodArgumentTypeMismatchException = new MethodArgumentTypeMismatchException(
+        "test", Long.class, "id", methodParameter, new NumberFormatException("test"));
+    httpMessageNotReadableException = new HttpMessageNotReadableException(
+        "Required request body is missing", new MockHttpInputMessage(new byte[0]));
+    noHandlerFoundException = new NoHandlerFoundException(
+        "GET", "/api/noHandlerFoundExceptionFailed", new HttpHeaders());
+    httpRequestMethodNotSupportedException = new HttpRequestMethodNotSupportedException("GET");
+    httpMediaTypeNotSupportedException =
+        new HttpMediaTypeNotSupportedException("Content type 'text/plain' not supported");
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> handleException() {
+    return exceptionAspect.handleException(request, exception);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> handleRtaException() {
+    return exceptionAspect.handleException(request, errorException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException() {
+    return exceptionAspect.handleException(request, methodArgumentNotValidException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> handleMissingServletRequestParameterException() {
+    return exceptionAspect.handleException(request, missingServletRequestParameterException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> handleConstraintViolationException() {
+    return exceptionAspect.handleException(request, constraintViolationException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException() {
+    return exceptionAspect.handleException(request, methodArgumentTypeMismatchException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException() {
+    return exceptionAspect.handleException(request, httpMessageNotReadableException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> handleNoHandlerFoundException() {
+    return exceptionAspect.handleException(request, noHandlerFoundException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> handleHttpRequestMethodNotSupportedException() {
+    return exceptionAspect.handleException(request, httpRequestMethodNotSupportedException);
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> handleHttpMediaTypeNotSupportedException() {
+    return exceptionAspect.handleException(request, httpMediaTypeNotSupportedException);
+  }
+}
@@ -0,0 +1,123 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.advice.ExceptionMapping;
+import com.example.customexception.advice.ExceptionResolver;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.exception.ErrorException;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+/**
+ * 예외 처리 방법 조회 비용 비교 (ExceptionResolver, 예외 타입별 @ExceptionHandler 메서드 조회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionResolverBenchmark {
+
+  @Param({"mapped", "subclass", "unmapped", "wrapped"})
+  public String exceptionType;
+
+  private Throwable exception;
+  private ExceptionResolver exceptionResolver;
+  private ExceptionHandlerMethodResolver exceptionHandlerMethodResolver;
+
+  @Setup
+  public void setUp() {
+    switch (exceptionType) {
+      case "mapped":
+        exception = new HttpRequestMethodNotSupportedException("GET");
+        break;
+      case "subclass":
+        exception = new ErrorException(ResponseCode.NOT_FOUND) {
+        };
+        break;
+      case "unmapped":
+        exception = new IllegalStateException("IllegalStateException 발생");
+        break;
+      default:
+        exception = new CompletionException(ErrorException.of(ResponseCode.NOT_FOUND));
+        break;
+    }
+    exceptionResolver = new ExceptionResolver();
+    exceptionHandlerMethodResolver = new ExceptionHandlerMethodResolver(Handlers.class);
+  }
+
+  @Benchmark
+  public ExceptionMapping exceptionResolver() {
+    return exceptionResolver.mappingOf(exceptionResolver.unwrap(exception).getClass());
+  }
+
+  @Benchmark
+  public Method exceptionHandlerMethodResolver() {
+    return exceptionHandlerMethodResolver.resolveMethodByThrowable(exception);
+  }
+
+  /**
+   * 예외 타입별 @ExceptionHandler 메서드 (기존 ExceptionAspect 구성)
+   */
+  @SuppressWarnings("unused")
+  static class Handlers {
+
+    @ExceptionHandler(Exception.class)
+    void handleException(Exception e) {
+    }
+
+    @ExceptionHandler(ErrorException.class)
+    void handleRtaException(ErrorException e) {
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    void handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
+    }
+
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    void handleMissingServletRequestParameterException(
+        MissingServletRequestParameterException e) {
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    void handleConstraintViolationException(ConstraintViolationException e) {
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    void handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    void handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
+    }
+
+    @ExceptionHandler(NoHandlerFoundException.class)
+    void handleNoHandlerFoundException(NoHandlerFoundException e) {
+    }
+
+    @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
+    void handleHttpRequestMethodNotSupportedException(
+        HttpRequestMethodNotSupportedException e) {
+    }
+
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    void handleHttpMediaTypeNotSupportedException(HttpMediaTypeNotSupportedException e) {
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.metrics.HeavyHitters;
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 상위 에러 기록 비용 비교 (count-min sketch + top-K, 경로별 정확한 카운터 map)
+ *
+ * <p>경로 10만 종 중 임의 선택 (map은 경로 수만큼 커지고 sketch는 고정 크기)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class HeavyHittersBenchmark {
+
+  private static final int PATHS = 100_000;
+
+  private String[] paths;
+  private HeavyHitters heavyHitters;
+  private ConcurrentHashMap<String, LongAdder> exact;
+
+  @Setup
+  public void setUp() {
+    paths = new String[PATHS];
+    for (int i = 0; i < PATHS; i++) {
+      paths[i] = "/api/orders/" + i;
+    }
+    heavyHitters = new HeavyHitters(true, Clock.systemUTC(), 20, 4, 2048, 60_000);
+    exact = new ConcurrentHashMap<>();
+  }
+
+  @Benchmark
+  public void sketch() {
+    String path = paths[ThreadLocalRandom.current().nextInt(PATHS)];
+    heavyHitters.record(ResponseCode.NOT_FOUND, path, "10.0.0.1");
+  }
+
+  @Benchmark
+  public void exactMap() {
+    String path = paths[ThreadLocalRandom.current().nextInt(PATHS)];
+    exact.computeIfAbsent(path, key -> new LongAdder()).increment();
+    exact.computeIfAbsent(ResponseCode.NOT_FOUND.getCode(), key -> new LongAdder()).increment();
+    exact.computeIfAbsent("10.0.0.1", key -> new LongAdder()).increment();
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.metrics.RecentErrors;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 최근 에러 링 버퍼 기록 비용 (stripe 수별, 4 스레드 동시 기록)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class RecentErrorsBenchmark {
+
+  @Param({"1", "8"})
+  public int stripes;
+
+  private RecentErrors recentErrors;
+
+  @Setup
+  public void setUp() {
+    recentErrors = new RecentErrors(true, Clock.systemUTC(), 1024, stripes);
+  }
+
+  @Benchmark
+  public void publish() {
+    recentErrors.publish(ResponseCode.NOT_FOUND, "GET", "/api/exception04", "20220601030405",
+        IllegalStateException.class);
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ResponseCode 조회 (statusCode, message)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseCodeBenchmark {
+
+  public String statusCode = ResponseCode.NOT_FOUND.getCode();
+
+  public String message = ResponseCode.NOT_FOUND.getMessage();
+
+  public ResponseCodeRegistry responseCodeRegistry = ResponseCodeRegistry.getInstance();
+
+  @Benchmark
+  public ResponseCode valueOfStatusCode() {
+    return ResponseCode.valueOfStatusCode(statusCode);
+  }
+
+  @Benchmark
+  public ResponseCode valueOfMessage() {
+    return ResponseCode.valueOfMessage(message);
+  }
+
+  @Benchmark
+  public ErrorCode registryFind() {
+    return responseCodeRegistry.find(statusCode);
+  }
+}
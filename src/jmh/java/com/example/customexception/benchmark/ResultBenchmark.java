@@ -0,0 +1,74 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.exception.ErrorException;
+import com.example.customexception.exception.Result;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 서비스 호출 depth 단계 아래에서 발생한 에러를 최상위에서 에러 코드로 받는 비용 비교
+ * (ErrorException throw/catch, 공유 ErrorException throw/catch, Result 반환)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultBenchmark {
+
+  @Param({"1", "8", "32"})
+  public int depth;
+
+  @Benchmark
+  public ErrorCode throwNew() {
+    try {
+      throwNew(depth);
+      return ResponseCode.OK;
+    } catch (ErrorException e) {
+      return e.getResponseCode();
+    }
+  }
+
+  @Benchmark
+  public ErrorCode throwShared() {
+    try {
+      throwShared(depth);
+      return ResponseCode.OK;
+    } catch (ErrorException e) {
+      return e.getResponseCode();
+    }
+  }
+
+  @Benchmark
+  public ErrorCode result() {
+    Result<String> result = result(depth);
+    return result.isOk() ? ResponseCode.OK : result.getResponseCode();
+  }
+
+  private static String throwNew(int remaining) {
+    if (remaining == 0) {
+      throw new ErrorException(ResponseCode.CUSTOM_EXCEPTION);
+    }
+    return throwNew(remaining - 1);
+  }
+
+  private static String throwShared(int remaining) {
+    if (remaining == 0) {
+      throw ErrorException.of(ResponseCode.NOT_FOUND);
+    }
+    return throwShared(remaining - 1);
+  }
+
+  private static Result<String> result(int remaining) {
+    if (remaining == 0) {
+      return Result.error(ResponseCode.NOT_FOUND);
+    }
+    return result(remaining - 1).map(value -> value + remaining);
+  }
+}
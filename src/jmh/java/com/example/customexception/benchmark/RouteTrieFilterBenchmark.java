@@ -0,0 +1,119 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.advice.ExceptionAspect;
+import com.example.customexception.advice.ExceptionResolver;
+import com.example.customexception.config.JournalProperties;
+import com.example.customexception.config.LoggingProperties;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.filter.RouteTrieFilter;
+import com.example.customexception.journal.ErrorJournal;
+import com.example.customexception.logging.ExceptionLogger;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.metrics.HeavyHitters;
+import com.example.customexception.metrics.RecentErrors;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.ErrorResponse;
+import com.example.customexception.response.ErrorResponseEncoder;
+import com.example.customexception.response.TimestampProvider;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * 등록되지 않은 경로의 404 응답 비용 (RouteTrieFilter, HandlerMapping 조회 후 NoHandlerFoundException 처리)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteTrieFilterBenchmark {
+
+  private static final FilterChain NO_OP = (request, response) -> {
+  };
+
+  private RouteTrieFilter routeTrieFilter;
+  private RequestMappingHandlerMapping handlerMapping;
+  private ExceptionAspect exceptionAspect;
+  private MockHttpServletRequest request;
+
+  @Setup
+  public void setUp() throws Exception {
+    ResponseCodeRegistry responseCodeRegistry = ResponseCodeRegistry.getInstance();
+    ErrorMetrics errorMetrics = new ErrorMetrics(true, responseCodeRegistry);
+    HeavyHitters heavyHitters =
+        new HeavyHitters(true, Clock.systemDefaultZone(), 20, 4, 2048, 60_000);
+    ErrorMessages errorMessages = new ErrorMessages(responseCodeRegistry);
+    TimestampProvider timestampProvider = TimestampProvider.systemDefault();
+
+    handlerMapping = new RequestMappingHandlerMapping();
+    for (int i = 1; i <= 10; i++) {
+      handlerMapping.registerMapping(
+          RequestMappingInfo.paths("/api/exception" + i).methods(RequestMethod.GET).build(),
+          new Object(),
+          Object.class.getMethod("toString"));
+    }
+
+    RecentErrors recentErrors = new RecentErrors(true, Clock.systemDefaultZone(), 1024, 1);
+    ErrorJournal errorJournal =
+        new ErrorJournal(new JournalProperties(), Clock.systemDefaultZone(), responseCodeRegistry);
+
+    routeTrieFilter = new RouteTrieFilter(
+        new ErrorResponseEncoder(responseCodeRegistry),
+        errorMessages,
+        timestampProvider,
+        new AcceptHeaderLocaleResolver(),
+        errorMetrics,
+        heavyHitters,
+        recentErrors,
+        errorJournal);
+    routeTrieFilter.compile(List.of(handlerMapping));
+
+    exceptionAspect = new ExceptionAspect(
+        timestampProvider,
+        errorMessages,
+        new ExceptionLogger(Clock.systemDefaultZone(), new LoggingProperties()),
+        errorMetrics,
+        recentErrors,
+        errorJournal,
+        heavyHitters,
+        new ExceptionResolver());
+
+    request = new MockHttpServletRequest("GET", "/api/noHandlerFoundExceptionFailed");
+  }
+
+  @Benchmark
+  public MockHttpServletResponse routeTrieFilter() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    routeTrieFilter.doFilter(request, response, NO_OP);
+    return response;
+  }
+
+  @Benchmark
+  public ResponseEntity<ErrorResponse> handlerMapping() throws Exception {
+    HandlerExecutionChain handler = handlerMapping.getHandler(request);
+    if (handler != null) {
+      throw new IllegalStateException();
+    }
+    return exceptionAspect.handleException(request, new NoHandlerFoundException(
+        request.getMethod(),
+        request.getRequestURI(),
+        new ServletServerHttpRequest(request).getHeaders()));
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.customexception.benchmark;
+
+import com.example.customexception.dto.ErrorExceptionDto;
+import com.example.customexception.validation.RequestValidator;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 요청별 ValidatorFactory 생성과 공유 RequestValidator 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationBenchmark {
+
+  private RequestValidator requestValidator;
+  private RequestValidator failFastRequestValidator;
+  private ErrorExceptionDto.Request errorRequest;
+
+  @Setup
+  public void setUp() {
+    requestValidator = new RequestValidator(false);
+    failFastRequestValidator = new RequestValidator(true);
+    requestValidator.warmUp(Collections.singleton(ErrorExceptionDto.Request.class));
+    failFastRequestValidator.warmUp(Collections.singleton(ErrorExceptionDto.Request.class));
+    errorRequest = ErrorExceptionDto.Request.builder()
+        .title("")
+        .description("")
+        .completed(true)
+        .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    requestValidator.close();
+    failFastRequestValidator.close();
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<ErrorExceptionDto.Request>> buildDefaultValidatorFactory() {
+    return Validation.buildDefaultValidatorFactory().getValidator().validate(errorRequest);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<ErrorExceptionDto.Request>> sharedValidator() {
+    return requestValidator.validate(errorRequest);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<ErrorExceptionDto.Request>> sharedFailFastValidator() {
+    return failFastRequestValidator.validate(errorRequest);
+  }
+}
@@ -1,81 +1,145 @@
 package com.example.customexception.advice;
 
-import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ErrorCode;
 import com.example.customexception.exception.ErrorException;
+import com.example.customexception.exception.Result;
+import com.example.customexception.jfr.ErrorHandledEvent;
+import com.example.customexception.journal.ErrorJournal;
+import com.example.customexception.logging.ExceptionLogger;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.metrics.HeavyHitters;
+import com.example.customexception.metrics.RecentErrors;
+import com.example.customexception.response.ErrorMessages;
 import com.example.customexception.response.ErrorResponse;
+import com.example.customexception.response.TimestampProvider;
+import com.example.customexception.support.SnakeCaseConverter;
+import com.example.customexception.validation.RequestValidator;
 import java.util.ArrayList;
 import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.ConstraintViolationException;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.util.ObjectUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
-import org.springframework.web.HttpMediaTypeNotSupportedException;
-import org.springframework.web.HttpRequestMethodNotSupportedException;
-import org.springframework.web.bind.MethodArgumentNotValidException;
-import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
-import org.springframework.web.servlet.NoHandlerFoundException;
 
-@Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class ExceptionAspect {
 
+  private final TimestampProvider timestampProvider;
+  private final ErrorMessages errorMessages;
+  private final ExceptionLogger exceptionLogger;
+  private final ErrorMetrics errorMetrics;
+  private final RecentErrors recentErrors;
+  private final ErrorJournal errorJournal;
+  private final HeavyHitters heavyHitters;
+  private final ExceptionResolver exceptionResolver;
+
   /**
-   * ExceptionHandler - Exception
+   * ExceptionHandler - ExceptionResolver 매핑으로 에러 코드, HTTP 상태, 메시지 결정
    */
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleException(
       HttpServletRequest request,
       Exception e) {
-    log.error("handleException : {}", e);
-    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
-        ErrorResponse.builder()
-            .statusCode(ResponseCode.INTERNAL_SERVER_ERROR.getCode())
-            .method(request.getMethod())
-            .path(request.getRequestURI())
-            .build()
-    );
+    long startNanos = System.nanoTime();
+    ErrorHandledEvent event = new ErrorHandledEvent();
+    event.begin();
+
+    Throwable resolved = exceptionResolver.unwrap(e);
+    ExceptionMapping mapping = exceptionResolver.mappingOf(resolved.getClass());
+    ErrorCode responseCode = mapping.errorCodeOf(resolved);
+    HttpStatus httpStatus = mapping.httpStatusOf(responseCode);
+
+    if (mapping.isLogged()) {
+      exceptionLogger.log(mapping.getHandler(), responseCode, e);
+    }
+    return respond(mapping.getHandler(), request, responseCode, httpStatus,
+        mapping.messageOf(resolved), resolved.getClass(), startNanos, event);
   }
 
   /**
-   * ExceptionHandler - Custom Exception
+   * Result 에러 응답 (ErrorException과 같은 에러 코드, HTTP 상태, 본문, 예외 로그 없음)
    */
-  @ExceptionHandler(ErrorException.class)
-  public ResponseEntity<ErrorResponse> handleRtaException(
+  public ResponseEntity<ErrorResponse> handleResult(
       HttpServletRequest request,
-      ErrorException e) {
-    log.error("handleRtaException : {}", e);
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+      Result<?> result) {
+    long startNanos = System.nanoTime();
+    ErrorHandledEvent event = new ErrorHandledEvent();
+    event.begin();
+
+    ErrorCode responseCode = result.getResponseCode();
+    HttpStatus httpStatus =
+        exceptionResolver.mappingOf(ErrorException.class).httpStatusOf(responseCode);
+    String message = responseCode.getMessage().equals(result.getMessage())
+        ? null : result.getMessage();
+    return respond("handleResult", request, responseCode, httpStatus, message,
+        Result.class, startNanos, event);
+  }
+
+  /**
+   * ErrorResponse 생성, 최근 에러, journal, 상위 에러, 처리 시간 및 JFR 이벤트 기록
+   *
+   * <p>message가 비어 있으면 요청 Locale의 에러 코드 메시지를 사용한다.
+   */
+  private ResponseEntity<ErrorResponse> respond(
+      String handler,
+      HttpServletRequest request,
+      ErrorCode responseCode,
+      HttpStatus httpStatus,
+      String message,
+      Class<?> type,
+      long startNanos,
+      ErrorHandledEvent event) {
+    if (ObjectUtils.isEmpty(message)) {
+      message = errorMessages.messageOf(responseCode, LocaleContextHolder.getLocale());
+    }
+    String timestamp = timestampProvider.now();
+    ResponseEntity<ErrorResponse> responseEntity = ResponseEntity.status(httpStatus).body(
         ErrorResponse.builder()
-            .statusCode(e.getResponseCode().getCode())
+            .statusCode(responseCode.getCode())
+            .message(message)
             .method(request.getMethod())
-            .message(e.getMessage())
             .path(request.getRequestURI())
+            .timestamp(timestamp)
             .build()
     );
+
+    recentErrors.publish(
+        responseCode, request.getMethod(), request.getRequestURI(), timestamp, type);
+    errorJournal.append(responseCode, request.getMethod(), request.getRequestURI(), type);
+    heavyHitters.record(responseCode, request.getRequestURI(), request.getRemoteAddr());
+    errorMetrics.record(handler, responseCode, httpStatus, System.nanoTime() - startNanos);
+    event.commit(type, responseCode, httpStatus, request.getMethod(), request.getRequestURI(),
+        handler);
+    return responseEntity;
   }
 
   /**
-   * ExceptionHandler - MethodArgumentNotValidException
+   * ErrorException 메시지 (에러 코드 기본 메시지는 Locale별 메시지로 대체하도록 null)
    */
-  @ExceptionHandler(MethodArgumentNotValidException.class)
-  public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(
-      HttpServletRequest request,
-      MethodArgumentNotValidException e) {
-    log.error("handleMethodArgumentNotValidException : {}", e);
+  static String errorExceptionMessage(ErrorException e) {
+    ErrorCode responseCode = e.getResponseCode();
+    if (responseCode != null && responseCode.getMessage().equals(e.getMessage())) {
+      return null;
+    }
+    return e.getMessage();
+  }
 
+  /**
+   * BindingResult 메시지 (global, field 에러)
+   */
+  static String bindingResultMessage(BindingResult bindingResult) {
     String message = "";
 
     List<String> messages = new ArrayList<>();
-    BindingResult bindingResult = e.getBindingResult();
     for (ObjectError error : bindingResult.getGlobalErrors()) {
       messages.add(
           camelToSnake(error.getObjectName()) + ":" + error.getDefaultMessage());
@@ -88,154 +152,20 @@ public class ExceptionAspect {
     if (!ObjectUtils.isEmpty(messages)) {
       message = String.join(", ", messages);
     }
-
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
-        ErrorResponse.builder()
-            .statusCode(ResponseCode.METHOD_ARGUMENT_NOT_VALID.getCode())
-            .message(message)
-            .method(request.getMethod())
-            .path(request.getRequestURI())
-            .build()
-    );
-  }
-
-  /**
-   * ExceptionHandler - MissingServletRequestParameterException
-   */
-  @ExceptionHandler(MissingServletRequestParameterException.class)
-  public ResponseEntity<ErrorResponse> handleMissingServletRequestParameterException(
-      HttpServletRequest request,
-      MissingServletRequestParameterException e) {
-    log.error("handleMissingServletRequestParameterException : {}", e);
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
-        ErrorResponse.builder()
-            .statusCode(ResponseCode.MISSING_SERVLET_REQUEST_PARAMETER.getCode())
-            .method(request.getMethod())
-            .path(request.getRequestURI())
-            .build()
-    );
-  }
-
-  /**
-   * ExceptionHandler - ConstraintViolationException
-   */
-  @ExceptionHandler(ConstraintViolationException.class)
-  public ResponseEntity<ErrorResponse> handleConstraintViolationException(
-      HttpServletRequest request,
-      ConstraintViolationException e) {
-    log.error("handleConstraintViolationException : {}", e);
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
-        ErrorResponse.builder()
-            .statusCode(ResponseCode.CONSTRAINT_VIOLATION.getCode())
-            .method(request.getMethod())
-            .path(request.getRequestURI())
-            .build()
-    );
-  }
-
-  /**
-   * ExceptionHandler - MethodArgumentTypeMismatchException
-   */
-  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
-  public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(
-      HttpServletRequest request,
-      MethodArgumentTypeMismatchException e) {
-    log.error("handleMethodArgumentTypeMismatchException : {}", e);
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
-        ErrorResponse.builder()
-            .statusCode(ResponseCode.METHOD_ARGUMENT_TYPE_MISMATCH.getCode())
-            .method(request.getMethod())
-            .path(request.getRequestURI())
-            .build()
-    );
-  }
-
-  /**
-   * ExceptionHandler - HttpMessageNotReadableException
-   */
-  @ExceptionHandler(HttpMessageNotReadableException.class)
-  public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(
-      HttpServletRequest request,
-      HttpMessageNotReadableException e) {
-    log.error("handleHttpMessageNotReadableException : {}", e);
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
-        ErrorResponse.builder()
-            .statusCode(ResponseCode.HTTP_MESSAGE_NOT_READABLE_EXCEPTION.getCode())
-            .method(request.getMethod())
-            .path(request.getRequestURI())
-            .build()
-    );
-  }
-
-  /**
-   * ExceptionHandler - NoHandlerFoundException
-   */
-  @ExceptionHandler(NoHandlerFoundException.class)
-  public ResponseEntity<ErrorResponse> handleNoHandlerFoundException(
-      HttpServletRequest request,
-      NoHandlerFoundException e) {
-    log.error("handleNoHandlerFoundException : {}", e);
-    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
-        ErrorResponse.builder()
-            .statusCode(ResponseCode.NO_HANDLER_FOUND.getCode())
-            .method(request.getMethod())
-            .path(request.getRequestURI())
-            .build()
-    );
+    return message;
   }
 
   /**
-   * ExceptionHandler - HttpRequestMethodNotSupportedException
+   * ConstraintViolationException 메시지 (propertyPath 기준 정렬)
    */
-  @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
-  public ResponseEntity<ErrorResponse> handleHttpRequestMethodNotSupportedException(
-      HttpServletRequest request,
-      HttpRequestMethodNotSupportedException e) {
-    log.error("handleHttpRequestMethodNotSupportedException : {}", e);
-    return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(
-        ErrorResponse.builder()
-            .statusCode(ResponseCode.HTTP_REQUEST_METHOD_NOT_SUPPORTED.getCode())
-            .method(request.getMethod())
-            .path(request.getRequestURI())
-            .build()
-    );
-  }
-
-  /**
-   * ExceptionHandler - HttpMediaTypeNotSupportedException
-   */
-  @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
-  public ResponseEntity<ErrorResponse> handleHttpMediaTypeNotSupportedException(
-      HttpServletRequest request,
-      HttpMediaTypeNotSupportedException e) {
-    log.error("handleHttpMediaTypeNotSupportedException : {}", e);
-    return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(
-        ErrorResponse.builder()
-            .statusCode(ResponseCode.HTTP_MEDIA_TYPE_NOT_SUPPORTED.getCode())
-            .method(request.getMethod())
-            .path(request.getRequestURI())
-            .build()
-    );
+  static String constraintViolationMessage(ConstraintViolationException e) {
+    return RequestValidator.violationMessage(e.getConstraintViolations());
   }
 
   /**
    * Camal Case를 Snake Case로 변환
    */
   public static String camelToSnake(String str) {
-
-    StringBuilder sb = new StringBuilder();
-
-    char c = str.charAt(0);
-    sb.append(Character.toLowerCase(c));
-
-    for (int i = 1; i < str.length(); i++) {
-      char ch = str.charAt(i);
-      if (Character.isUpperCase(ch)) {
-        sb.append('_');
-      }
-      sb.append(Character.toLowerCase(ch));
-    }
-
-    return sb.toString();
+    return SnakeCaseConverter.toSnakeCase(str);
   }
-}
\ No newline at end of file
+}
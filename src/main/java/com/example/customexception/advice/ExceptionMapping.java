@@ -0,0 +1,144 @@
+package com.example.customexception.advice;
+
+import com.example.customexception.constant.ErrorCode;
+import java.util.function.Function;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 예외 타입별 에러 코드, HTTP 상태, 로그 여부, 메시지 추출 방법
+ */
+@Getter
+public final class ExceptionMapping {
+
+  private final Class<? extends Throwable> exceptionType;
+
+  /**
+   * 로그, 처리 시간 기록에 사용할 이름
+   */
+  private final String handler;
+
+  private final ErrorCode errorCode;
+  private final Function<Throwable, ErrorCode> errorCodeExtractor;
+
+  /**
+   * null이면 httpStatusResolver, 없으면 에러 코드의 HTTP 상태
+   */
+  private final HttpStatus httpStatus;
+  private final Function<ErrorCode, HttpStatus> httpStatusResolver;
+
+  private final boolean logged;
+
+  /**
+   * cause로 감싸인 경우에도 적용 (매핑되지 않은 예외의 cause 체인에서 탐색)
+   */
+  private final boolean unwrap;
+
+  private final Function<Throwable, String> messageExtractor;
+
+  private ExceptionMapping(Builder<?> builder) {
+    this.exceptionType = builder.exceptionType;
+    this.handler = builder.handler != null
+        ? builder.handler : "handle" + builder.exceptionType.getSimpleName();
+    this.errorCode = builder.errorCode;
+    this.errorCodeExtractor = builder.errorCodeExtractor;
+    this.httpStatus = builder.httpStatus;
+    this.httpStatusResolver = builder.httpStatusResolver;
+    this.logged = builder.logged;
+    this.unwrap = builder.unwrap;
+    this.messageExtractor = builder.messageExtractor;
+  }
+
+  public static <E extends Throwable> Builder<E> builder(
+      Class<E> exceptionType, ErrorCode errorCode) {
+    return new Builder<>(exceptionType, errorCode);
+  }
+
+  /**
+   * 예외의 에러 코드 (errorCodeExtractor가 null을 반환하면 errorCode)
+   */
+  public ErrorCode errorCodeOf(Throwable e) {
+    if (errorCodeExtractor != null) {
+      ErrorCode extracted = errorCodeExtractor.apply(e);
+      if (extracted != null) {
+        return extracted;
+      }
+    }
+    return errorCode;
+  }
+
+  public HttpStatus httpStatusOf(ErrorCode responseCode) {
+    if (httpStatus != null) {
+      return httpStatus;
+    }
+    return httpStatusResolver != null
+        ? httpStatusResolver.apply(responseCode) : responseCode.getHttpStatus();
+  }
+
+  /**
+   * 예외 메시지 (추출 방법이 없으면 null - 에러 코드 메시지 사용)
+   */
+  public String messageOf(Throwable e) {
+    return messageExtractor != null ? messageExtractor.apply(e) : null;
+  }
+
+  public static final class Builder<E extends Throwable> {
+
+    private final Class<E> exceptionType;
+    private final ErrorCode errorCode;
+    private String handler;
+    private Function<Throwable, ErrorCode> errorCodeExtractor;
+    private HttpStatus httpStatus;
+    private Function<ErrorCode, HttpStatus> httpStatusResolver;
+    private boolean logged = true;
+    private boolean unwrap;
+    private Function<Throwable, String> messageExtractor;
+
+    private Builder(Class<E> exceptionType, ErrorCode errorCode) {
+      this.exceptionType = exceptionType;
+      this.errorCode = errorCode;
+    }
+
+    public Builder<E> handler(String handler) {
+      this.handler = handler;
+      return this;
+    }
+
+    public Builder<E> errorCode(Function<? super E, ErrorCode> errorCodeExtractor) {
+      this.errorCodeExtractor = e -> errorCodeExtractor.apply(exceptionType.cast(e));
+      return this;
+    }
+
+    public Builder<E> httpStatus(HttpStatus httpStatus) {
+      this.httpStatus = httpStatus;
+      return this;
+    }
+
+    /**
+     * 에러 코드별 HTTP 상태 (고정 httpStatus가 없을 때 사용)
+     */
+    public Builder<E> httpStatus(Function<ErrorCode, HttpStatus> httpStatusResolver) {
+      this.httpStatusResolver = httpStatusResolver;
+      return this;
+    }
+
+    public Builder<E> logged(boolean logged) {
+      this.logged = logged;
+      return this;
+    }
+
+    public Builder<E> unwrap(boolean unwrap) {
+      this.unwrap = unwrap;
+      return this;
+    }
+
+    public Builder<E> message(Function<? super E, String> messageExtractor) {
+      this.messageExtractor = e -> messageExtractor.apply(exceptionType.cast(e));
+      return this;
+    }
+
+    public ExceptionMapping build() {
+      return new ExceptionMapping(this);
+    }
+  }
+}
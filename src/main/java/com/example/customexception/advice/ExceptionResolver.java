@@ -0,0 +1,173 @@
+package com.example.customexception.advice;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.exception.ErrorException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.validation.ConstraintViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+/**
+ * 예외 타입으로 ExceptionMapping 조회
+ *
+ * <p>예외 클래스별로 상위 클래스를 한 번만 탐색해 가장 가까운 매핑을 ClassValue에 저장하므로 이후 조회는 클래스당 캐시 조회
+ * 한 번이다. Exception 매핑만 적용되는 예외는 cause 체인에서 unwrap 매핑(ErrorException 등)을 찾아 그 예외로 처리한다.
+ */
+public class ExceptionResolver {
+
+  private final Map<Class<? extends Throwable>, ExceptionMapping> mappings;
+  private final ExceptionMapping fallback;
+  private final int maxCauseDepth;
+
+  private final ClassValue<ExceptionMapping> byClass = new ClassValue<>() {
+    @Override
+    protected ExceptionMapping computeValue(Class<?> type) {
+      for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+        ExceptionMapping mapping = mappings.get(current);
+        if (mapping != null) {
+          return mapping;
+        }
+      }
+      return fallback;
+    }
+  };
+
+  /**
+   * 기본 매핑만 등록
+   */
+  public ExceptionResolver() {
+    this(Collections.emptyList(), 8);
+  }
+
+  /**
+   * 기본 매핑과 추가 매핑 등록 (같은 예외 타입은 추가 매핑 우선)
+   */
+  public ExceptionResolver(List<ExceptionMapping> additionalMappings, int maxCauseDepth) {
+    Map<Class<? extends Throwable>, ExceptionMapping> registered = new LinkedHashMap<>();
+    for (ExceptionMapping mapping : defaultMappings()) {
+      registered.put(mapping.getExceptionType(), mapping);
+    }
+    for (ExceptionMapping mapping : additionalMappings) {
+      registered.put(mapping.getExceptionType(), mapping);
+    }
+    this.mappings = registered;
+    this.fallback = registered.get(Exception.class);
+    this.maxCauseDepth = maxCauseDepth;
+  }
+
+  /**
+   * 예외 클래스에 적용할 매핑 (없으면 Exception 매핑)
+   */
+  public ExceptionMapping mappingOf(Class<? extends Throwable> type) {
+    return byClass.get(type);
+  }
+
+  /**
+   * 처리할 예외 - Exception 매핑만 적용되면 cause 체인(최대 maxCauseDepth)에서 unwrap 매핑이 있는 첫 예외, 없으면 그대로
+   */
+  public Throwable unwrap(Throwable e) {
+    if (mappingOf(e.getClass()) != fallback) {
+      return e;
+    }
+    Throwable cause = e.getCause();
+    for (int depth = 0; cause != null && cause != e && depth < maxCauseDepth; depth++) {
+      if (mappingOf(cause.getClass()).isUnwrap()) {
+        return cause;
+      }
+      cause = cause.getCause();
+    }
+    return e;
+  }
+
+  /**
+   * 기본 매핑을 추가한 resolver (같은 예외 타입은 이 resolver의 매핑 우선)
+   */
+  public ExceptionResolver withDefaults(List<ExceptionMapping> defaults) {
+    List<ExceptionMapping> registered = new ArrayList<>(defaults);
+    registered.addAll(mappings.values());
+    return new ExceptionResolver(registered, maxCauseDepth);
+  }
+
+  public List<ExceptionMapping> getMappings() {
+    return List.copyOf(mappings.values());
+  }
+
+  /**
+   * ErrorException HTTP 상태 - ResponseCode는 항상 400, 설정 파일에서 등록한 코드는 코드의 HTTP 상태
+   */
+  static HttpStatus errorExceptionStatus(ErrorCode responseCode) {
+    return responseCode instanceof ResponseCode
+        ? HttpStatus.BAD_REQUEST : responseCode.getHttpStatus();
+  }
+
+  /**
+   * 기본 매핑 (Spring MVC 예외, ErrorException, Exception)
+   */
+  public static List<ExceptionMapping> defaultMappings() {
+    return Arrays.asList(
+        ExceptionMapping.builder(Exception.class, ResponseCode.INTERNAL_SERVER_ERROR)
+            .handler("handleException")
+            .httpStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+            .build(),
+        ExceptionMapping.builder(ErrorException.class, ResponseCode.CUSTOM_EXCEPTION)
+            .handler("handleRtaException")
+            .errorCode(ErrorException::getResponseCode)
+            .httpStatus(ExceptionResolver::errorExceptionStatus)
+            .unwrap(true)
+            .message(ExceptionAspect::errorExceptionMessage)
+            .build(),
+        ExceptionMapping.builder(
+                MethodArgumentNotValidException.class, ResponseCode.METHOD_ARGUMENT_NOT_VALID)
+            .handler("handleMethodArgumentNotValidException")
+            .httpStatus(HttpStatus.BAD_REQUEST)
+            .message(ExceptionAspect::bindingResultMessage)
+            .build(),
+        ExceptionMapping.builder(MissingServletRequestParameterException.class,
+                ResponseCode.MISSING_SERVLET_REQUEST_PARAMETER)
+            .handler("handleMissingServletRequestParameterException")
+            .httpStatus(HttpStatus.BAD_REQUEST)
+            .build(),
+        ExceptionMapping.builder(
+                ConstraintViolationException.class, ResponseCode.CONSTRAINT_VIOLATION)
+            .handler("handleConstraintViolationException")
+            .httpStatus(HttpStatus.BAD_REQUEST)
+            .message(ExceptionAspect::constraintViolationMessage)
+            .build(),
+        ExceptionMapping.builder(MethodArgumentTypeMismatchException.class,
+                ResponseCode.METHOD_ARGUMENT_TYPE_MISMATCH)
+            .handler("handleMethodArgumentTypeMismatchException")
+            .httpStatus(HttpStatus.BAD_REQUEST)
+            .build(),
+        ExceptionMapping.builder(HttpMessageNotReadableException.class,
+                ResponseCode.HTTP_MESSAGE_NOT_READABLE_EXCEPTION)
+            .handler("handleHttpMessageNotReadableException")
+            .httpStatus(HttpStatus.BAD_REQUEST)
+            .build(),
+        ExceptionMapping.builder(NoHandlerFoundException.class, ResponseCode.NO_HANDLER_FOUND)
+            .handler("handleNoHandlerFoundException")
+            .httpStatus(HttpStatus.NOT_FOUND)
+            .build(),
+        ExceptionMapping.builder(HttpRequestMethodNotSupportedException.class,
+                ResponseCode.HTTP_REQUEST_METHOD_NOT_SUPPORTED)
+            .handler("handleHttpRequestMethodNotSupportedException")
+            .httpStatus(HttpStatus.METHOD_NOT_ALLOWED)
+            .build(),
+        ExceptionMapping.builder(HttpMediaTypeNotSupportedException.class,
+                ResponseCode.HTTP_MEDIA_TYPE_NOT_SUPPORTED)
+            .handler("handleHttpMediaTypeNotSupportedException")
+            .httpStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+            .build());
+  }
+}
@@ -0,0 +1,173 @@
+package com.example.customexception.advice;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.logging.ExceptionLogger;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.ErrorResponse;
+import com.example.customexception.response.ErrorResponseEncoder;
+import com.example.customexception.response.TimestampProvider;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux 애플리케이션용 ExceptionAspect
+ *
+ * <p>ExceptionResolver 매핑으로 ExceptionAspect와 같은 에러 코드, HTTP 상태, ErrorResponse 본문을
+ * 반환한다. 본문은 ErrorResponseEncoder로 응답의 DataBufferFactory가 할당한 버퍼에 바로 인코딩하며, 블로킹 호출이 없다.
+ * Spring Boot 기본 ErrorWebExceptionHandler(-1)보다 먼저 실행된다.
+ */
+@Component
+@Order(-2)
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveExceptionHandler implements WebExceptionHandler {
+
+  private final TimestampProvider timestampProvider;
+  private final ErrorMessages errorMessages;
+  private final ErrorResponseEncoder errorResponseEncoder;
+  private final ExceptionLogger exceptionLogger;
+  private final ErrorMetrics errorMetrics;
+  private final ExceptionResolver exceptionResolver;
+
+  /**
+   * exceptionResolver의 매핑(기본, 설정 매핑)에 WebFlux 예외 매핑을 더해 사용
+   */
+  public ReactiveExceptionHandler(
+      TimestampProvider timestampProvider,
+      ErrorMessages errorMessages,
+      ErrorResponseEncoder errorResponseEncoder,
+      ExceptionLogger exceptionLogger,
+      ErrorMetrics errorMetrics,
+      ExceptionResolver exceptionResolver) {
+    this.timestampProvider = timestampProvider;
+    this.errorMessages = errorMessages;
+    this.errorResponseEncoder = errorResponseEncoder;
+    this.exceptionLogger = exceptionLogger;
+    this.errorMetrics = errorMetrics;
+    this.exceptionResolver = exceptionResolver.withDefaults(reactiveMappings());
+  }
+
+  @Override
+  public Mono<Void> handle(ServerWebExchange exchange, Throwable e) {
+    if (exchange.getResponse().isCommitted()) {
+      return Mono.error(e);
+    }
+    long startNanos = System.nanoTime();
+
+    Throwable resolved = exceptionResolver.unwrap(e);
+    ExceptionMapping mapping = exceptionResolver.mappingOf(resolved.getClass());
+    ErrorCode responseCode = mapping.errorCodeOf(resolved);
+    HttpStatus httpStatus = mapping.httpStatusOf(responseCode);
+
+    if (mapping.isLogged()) {
+      exceptionLogger.log(mapping.getHandler(), responseCode, e);
+    }
+    return respond(mapping.getHandler(), exchange, responseCode, httpStatus,
+        mapping.messageOf(resolved), startNanos);
+  }
+
+  /**
+   * WebFlux 예외 매핑 (Spring MVC 예외 매핑과 같은 에러 코드, HTTP 상태)
+   */
+  static List<ExceptionMapping> reactiveMappings() {
+    return Arrays.asList(
+        ExceptionMapping.builder(
+                WebExchangeBindException.class, ResponseCode.METHOD_ARGUMENT_NOT_VALID)
+            .handler("handleWebExchangeBindException")
+            .httpStatus(HttpStatus.BAD_REQUEST)
+            .message(ExceptionAspect::bindingResultMessage)
+            .build(),
+        ExceptionMapping.builder(ServerWebInputException.class,
+                ResponseCode.HTTP_MESSAGE_NOT_READABLE_EXCEPTION)
+            .handler("handleServerWebInputException")
+            .errorCode(ReactiveExceptionHandler::inputErrorCode)
+            .httpStatus(HttpStatus.BAD_REQUEST)
+            .build(),
+        ExceptionMapping.builder(MethodNotAllowedException.class,
+                ResponseCode.HTTP_REQUEST_METHOD_NOT_SUPPORTED)
+            .handler("handleMethodNotAllowedException")
+            .httpStatus(HttpStatus.METHOD_NOT_ALLOWED)
+            .build(),
+        ExceptionMapping.builder(UnsupportedMediaTypeStatusException.class,
+                ResponseCode.HTTP_MEDIA_TYPE_NOT_SUPPORTED)
+            .handler("handleUnsupportedMediaTypeStatusException")
+            .httpStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+            .build(),
+        ExceptionMapping.builder(
+                ResponseStatusException.class, ResponseCode.INTERNAL_SERVER_ERROR)
+            .handler("handleResponseStatusException")
+            .errorCode(e -> e.getStatus() == HttpStatus.NOT_FOUND
+                ? ResponseCode.NO_HANDLER_FOUND : null)
+            .build());
+  }
+
+  /**
+   * ServerWebInputException 에러 코드 (타입 불일치, 필수 값 누락, 본문 읽기 실패)
+   */
+  private static ErrorCode inputErrorCode(ServerWebInputException e) {
+    if (e.getCause() instanceof TypeMismatchException) {
+      return ResponseCode.METHOD_ARGUMENT_TYPE_MISMATCH;
+    }
+    MethodParameter methodParameter = e.getMethodParameter();
+    if (e.getCause() == null && methodParameter != null
+        && !methodParameter.hasParameterAnnotation(RequestBody.class)) {
+      return ResponseCode.MISSING_SERVLET_REQUEST_PARAMETER;
+    }
+    return ResponseCode.HTTP_MESSAGE_NOT_READABLE_EXCEPTION;
+  }
+
+  /**
+   * ErrorResponse 인코딩 및 처리 시간 기록
+   *
+   * <p>message가 비어 있으면 요청 Locale의 에러 코드 메시지를 사용한다.
+   */
+  private Mono<Void> respond(
+      String handler,
+      ServerWebExchange exchange,
+      ErrorCode responseCode,
+      HttpStatus httpStatus,
+      String message,
+      long startNanos) {
+    if (ObjectUtils.isEmpty(message)) {
+      message = errorMessages.messageOf(responseCode, exchange.getLocaleContext().getLocale());
+    }
+    ServerHttpRequest request = exchange.getRequest();
+    ErrorResponse errorResponse = ErrorResponse.builder()
+        .statusCode(responseCode.getCode())
+        .message(message)
+        .method(request.getMethodValue())
+        .path(request.getPath().value())
+        .timestamp(timestampProvider.now())
+        .build();
+
+    ServerHttpResponse response = exchange.getResponse();
+    response.setStatusCode(httpStatus);
+    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+    DataBuffer body = errorResponseEncoder.encode(response.bufferFactory(), errorResponse);
+
+    errorMetrics.record(handler, responseCode, httpStatus, System.nanoTime() - startNanos);
+    return response.writeWith(Mono.just(body));
+  }
+}
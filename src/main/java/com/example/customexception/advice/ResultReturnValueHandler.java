@@ -0,0 +1,46 @@
+package com.example.customexception.advice;
+
+import com.example.customexception.exception.Result;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 컨트롤러가 반환한 Result 응답
+ *
+ * <p>성공은 값을 200 본문으로, 에러는 ExceptionAspect.handleResult의 ErrorResponse로 변환한 뒤 ResponseEntity
+ * 처리기(delegate)에 넘긴다. @RestController의 @ResponseBody 처리기보다 먼저 등록해야 한다.
+ */
+@RequiredArgsConstructor
+public class ResultReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+  private final ExceptionAspect exceptionAspect;
+  private final HandlerMethodReturnValueHandler delegate;
+
+  @Override
+  public boolean supportsReturnType(MethodParameter returnType) {
+    return Result.class.isAssignableFrom(returnType.getParameterType());
+  }
+
+  @Override
+  public void handleReturnValue(
+      Object returnValue,
+      MethodParameter returnType,
+      ModelAndViewContainer mavContainer,
+      NativeWebRequest webRequest) throws Exception {
+    Result<?> result = (Result<?>) returnValue;
+    ResponseEntity<?> responseEntity;
+    if (result == null || result.isOk()) {
+      Object value = result != null ? result.getValue() : null;
+      responseEntity = value != null ? ResponseEntity.ok(value) : ResponseEntity.ok().build();
+    } else {
+      responseEntity = exceptionAspect.handleResult(
+          webRequest.getNativeRequest(HttpServletRequest.class), result);
+    }
+    delegate.handleReturnValue(responseEntity, returnType, mavContainer, webRequest);
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.customexception.config;
+
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.TimestampProvider;
+import com.example.customexception.validation.BatchValidator;
+import com.example.customexception.validation.NdjsonBatchValidator;
+import com.example.customexception.validation.RequestValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(BatchValidationProperties.class)
+public class BatchValidationConfig {
+
+  @Bean(destroyMethod = "close")
+  public BatchValidator batchValidator(
+      RequestValidator requestValidator,
+      BatchValidationProperties batchValidationProperties) {
+    return new BatchValidator(
+        requestValidator,
+        batchValidationProperties.getParallelism(),
+        batchValidationProperties.getChunkSize());
+  }
+
+  @Bean
+  public NdjsonBatchValidator ndjsonBatchValidator(
+      RequestValidator requestValidator,
+      ObjectMapper objectMapper,
+      ErrorMessages errorMessages,
+      TimestampProvider timestampProvider,
+      BatchValidationProperties batchValidationProperties) {
+    return new NdjsonBatchValidator(
+        requestValidator,
+        objectMapper,
+        errorMessages,
+        timestampProvider,
+        Math.toIntExact(batchValidationProperties.getMaxLineLength().toBytes()));
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.customexception.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.batch-validation")
+public class BatchValidationProperties {
+
+  /**
+   * 검증 스레드 수 (기본값 CPU 코어 수)
+   */
+  private int parallelism = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * 한 작업이 검증할 최대 요청 수 (이하이면 호출 스레드에서 검증)
+   */
+  private int chunkSize = 256;
+
+  /**
+   * 한 번에 검증할 수 있는 최대 요청 수 (초과 시 INVALID_REQUEST)
+   */
+  private int maxItems = 10_000;
+
+  /**
+   * NDJSON 스트리밍 검증의 최대 줄 길이 (초과한 줄은 INVALID_REQUEST)
+   */
+  private DataSize maxLineLength = DataSize.ofKilobytes(64);
+}
@@ -0,0 +1,23 @@
+package com.example.customexception.config;
+
+import com.example.customexception.exception.StackTracePolicy;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(StackTraceProperties.class)
+public class ErrorExceptionConfig {
+
+  private final StackTraceProperties stackTraceProperties;
+
+  /**
+   * ErrorException 스택 트레이스 정책 적용
+   */
+  @PostConstruct
+  public void applyStackTracePolicy() {
+    StackTracePolicy.configure(stackTraceProperties.getStacklessCodes());
+  }
+}
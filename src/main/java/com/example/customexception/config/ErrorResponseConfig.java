@@ -0,0 +1,63 @@
+package com.example.customexception.config;
+
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.ErrorResponseEncoder;
+import com.example.customexception.response.ErrorResponseHttpMessageConverter;
+import com.example.customexception.response.TimestampProvider;
+import java.time.Clock;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties({ResponseProperties.class, TimestampProperties.class})
+public class ErrorResponseConfig {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public Clock clock() {
+    return Clock.systemDefaultZone();
+  }
+
+  /**
+   * ErrorResponse timestamp provider (ErrorResponse 기본값에도 적용)
+   */
+  @Bean
+  public TimestampProvider timestampProvider(
+      Clock clock,
+      TimestampProperties timestampProperties) {
+    TimestampProvider timestampProvider = new TimestampProvider(
+        clock, timestampProperties.getPattern(), timestampProperties.getResolution());
+    TimestampProvider.setDefault(timestampProvider);
+    return timestampProvider;
+  }
+
+  @Bean
+  public ErrorResponseEncoder errorResponseEncoder(
+      ResponseCodeRegistry responseCodeRegistry,
+      ErrorMessages errorMessages) {
+    return new ErrorResponseEncoder(responseCodeRegistry, errorMessages);
+  }
+
+  /**
+   * ErrorResponse 전용 HttpMessageConverter를 Jackson보다 먼저 등록
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "custom-exception.response", name = "pre-encoded",
+      havingValue = "true")
+  public WebMvcConfigurer errorResponseMessageConverterConfigurer(
+      ErrorResponseEncoder errorResponseEncoder) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ErrorResponseHttpMessageConverter(errorResponseEncoder));
+      }
+    };
+  }
+}
@@ -0,0 +1,44 @@
+package com.example.customexception.config;
+
+import com.example.customexception.advice.ExceptionMapping;
+import com.example.customexception.advice.ExceptionResolver;
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ExceptionMappingProperties.class)
+public class ExceptionMappingConfig {
+
+  /**
+   * 기본 매핑, ExceptionMapping 빈, 설정된 예외 매핑 순으로 등록 (등록되지 않은 에러 코드는 시작 시 실패)
+   */
+  @Bean
+  public ExceptionResolver exceptionResolver(
+      ExceptionMappingProperties exceptionMappingProperties,
+      ResponseCodeRegistry responseCodeRegistry,
+      ObjectProvider<ExceptionMapping> exceptionMappings) {
+    List<ExceptionMapping> mappings = new ArrayList<>();
+    exceptionMappings.orderedStream().forEach(mappings::add);
+    for (ExceptionMappingProperties.Mapping mapping
+        : exceptionMappingProperties.getMappings()) {
+      ErrorCode errorCode = responseCodeRegistry.find(mapping.getCode());
+      if (mapping.getExceptionType() == null || errorCode == null) {
+        throw new IllegalStateException("Invalid exception mapping : "
+            + mapping.getExceptionType() + " -> " + mapping.getCode());
+      }
+      mappings.add(ExceptionMapping.builder(mapping.getExceptionType(), errorCode)
+          .handler(mapping.getHandler())
+          .httpStatus(mapping.getHttpStatus())
+          .logged(mapping.isLogged())
+          .unwrap(mapping.isUnwrap())
+          .build());
+    }
+    return new ExceptionResolver(mappings, exceptionMappingProperties.getMaxCauseDepth());
+  }
+}
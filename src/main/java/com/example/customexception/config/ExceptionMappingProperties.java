@@ -0,0 +1,56 @@
+package com.example.customexception.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.exception-mapping")
+public class ExceptionMappingProperties {
+
+  /**
+   * 매핑되지 않은 예외에서 unwrap 매핑을 찾을 최대 cause 깊이
+   */
+  private int maxCauseDepth = 8;
+
+  /**
+   * 기본 매핑 외에 추가할 예외 매핑 (같은 예외 타입은 기본 매핑 대체)
+   */
+  private List<Mapping> mappings = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class Mapping {
+
+    private Class<? extends Throwable> exceptionType;
+
+    /**
+     * 에러 코드 (ResponseCodeRegistry에 등록된 숫자 코드)
+     */
+    private String code;
+
+    /**
+     * 없으면 에러 코드의 HTTP 상태
+     */
+    private HttpStatus httpStatus;
+
+    /**
+     * 로그, 처리 시간 기록에 사용할 이름 (없으면 handle + 예외 클래스 이름)
+     */
+    private String handler;
+
+    /**
+     * 로그 출력 (로그 레벨은 에러 코드별 정책)
+     */
+    private boolean logged = true;
+
+    /**
+     * 다른 예외의 cause로 감싸인 경우에도 적용
+     */
+    private boolean unwrap;
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.customexception.config;
+
+import com.example.customexception.metrics.HeavyHitters;
+import java.time.Clock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HeavyHittersProperties.class)
+public class HeavyHittersConfig {
+
+  @Bean
+  public HeavyHitters heavyHitters(Clock clock, HeavyHittersProperties heavyHittersProperties) {
+    return new HeavyHitters(
+        heavyHittersProperties.isEnabled(),
+        clock,
+        heavyHittersProperties.getTopK(),
+        heavyHittersProperties.getDepth(),
+        heavyHittersProperties.getWidth(),
+        heavyHittersProperties.getDecayInterval().toMillis());
+  }
+}
@@ -0,0 +1,37 @@
+package com.example.customexception.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.heavy-hitters")
+public class HeavyHittersProperties {
+
+  /**
+   * 에러가 많은 경로, 에러 코드, 클라이언트 IP 추적
+   */
+  private boolean enabled = true;
+
+  /**
+   * 항목별 추적할 상위 key 수
+   */
+  private int topK = 20;
+
+  /**
+   * count-min sketch 행 수 (클수록 과대 추정 확률 감소)
+   */
+  private int depth = 4;
+
+  /**
+   * count-min sketch 열 수 (2의 거듭제곱으로 올림, 클수록 과대 추정량 감소)
+   */
+  private int width = 2048;
+
+  /**
+   * 카운터를 절반으로 줄이는 주기
+   */
+  private Duration decayInterval = Duration.ofSeconds(60);
+}
@@ -0,0 +1,67 @@
+package com.example.customexception.config;
+
+import com.example.customexception.advice.ExceptionMapping;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.idempotency.IdempotencyInterceptor;
+import com.example.customexception.idempotency.IdempotencyKeyStore;
+import com.example.customexception.idempotency.IdempotencyKeyStoreFullException;
+import java.time.Clock;
+import java.util.EnumSet;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "custom-exception.idempotency", name = "enabled",
+    havingValue = "true")
+public class IdempotencyConfig {
+
+  @Bean
+  public IdempotencyKeyStore idempotencyKeyStore(
+      Clock clock,
+      IdempotencyProperties idempotencyProperties) {
+    return new IdempotencyKeyStore(
+        clock,
+        idempotencyProperties.getTtl().toMillis(),
+        idempotencyProperties.getMaxKeys(),
+        idempotencyProperties.getStripes());
+  }
+
+  /**
+   * 저장소가 가득 찬 경우 503 응답 (부하 상황이므로 로그 제외)
+   */
+  @Bean
+  public ExceptionMapping idempotencyKeyStoreFullMapping() {
+    return ExceptionMapping.builder(
+            IdempotencyKeyStoreFullException.class, ResponseCode.SERVICE_UNAVAILABLE)
+        .httpStatus(HttpStatus.SERVICE_UNAVAILABLE)
+        .logged(false)
+        .build();
+  }
+
+  @Bean
+  public WebMvcConfigurer idempotencyInterceptorConfigurer(
+      IdempotencyKeyStore idempotencyKeyStore,
+      IdempotencyProperties idempotencyProperties) {
+    Set<HttpMethod> methods = EnumSet.noneOf(HttpMethod.class);
+    methods.addAll(idempotencyProperties.getMethods());
+    IdempotencyInterceptor idempotencyInterceptor = new IdempotencyInterceptor(
+        idempotencyKeyStore,
+        idempotencyProperties.getHeaderName(),
+        methods,
+        idempotencyProperties.getMaxKeyLength());
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(idempotencyInterceptor);
+      }
+    };
+  }
+}
@@ -0,0 +1,45 @@
+package com.example.customexception.config;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpMethod;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.idempotency")
+public class IdempotencyProperties {
+
+  /**
+   * Idempotency-Key 중복 요청 거부
+   */
+  private boolean enabled = false;
+
+  private String headerName = "Idempotency-Key";
+
+  /**
+   * 중복 요청을 거부할 HTTP 메서드
+   */
+  private Set<HttpMethod> methods =
+      EnumSet.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+  /**
+   * 처리 중, 처리 완료 키 보관 시간
+   */
+  private Duration ttl = Duration.ofHours(1);
+
+  /**
+   * 보관할 최대 키 수 (초과 시 오래된 키부터 제거)
+   */
+  private int maxKeys = 100_000;
+
+  /**
+   * 저장소 lock stripe 수 (2의 거듭제곱으로 올림)
+   */
+  private int stripes = 16;
+
+  private int maxKeyLength = 255;
+}
@@ -0,0 +1,21 @@
+package com.example.customexception.config;
+
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.jfr.ErrorEvents;
+import com.example.customexception.metrics.ErrorMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+public class JfrConfig {
+
+  @Bean(destroyMethod = "close")
+  public ErrorEvents errorEvents(
+      JfrProperties jfrProperties,
+      ErrorMetrics errorMetrics,
+      ResponseCodeRegistry responseCodeRegistry) {
+    return new ErrorEvents(jfrProperties.isEnabled(), errorMetrics, responseCodeRegistry);
+  }
+}
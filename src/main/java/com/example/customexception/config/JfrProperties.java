@@ -0,0 +1,16 @@
+package com.example.customexception.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.jfr")
+public class JfrProperties {
+
+  /**
+   * JFR 에러 이벤트 등록 (기록 여부와 주기는 JFR 설정, 에러 코드별 건수는 metrics 활성화 필요)
+   */
+  private boolean enabled = true;
+}
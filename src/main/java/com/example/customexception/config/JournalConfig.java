@@ -0,0 +1,21 @@
+package com.example.customexception.config;
+
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.journal.ErrorJournal;
+import java.time.Clock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(JournalProperties.class)
+public class JournalConfig {
+
+  @Bean(destroyMethod = "close")
+  public ErrorJournal errorJournal(
+      JournalProperties journalProperties,
+      Clock clock,
+      ResponseCodeRegistry responseCodeRegistry) {
+    return new ErrorJournal(journalProperties, clock, responseCodeRegistry);
+  }
+}
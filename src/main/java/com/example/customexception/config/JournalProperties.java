@@ -0,0 +1,66 @@
+package com.example.customexception.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.journal")
+public class JournalProperties {
+
+  /**
+   * 처리한 에러를 바이너리 journal 파일에 기록
+   */
+  private boolean enabled = false;
+
+  /**
+   * segment 파일 디렉터리
+   */
+  private String directory = "journal";
+
+  /**
+   * segment 파일 크기 (가득 차면 새 segment로 교체)
+   */
+  private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+  /**
+   * segment 교체 주기
+   */
+  private Duration rotateInterval = Duration.ofHours(1);
+
+  /**
+   * 디스크 동기화 시점
+   */
+  private Fsync fsync = Fsync.ROTATE;
+
+  /**
+   * 보관할 최대 segment 수 (초과 시 오래된 segment부터 삭제)
+   */
+  private int maxSegments = 24;
+
+  /**
+   * segment별 method, path, 예외 클래스 이름 사전의 최대 크기 (초과한 문자열은 "?"로 기록)
+   */
+  private int maxStrings = 10_000;
+
+  public enum Fsync {
+
+    /**
+     * 운영체제에 맡김
+     */
+    NONE,
+
+    /**
+     * segment 교체 및 종료 시
+     */
+    ROTATE,
+
+    /**
+     * 기록마다
+     */
+    ALWAYS
+  }
+}
@@ -0,0 +1,86 @@
+package com.example.customexception.config;
+
+import com.example.customexception.filter.LoadSheddingFilter;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.ErrorResponseEncoder;
+import com.example.customexception.response.TimestampProvider;
+import java.time.Clock;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletRegistrationBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.LocaleResolver;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+@ConditionalOnProperty(prefix = "custom-exception.load-shedding", name = "enabled",
+    havingValue = "true")
+public class LoadSheddingConfig {
+
+  /**
+   * RequestContextFilter(-105) 이후, DispatcherServlet 이전
+   */
+  private static final int FILTER_ORDER = -100;
+
+  @Bean
+  public LoadSheddingFilter loadSheddingFilter(
+      LoadSheddingProperties loadSheddingProperties,
+      Clock clock,
+      ErrorResponseEncoder errorResponseEncoder,
+      ErrorMessages errorMessages,
+      TimestampProvider timestampProvider,
+      LocaleResolver localeResolver,
+      ErrorMetrics errorMetrics) {
+    return new LoadSheddingFilter(
+        loadSheddingProperties,
+        clock,
+        errorResponseEncoder,
+        errorMessages,
+        timestampProvider,
+        localeResolver,
+        errorMetrics);
+  }
+
+  /**
+   * DispatcherServlet 요청에만 적용
+   */
+  @Bean
+  public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilterRegistration(
+      LoadSheddingFilter loadSheddingFilter,
+      DispatcherServletRegistrationBean dispatcherServletRegistration) {
+    FilterRegistrationBean<LoadSheddingFilter> registration =
+        new FilterRegistrationBean<>(loadSheddingFilter, dispatcherServletRegistration);
+    registration.setOrder(FILTER_ORDER);
+    return registration;
+  }
+
+  /**
+   * DispatcherServlet이 사용하는 모든 HandlerMapping의 경로 패턴으로 라우트 생성
+   */
+  @Bean
+  public SmartInitializingSingleton loadSheddingRouteCompiler(
+      LoadSheddingFilter loadSheddingFilter,
+      ApplicationContext applicationContext) {
+    return () -> {
+      Map<String, HandlerMapping> handlerMappings =
+          BeanFactoryUtils.beansOfTypeIncludingAncestors(
+              applicationContext, HandlerMapping.class, true, false);
+      if (loadSheddingFilter.compile(handlerMappings.values())) {
+        log.info("LoadSheddingFilter compiled : {}", handlerMappings.keySet());
+      } else {
+        log.warn("LoadSheddingFilter disabled (unsupported HandlerMapping) : {}",
+            handlerMappings.keySet());
+      }
+    };
+  }
+}
@@ -0,0 +1,57 @@
+package com.example.customexception.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.load-shedding")
+public class LoadSheddingProperties {
+
+  /**
+   * 라우트별 에러율 기반 요청 차단
+   */
+  private boolean enabled = false;
+
+  /**
+   * 에러율 계산 윈도우
+   */
+  private Duration window = Duration.ofSeconds(10);
+
+  /**
+   * 윈도우를 나누는 bucket 수
+   */
+  private int buckets = 10;
+
+  /**
+   * 차단 판단에 필요한 윈도우 내 최소 요청 수
+   */
+  private int minimumRequests = 20;
+
+  /**
+   * 차단 에러율 (0.0 ~ 1.0)
+   */
+  private double errorRateThreshold = 0.5;
+
+  /**
+   * 에러로 집계할 최소 HTTP 상태
+   */
+  private int errorStatus = 500;
+
+  /**
+   * 차단 유지 시간 (이후 HALF_OPEN)
+   */
+  private Duration openDuration = Duration.ofSeconds(5);
+
+  /**
+   * HALF_OPEN 상태에서 허용할 probe 요청 수 (모두 성공하면 CLOSED)
+   */
+  private int halfOpenProbes = 3;
+
+  /**
+   * 추적할 최대 라우트 수 (도달하면 유휴 라우트를 제거하고, 초과 라우트는 차단하지 않음)
+   */
+  private int maxRoutes = 1_024;
+}
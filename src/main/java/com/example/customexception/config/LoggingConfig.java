@@ -0,0 +1,35 @@
+package com.example.customexception.config;
+
+import com.example.customexception.logging.ExceptionLogger;
+import java.time.Clock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(LoggingProperties.class)
+public class LoggingConfig {
+
+  @Bean
+  public ExceptionLogger exceptionLogger(Clock clock, LoggingProperties loggingProperties) {
+    return new ExceptionLogger(clock, loggingProperties);
+  }
+
+  /**
+   * window 주기로 생략된 예외 요약 출력
+   */
+  @Bean
+  public SchedulingConfigurer exceptionLoggerSummaryScheduler(
+      ExceptionLogger exceptionLogger,
+      LoggingProperties loggingProperties) {
+    return taskRegistrar -> {
+      if (loggingProperties.isSampled()) {
+        taskRegistrar.addFixedDelayTask(
+            exceptionLogger::flushSummaries, loggingProperties.getWindow().toMillis());
+      }
+    };
+  }
+}
@@ -0,0 +1,61 @@
+package com.example.customexception.config;
+
+import com.example.customexception.constant.ResponseCode;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.logging.LogLevel;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.logging")
+public class LoggingProperties {
+
+  /**
+   * fingerprint별 첫 번째 예외만 스택 트레이스 출력, 이후는 요약 출력
+   */
+  private boolean sampled = true;
+
+  /**
+   * fingerprint별 스택 트레이스 출력 주기 및 요약 출력 주기
+   */
+  private Duration window = Duration.ofSeconds(60);
+
+  /**
+   * fingerprint에 포함할 상위 스택 프레임 수
+   */
+  private int topFrames = 5;
+
+  /**
+   * 추적할 최대 fingerprint 수
+   */
+  private int maxFingerprints = 10_000;
+
+  /**
+   * codes에 없는 ResponseCode의 로그 정책
+   */
+  private Policy defaultPolicy = new Policy();
+
+  /**
+   * ResponseCode별 로그 정책
+   */
+  private Map<ResponseCode, Policy> codes = new LinkedHashMap<>();
+
+  @Getter
+  @Setter
+  public static class Policy {
+
+    /**
+     * 로그 레벨 (OFF - 출력하지 않음)
+     */
+    private LogLevel level = LogLevel.ERROR;
+
+    /**
+     * window 안에서 스택 트레이스 없이 한 줄로 출력할 비율 (0.0 ~ 1.0)
+     */
+    private double sampleRate = 0.0;
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.customexception.config;
+
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.response.ErrorMessages;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MessageProperties.class)
+public class MessageConfig {
+
+  /**
+   * 에러 코드 x 지원 Locale 메시지 테이블
+   */
+  @Bean
+  public ErrorMessages errorMessages(
+      MessageSource messageSource,
+      ResponseCodeRegistry responseCodeRegistry,
+      MessageProperties messageProperties) {
+    return new ErrorMessages(
+        messageSource,
+        responseCodeRegistry,
+        messageProperties.getSupportedLocales(),
+        messageProperties.getDefaultLocale());
+  }
+}
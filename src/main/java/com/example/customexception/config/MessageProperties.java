@@ -0,0 +1,26 @@
+package com.example.customexception.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.messages")
+public class MessageProperties {
+
+  /**
+   * 지원하지 않는 Locale에 사용할 기본 Locale
+   */
+  private Locale defaultLocale = Locale.KOREAN;
+
+  /**
+   * 시작 시 메시지를 미리 조회할 Locale 목록
+   */
+  private List<Locale> supportedLocales =
+      new ArrayList<>(Arrays.asList(Locale.KOREAN, Locale.ENGLISH, Locale.JAPANESE));
+}
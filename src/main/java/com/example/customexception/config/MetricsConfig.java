@@ -0,0 +1,19 @@
+package com.example.customexception.config;
+
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.metrics.ErrorMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MetricsProperties.class)
+public class MetricsConfig {
+
+  @Bean
+  public ErrorMetrics errorMetrics(
+      MetricsProperties metricsProperties,
+      ResponseCodeRegistry responseCodeRegistry) {
+    return new ErrorMetrics(metricsProperties.isEnabled(), responseCodeRegistry);
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.customexception.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.metrics")
+public class MetricsProperties {
+
+  /**
+   * ResponseCode, HTTP 상태, 핸들러별 건수 및 처리 시간 기록
+   */
+  private boolean enabled = true;
+}
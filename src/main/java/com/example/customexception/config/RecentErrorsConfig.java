@@ -0,0 +1,21 @@
+package com.example.customexception.config;
+
+import com.example.customexception.metrics.RecentErrors;
+import java.time.Clock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RecentErrorsProperties.class)
+public class RecentErrorsConfig {
+
+  @Bean
+  public RecentErrors recentErrors(Clock clock, RecentErrorsProperties recentErrorsProperties) {
+    return new RecentErrors(
+        recentErrorsProperties.isEnabled(),
+        clock,
+        recentErrorsProperties.getCapacity(),
+        recentErrorsProperties.getStripes());
+  }
+}
@@ -0,0 +1,31 @@
+package com.example.customexception.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.recent-errors")
+public class RecentErrorsProperties {
+
+  /**
+   * 최근 에러 응답 링 버퍼 기록
+   */
+  private boolean enabled = true;
+
+  /**
+   * 보관할 최근 에러 수 (2의 거듭제곱으로 올림)
+   */
+  private int capacity = 1024;
+
+  /**
+   * 링 버퍼 stripe 수 (2의 거듭제곱으로 올림, 기본값 CPU 코어 수)
+   */
+  private int stripes = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * 조회 시 최대 반환 수
+   */
+  private int maxLimit = 1000;
+}
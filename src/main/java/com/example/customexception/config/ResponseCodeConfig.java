@@ -0,0 +1,34 @@
+package com.example.customexception.config;
+
+import com.example.customexception.constant.ResponseCodeRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCodeProperties.class)
+public class ResponseCodeConfig {
+
+  /**
+   * ResponseCode와 외부 정의 코드 등록 (ErrorResponse 기본 메시지 조회에도 적용)
+   */
+  @Bean
+  public ResponseCodeRegistry responseCodeRegistry(
+      ResponseCodeProperties responseCodeProperties) {
+    List<ResponseCodeRegistry.Definition> definitions = new ArrayList<>();
+    for (ResponseCodeProperties.Definition definition
+        : responseCodeProperties.getDefinitions()) {
+      definitions.add(new ResponseCodeRegistry.Definition(
+          definition.getCode(),
+          definition.getMessage(),
+          definition.getHttpStatus(),
+          definition.isStackless()));
+    }
+
+    ResponseCodeRegistry responseCodeRegistry = new ResponseCodeRegistry(definitions);
+    ResponseCodeRegistry.setInstance(responseCodeRegistry);
+    return responseCodeRegistry;
+  }
+}
@@ -0,0 +1,38 @@
+package com.example.customexception.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.response-codes")
+public class ResponseCodeProperties {
+
+  /**
+   * ResponseCode 외에 추가로 등록할 코드 목록
+   */
+  private List<Definition> definitions = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class Definition {
+
+    /**
+     * 숫자 코드 (0 ~ 9999, ResponseCode와 중복 불가)
+     */
+    private String code;
+
+    private String message;
+
+    private HttpStatus httpStatus = HttpStatus.BAD_REQUEST;
+
+    /**
+     * 스택 트레이스 없이 생성
+     */
+    private boolean stackless;
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.customexception.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.response")
+public class ResponseProperties {
+
+  /**
+   * ErrorResponse를 미리 인코딩된 JSON 구간으로 출력 (Jackson 직렬화 생략)
+   */
+  private boolean preEncoded = false;
+}
@@ -0,0 +1,41 @@
+package com.example.customexception.config;
+
+import com.example.customexception.advice.ExceptionAspect;
+import com.example.customexception.advice.ResultReturnValueHandler;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+@Configuration
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class ResultConfig {
+
+  /**
+   * ResultReturnValueHandler를 첫 번째 처리기로 등록 (WebMvcConfigurer로 추가하면 @ResponseBody 처리기 다음)
+   */
+  @Bean
+  public SmartInitializingSingleton resultReturnValueHandlerRegistrar(
+      RequestMappingHandlerAdapter requestMappingHandlerAdapter,
+      ExceptionAspect exceptionAspect) {
+    return () -> {
+      List<HandlerMethodReturnValueHandler> handlers =
+          requestMappingHandlerAdapter.getReturnValueHandlers();
+      HandlerMethodReturnValueHandler httpEntityHandler = handlers.stream()
+          .filter(HttpEntityMethodProcessor.class::isInstance)
+          .findFirst()
+          .orElseThrow(() -> new IllegalStateException("HttpEntityMethodProcessor not found"));
+
+      List<HandlerMethodReturnValueHandler> reordered = new ArrayList<>(handlers.size() + 1);
+      reordered.add(new ResultReturnValueHandler(exceptionAspect, httpEntityHandler));
+      reordered.addAll(handlers);
+      requestMappingHandlerAdapter.setReturnValueHandlers(reordered);
+    };
+  }
+}
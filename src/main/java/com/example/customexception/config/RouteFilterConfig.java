@@ -0,0 +1,90 @@
+package com.example.customexception.config;
+
+import com.example.customexception.filter.RouteTrieFilter;
+import com.example.customexception.journal.ErrorJournal;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.metrics.HeavyHitters;
+import com.example.customexception.metrics.RecentErrors;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.ErrorResponseEncoder;
+import com.example.customexception.response.TimestampProvider;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletRegistrationBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.LocaleResolver;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(RouteFilterProperties.class)
+@ConditionalOnProperty(prefix = "custom-exception.route-filter", name = "enabled",
+    havingValue = "true")
+public class RouteFilterConfig {
+
+  /**
+   * RequestContextFilter(-105) 이후, LoadSheddingFilter(-100) 이전
+   */
+  private static final int FILTER_ORDER = -101;
+
+  @Bean
+  public RouteTrieFilter routeTrieFilter(
+      ErrorResponseEncoder errorResponseEncoder,
+      ErrorMessages errorMessages,
+      TimestampProvider timestampProvider,
+      LocaleResolver localeResolver,
+      ErrorMetrics errorMetrics,
+      HeavyHitters heavyHitters,
+      RecentErrors recentErrors,
+      ErrorJournal errorJournal) {
+    return new RouteTrieFilter(
+        errorResponseEncoder,
+        errorMessages,
+        timestampProvider,
+        localeResolver,
+        errorMetrics,
+        heavyHitters,
+        recentErrors,
+        errorJournal);
+  }
+
+  /**
+   * DispatcherServlet 요청에만 적용 (다른 servlet의 경로는 HandlerMapping에 없음)
+   */
+  @Bean
+  public FilterRegistrationBean<RouteTrieFilter> routeTrieFilterRegistration(
+      RouteTrieFilter routeTrieFilter,
+      DispatcherServletRegistrationBean dispatcherServletRegistration) {
+    FilterRegistrationBean<RouteTrieFilter> registration =
+        new FilterRegistrationBean<>(routeTrieFilter, dispatcherServletRegistration);
+    registration.setOrder(FILTER_ORDER);
+    return registration;
+  }
+
+  /**
+   * DispatcherServlet이 사용하는 모든 HandlerMapping의 경로로 trie 생성
+   */
+  @Bean
+  public SmartInitializingSingleton routeTrieCompiler(
+      RouteTrieFilter routeTrieFilter,
+      ApplicationContext applicationContext) {
+    return () -> {
+      Map<String, HandlerMapping> handlerMappings =
+          BeanFactoryUtils.beansOfTypeIncludingAncestors(
+              applicationContext, HandlerMapping.class, true, false);
+      if (routeTrieFilter.compile(handlerMappings.values())) {
+        log.info("RouteTrieFilter compiled : {}", handlerMappings.keySet());
+      } else {
+        log.warn("RouteTrieFilter disabled (unsupported HandlerMapping) : {}",
+            handlerMappings.keySet());
+      }
+    };
+  }
+}
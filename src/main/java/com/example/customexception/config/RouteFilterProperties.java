@@ -0,0 +1,16 @@
+package com.example.customexception.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.route-filter")
+public class RouteFilterProperties {
+
+  /**
+   * 등록되지 않은 경로, 메서드를 DispatcherServlet 이전에 404(906), 405(907)로 응답
+   */
+  private boolean enabled = false;
+}
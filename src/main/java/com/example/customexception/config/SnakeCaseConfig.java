@@ -0,0 +1,43 @@
+package com.example.customexception.config;
+
+import com.example.customexception.support.SnakeCaseConverter;
+import com.example.customexception.support.ValidatedRequestScanner;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(SnakeCaseProperties.class)
+public class SnakeCaseConfig {
+
+  @Bean
+  public ValidatedRequestScanner validatedRequestScanner(
+      @Qualifier("requestMappingHandlerMapping")
+          RequestMappingHandlerMapping requestMappingHandlerMapping) {
+    return new ValidatedRequestScanner(requestMappingHandlerMapping);
+  }
+
+  /**
+   * Snake Case 변환 캐시 설정 및 @Valid 요청 DTO 필드명 사전 변환
+   */
+  @Bean
+  public SmartInitializingSingleton snakeCaseWarmUp(
+      SnakeCaseProperties snakeCaseProperties,
+      ValidatedRequestScanner validatedRequestScanner) {
+    return () -> {
+      SnakeCaseConverter.setMaxSize(snakeCaseProperties.getCacheSize());
+      if (snakeCaseProperties.isWarmUp()) {
+        Set<String> names = validatedRequestScanner.scanFieldNames();
+        SnakeCaseConverter.warmUp(names);
+        log.info("SnakeCaseConverter warm-up : {} names, {} cached",
+            names.size(), SnakeCaseConverter.size());
+      }
+    };
+  }
+}
@@ -0,0 +1,22 @@
+package com.example.customexception.config;
+
+import com.example.customexception.support.SnakeCaseConverter;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.snake-case")
+public class SnakeCaseProperties {
+
+  /**
+   * Snake Case 변환 캐시 최대 크기
+   */
+  private int cacheSize = SnakeCaseConverter.DEFAULT_MAX_SIZE;
+
+  /**
+   * 시작 시 @Valid 요청 DTO 필드명 변환 결과 캐시
+   */
+  private boolean warmUp = true;
+}
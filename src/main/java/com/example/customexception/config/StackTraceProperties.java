@@ -0,0 +1,19 @@
+package com.example.customexception.config;
+
+import com.example.customexception.constant.ResponseCode;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.stack-trace")
+public class StackTraceProperties {
+
+  /**
+   * 스택 트레이스 없이 생성할 ResponseCode 목록
+   */
+  private List<ResponseCode> stacklessCodes = new ArrayList<>();
+}
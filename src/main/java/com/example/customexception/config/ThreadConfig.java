@@ -0,0 +1,66 @@
+package com.example.customexception.config;
+
+import com.example.customexception.support.VirtualThreads;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ThreadProperties.class)
+@ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+public class ThreadConfig {
+
+  /**
+   * Tomcat 요청 스레드 풀을 가상 스레드 Executor로 교체
+   *
+   * <p>Java 21 미만 런타임에서는 경고 후 기존 플랫폼 스레드 풀을 유지한다.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "custom-exception.threads", name = "virtual",
+      havingValue = "true")
+  public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+    return new VirtualThreadProtocolHandlerCustomizer();
+  }
+
+  /**
+   * 만든 Executor는 context 종료 시 종료 (Tomcat은 외부 Executor를 종료하지 않음)
+   *
+   * <p>웹 서버는 singleton 소멸 전에 멈추므로 종료 시점에는 처리 중인 요청이 없다.
+   */
+  private static final class VirtualThreadProtocolHandlerCustomizer
+      implements TomcatProtocolHandlerCustomizer<ProtocolHandler>, DisposableBean {
+
+    private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void customize(ProtocolHandler protocolHandler) {
+      if (!VirtualThreads.isSupported()) {
+        log.warn("Virtual threads are not supported on Java {}, using platform thread pool",
+            Runtime.version().feature());
+        return;
+      }
+      ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor().get();
+      executors.add(executor);
+      protocolHandler.setExecutor(executor);
+      log.info("Tomcat request executor : virtual threads");
+    }
+
+    @Override
+    public void destroy() {
+      for (ExecutorService executor : executors) {
+        executor.shutdown();
+      }
+      executors.clear();
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.customexception.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.threads")
+public class ThreadProperties {
+
+  /**
+   * Tomcat 요청 처리(ExceptionAspect 포함)를 가상 스레드에서 실행 (Java 21 이상)
+   */
+  private boolean virtual = false;
+}
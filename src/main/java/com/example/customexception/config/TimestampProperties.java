@@ -0,0 +1,23 @@
+package com.example.customexception.config;
+
+import com.example.customexception.response.TimestampProvider;
+import java.time.temporal.ChronoUnit;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.timestamp")
+public class TimestampProperties {
+
+  /**
+   * ErrorResponse timestamp 패턴
+   */
+  private String pattern = TimestampProvider.DEFAULT_PATTERN;
+
+  /**
+   * 포맷된 timestamp 재사용 단위 (SECONDS, MILLIS)
+   */
+  private ChronoUnit resolution = ChronoUnit.SECONDS;
+}
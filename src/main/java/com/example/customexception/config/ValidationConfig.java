@@ -0,0 +1,38 @@
+package com.example.customexception.config;
+
+import com.example.customexception.support.ValidatedRequestScanner;
+import com.example.customexception.validation.RequestValidator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ValidationProperties.class)
+public class ValidationConfig {
+
+  @Bean(destroyMethod = "close")
+  public RequestValidator requestValidator(ValidationProperties validationProperties) {
+    return new RequestValidator(validationProperties.isFailFast());
+  }
+
+  /**
+   * 요청 DTO 제약 조건 메타데이터 사전 생성
+   */
+  @Bean
+  public SmartInitializingSingleton requestValidatorWarmUp(
+      RequestValidator requestValidator,
+      ValidationProperties validationProperties,
+      ValidatedRequestScanner validatedRequestScanner) {
+    return () -> {
+      Set<Class<?>> types = new LinkedHashSet<>(validatedRequestScanner.scanRequestTypes());
+      types.addAll(validationProperties.getWarmUpTypes());
+      requestValidator.warmUp(types);
+      log.info("RequestValidator warm-up : {}", types);
+    };
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.customexception.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "custom-exception.validation")
+public class ValidationProperties {
+
+  /**
+   * 첫 번째 제약 조건 위반에서 검증 중단
+   */
+  private boolean failFast = false;
+
+  /**
+   * @Valid 파라미터 외에 시작 시 메타데이터를 생성할 DTO 타입
+   */
+  private List<Class<?>> warmUpTypes = new ArrayList<>();
+}
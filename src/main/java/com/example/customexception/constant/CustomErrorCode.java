@@ -0,0 +1,32 @@
+package com.example.customexception.constant;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 설정 파일에서 등록한 에러 코드
+ */
+@Getter
+@ToString
+public final class CustomErrorCode implements ErrorCode {
+
+  private final String code;
+  private final String message;
+  private final HttpStatus httpStatus;
+  private final boolean stackless;
+  private final int index;
+
+  CustomErrorCode(
+      String code,
+      String message,
+      HttpStatus httpStatus,
+      boolean stackless,
+      int index) {
+    this.code = code;
+    this.message = message;
+    this.httpStatus = httpStatus;
+    this.stackless = stackless;
+    this.index = index;
+  }
+}
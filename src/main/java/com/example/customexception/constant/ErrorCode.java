@@ -0,0 +1,26 @@
+package com.example.customexception.constant;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 에러 코드 (ResponseCode 및 외부 정의 코드)
+ */
+public interface ErrorCode {
+
+  /**
+   * 응답 코드 (숫자 문자열)
+   */
+  String getCode();
+
+  String getMessage();
+
+  /**
+   * 응답 HTTP 상태 (ErrorException 응답은 설정 파일에서 등록한 코드만 적용, ResponseCode는 400)
+   */
+  HttpStatus getHttpStatus();
+
+  /**
+   * ResponseCodeRegistry에서 부여한 0부터 시작하는 연속 인덱스 (ResponseCode는 ordinal)
+   */
+  int getIndex();
+}
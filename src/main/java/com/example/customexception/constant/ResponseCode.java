@@ -6,47 +6,63 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.http.HttpStatus;
 
 @AllArgsConstructor
 @Getter
-public enum ResponseCode {
+public enum ResponseCode implements ErrorCode {
 
-  OK("200", "성공"),
+  OK("200", "성공", HttpStatus.OK),
 
   // Custom Exception 에러 코드
-  CUSTOM_EXCEPTION("800", "오류가 발생했습니다. 확인 후 다시 시도해주세요."),
-  INVALID_REQUEST("801", "유효하지 않은 요청입니다."),
-  FORBIDDEN_REQUEST("802", "허용되지 않은 요청입니다."),
-  DUPLICATED_REQUEST("803", "중복된 요청입니다."),
-  NOT_FOUND("804", "존재하지 않는 정보입니다."),
+  CUSTOM_EXCEPTION("800", "오류가 발생했습니다. 확인 후 다시 시도해주세요.", HttpStatus.BAD_REQUEST),
+  INVALID_REQUEST("801", "유효하지 않은 요청입니다.", HttpStatus.BAD_REQUEST),
+  FORBIDDEN_REQUEST("802", "허용되지 않은 요청입니다.", HttpStatus.BAD_REQUEST),
+  DUPLICATED_REQUEST("803", "중복된 요청입니다.", HttpStatus.BAD_REQUEST),
+  NOT_FOUND("804", "존재하지 않는 정보입니다.", HttpStatus.BAD_REQUEST),
 
   // Exception Handler 에러 코드
-  INTERNAL_SERVER_ERROR("900", "내부 오류가 발생했습니다. 확인 후 다시 시도해주세요."),
-  METHOD_ARGUMENT_NOT_VALID("901", "파라미터가 유효하지 않습니다."),
-  MISSING_SERVLET_REQUEST_PARAMETER("902", "필수 파라미터가 누락되었습니다."),
-  CONSTRAINT_VIOLATION("903", "파라미터 유효성 검사에 실패했습니다."),
-  METHOD_ARGUMENT_TYPE_MISMATCH("904", "파라미터 타입이 올바르지 않습니다."),
-  HTTP_MESSAGE_NOT_READABLE_EXCEPTION("905", "읽을 수 있는 요청 정보가 없습니다."),
-  NO_HANDLER_FOUND("906", "요청한 URL을 찾을 수 없습니다."),
-  HTTP_REQUEST_METHOD_NOT_SUPPORTED("907", "지원하지 않는 메서드입니다."),
-  HTTP_MEDIA_TYPE_NOT_SUPPORTED("908", "지원되지 않는 미디어 타입입니다.");
+  INTERNAL_SERVER_ERROR("900", "내부 오류가 발생했습니다. 확인 후 다시 시도해주세요.",
+      HttpStatus.INTERNAL_SERVER_ERROR),
+  METHOD_ARGUMENT_NOT_VALID("901", "파라미터가 유효하지 않습니다.", HttpStatus.BAD_REQUEST),
+  MISSING_SERVLET_REQUEST_PARAMETER("902", "필수 파라미터가 누락되었습니다.", HttpStatus.BAD_REQUEST),
+  CONSTRAINT_VIOLATION("903", "파라미터 유효성 검사에 실패했습니다.", HttpStatus.BAD_REQUEST),
+  METHOD_ARGUMENT_TYPE_MISMATCH("904", "파라미터 타입이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+  HTTP_MESSAGE_NOT_READABLE_EXCEPTION("905", "읽을 수 있는 요청 정보가 없습니다.", HttpStatus.BAD_REQUEST),
+  NO_HANDLER_FOUND("906", "요청한 URL을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+  HTTP_REQUEST_METHOD_NOT_SUPPORTED("907", "지원하지 않는 메서드입니다.",
+      HttpStatus.METHOD_NOT_ALLOWED),
+  HTTP_MEDIA_TYPE_NOT_SUPPORTED("908", "지원되지 않는 미디어 타입입니다.",
+      HttpStatus.UNSUPPORTED_MEDIA_TYPE),
+  SERVICE_UNAVAILABLE("909", "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+      HttpStatus.SERVICE_UNAVAILABLE);
 
   private final String code;
   private final String message;
+  private final HttpStatus httpStatus;
 
-  private static final Map<String, ResponseCode> BY_STATUS_CODE =
-      Stream.of(values())
-          .collect(Collectors.toMap(ResponseCode::getCode, Function.identity()));
-
+  /**
+   * 같은 메시지를 사용하는 코드가 있으면 먼저 선언된 코드 반환
+   */
   private static final Map<String, ResponseCode> BY_MESSAGE =
       Stream.of(values())
-          .collect(Collectors.toMap(ResponseCode::getMessage, Function.identity()));
+          .collect(Collectors.toMap(
+              ResponseCode::getMessage, Function.identity(), (first, second) -> first));
+
+  @Override
+  public int getIndex() {
+    return ordinal();
+  }
 
+  /**
+   * ResponseCode만 조회 (외부 정의 코드는 ResponseCodeRegistry 사용)
+   */
   public static ResponseCode valueOfStatusCode(String statusCode) {
-    return BY_STATUS_CODE.get(statusCode);
+    ErrorCode errorCode = ResponseCodeRegistry.getInstance().find(statusCode);
+    return errorCode instanceof ResponseCode ? (ResponseCode) errorCode : null;
   }
 
   public static ResponseCode valueOfMessage(String message) {
     return BY_MESSAGE.get(message);
   }
-}
\ No newline at end of file
+}
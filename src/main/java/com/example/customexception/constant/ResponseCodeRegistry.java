@@ -0,0 +1,163 @@
+package com.example.customexception.constant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * ResponseCode와 외부 정의 코드 조회
+ *
+ * <p>숫자 코드를 인덱스로 하는 배열에서 조회하므로 조회 시 객체를 할당하지 않는다. 등록은 시작 시 한 번만 하고, 이후에는 불변이다.
+ */
+public final class ResponseCodeRegistry {
+
+  /**
+   * 등록 가능한 최대 숫자 코드
+   */
+  public static final int MAX_CODE = 9_999;
+
+  private static volatile ResponseCodeRegistry instance = new ResponseCodeRegistry();
+
+  private final ErrorCode[] byNumber;
+  private final ErrorCode[] byIndex;
+
+  /**
+   * ResponseCode만 등록
+   */
+  public ResponseCodeRegistry() {
+    this(Collections.emptyList());
+  }
+
+  /**
+   * ResponseCode와 외부 정의 코드 등록
+   */
+  public ResponseCodeRegistry(List<Definition> definitions) {
+    List<ErrorCode> errorCodes = new ArrayList<>(Arrays.asList(ResponseCode.values()));
+    for (Definition definition : definitions) {
+      errorCodes.add(new CustomErrorCode(
+          definition.getCode(),
+          definition.getMessage(),
+          definition.getHttpStatus(),
+          definition.isStackless(),
+          errorCodes.size()));
+    }
+
+    int maxNumber = 0;
+    for (ErrorCode errorCode : errorCodes) {
+      maxNumber = Math.max(maxNumber, toNumber(errorCode.getCode()));
+    }
+
+    this.byNumber = new ErrorCode[maxNumber + 1];
+    this.byIndex = errorCodes.toArray(new ErrorCode[0]);
+    for (ErrorCode errorCode : errorCodes) {
+      int number = toNumber(errorCode.getCode());
+      if (byNumber[number] != null) {
+        throw new IllegalStateException(
+            "Duplicated response code : " + errorCode.getCode() + " (" + byNumber[number] + ")");
+      }
+      byNumber[number] = errorCode;
+    }
+  }
+
+  public static ResponseCodeRegistry getInstance() {
+    return instance;
+  }
+
+  public static void setInstance(ResponseCodeRegistry registry) {
+    instance = registry;
+  }
+
+  /**
+   * 숫자 코드로 조회 (없으면 null)
+   */
+  public ErrorCode find(int number) {
+    return number >= 0 && number < byNumber.length ? byNumber[number] : null;
+  }
+
+  /**
+   * 코드 문자열로 조회 (없거나 숫자가 아니면 null)
+   */
+  public ErrorCode find(String code) {
+    return find(parse(code));
+  }
+
+  /**
+   * 코드 문자열로 조회 (없으면 defaultCode)
+   */
+  public ErrorCode findOrDefault(String code, ErrorCode defaultCode) {
+    ErrorCode errorCode = find(code);
+    return errorCode != null ? errorCode : defaultCode;
+  }
+
+  /**
+   * 코드의 메시지 (등록되지 않은 코드는 CUSTOM_EXCEPTION 메시지)
+   */
+  public String messageOf(String code) {
+    return findOrDefault(code, ResponseCode.CUSTOM_EXCEPTION).getMessage();
+  }
+
+  /**
+   * 인덱스로 조회
+   */
+  public ErrorCode get(int index) {
+    return byIndex[index];
+  }
+
+  /**
+   * 등록된 코드 수 (ErrorCode.getIndex() 범위)
+   */
+  public int size() {
+    return byIndex.length;
+  }
+
+  public List<ErrorCode> getErrorCodes() {
+    return Collections.unmodifiableList(Arrays.asList(byIndex));
+  }
+
+  /**
+   * 0 ~ MAX_CODE 숫자 문자열만 허용 (선행 0 불가)
+   */
+  private static int toNumber(String code) {
+    int number = parse(code);
+    if (number < 0) {
+      throw new IllegalArgumentException("Invalid response code : " + code);
+    }
+    return number;
+  }
+
+  /**
+   * 할당 없이 숫자 파싱 (숫자가 아니거나, 선행 0이 있거나, MAX_CODE 초과 시 -1)
+   */
+  private static int parse(String code) {
+    if (code == null || code.isEmpty() || code.length() > 4
+        || (code.length() > 1 && code.charAt(0) == '0')) {
+      return -1;
+    }
+    int number = 0;
+    for (int i = 0; i < code.length(); i++) {
+      char ch = code.charAt(i);
+      if (ch < '0' || ch > '9') {
+        return -1;
+      }
+      number = number * 10 + (ch - '0');
+    }
+    return number;
+  }
+
+  /**
+   * 외부 코드 정의
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Definition {
+
+    private final String code;
+    private final String message;
+    private final HttpStatus httpStatus;
+    private final boolean stackless;
+  }
+}
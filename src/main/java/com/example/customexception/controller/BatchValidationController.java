@@ -0,0 +1,146 @@
+package com.example.customexception.controller;
+
+import com.example.customexception.config.BatchValidationProperties;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.dto.ErrorExceptionDto;
+import com.example.customexception.exception.ErrorException;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.response.BatchErrorResponse;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.TimestampProvider;
+import com.example.customexception.validation.BatchValidator;
+import com.example.customexception.validation.NdjsonBatchValidator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class BatchValidationController {
+
+  private final BatchValidator batchValidator;
+  private final NdjsonBatchValidator ndjsonBatchValidator;
+  private final BatchValidationProperties batchValidationProperties;
+  private final ErrorMessages errorMessages;
+  private final TimestampProvider timestampProvider;
+  private final ErrorMetrics errorMetrics;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 요청 목록 일괄 검증
+   *
+   * <p>위반이 있으면 CONSTRAINT_VIOLATION(903), 없으면 OK(200)로 응답하며, 요청 인덱스별 에러와 요약을 함께 반환한다.
+   * 목록이 maxItems를 넘거나 null 요소가 있으면 본문을 끝까지 읽기 전에 INVALID_REQUEST(801)
+   */
+  @PostMapping(value = "/api/batch/validate", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<BatchErrorResponse> validate(
+      HttpServletRequest request
+  ) throws IOException {
+    List<ErrorExceptionDto.Request> errorRequests = readRequests(request);
+    long startNanos = System.nanoTime();
+
+    List<BatchErrorResponse.ItemError> errors = batchValidator.validate(errorRequests);
+    ResponseCode responseCode =
+        errors.isEmpty() ? ResponseCode.OK : ResponseCode.CONSTRAINT_VIOLATION;
+    BatchErrorResponse batchErrorResponse = new BatchErrorResponse(
+        responseCode.getCode(),
+        errorMessages.messageOf(responseCode, LocaleContextHolder.getLocale()),
+        request.getMethod(),
+        request.getRequestURI(),
+        timestampProvider.now(),
+        errorRequests.size(),
+        errors);
+
+    if (!errors.isEmpty()) {
+      errorMetrics.record("BatchValidationController", responseCode,
+          responseCode.getHttpStatus(), System.nanoTime() - startNanos);
+    }
+    return ResponseEntity.status(responseCode.getHttpStatus()).body(batchErrorResponse);
+  }
+
+  /**
+   * 요청 본문의 JSON 배열을 요소 단위로 읽음
+   *
+   * <p>maxItems를 넘는 요소나 null 요소를 만나면 나머지 본문을 읽지 않고 INVALID_REQUEST(801)로 거부하므로
+   * 메모리에 올라가는 요청 수는 maxItems를 넘지 않는다. JSON 오류는 @RequestBody와 같이
+   * HttpMessageNotReadableException으로 던짐
+   */
+  private List<ErrorExceptionDto.Request> readRequests(HttpServletRequest request)
+      throws IOException {
+    int maxItems = batchValidationProperties.getMaxItems();
+    ObjectReader requestReader = objectMapper.readerFor(ErrorExceptionDto.Request.class);
+    HttpInputMessage inputMessage = new ServletServerHttpRequest(request);
+    try (JsonParser parser = objectMapper.createParser(request.getInputStream())) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new HttpMessageNotReadableException("Required JSON array body", inputMessage);
+      }
+      List<ErrorExceptionDto.Request> errorRequests = new ArrayList<>();
+      for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY;
+          token = parser.nextToken()) {
+        if (token == null) {
+          throw new HttpMessageNotReadableException("Unexpected end of JSON array",
+              inputMessage);
+        }
+        if (token == JsonToken.VALUE_NULL || errorRequests.size() >= maxItems) {
+          throw ErrorException.of(ResponseCode.INVALID_REQUEST);
+        }
+        errorRequests.add(requestReader.readValue(parser));
+      }
+      return errorRequests;
+    } catch (JsonProcessingException e) {
+      throw new HttpMessageNotReadableException(
+          "JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+    }
+  }
+
+  /**
+   * NDJSON 요청 스트리밍 검증
+   *
+   * <p>요청 본문을 한 줄씩 읽어 검증하며, 실패한 줄마다 줄 번호가 포함된 에러를 NDJSON으로 바로 쓰고 마지막 줄에 요약을
+   * 쓴다. 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 HTTP 상태는 항상 200이며 결과는 요약의 status_code로
+   * 확인한다.
+   */
+  @PostMapping(
+      value = "/api/batch/validate/stream",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void validateStream(
+      HttpServletRequest request,
+      HttpServletResponse response
+  ) throws IOException {
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    long startNanos = System.nanoTime();
+
+    BatchErrorResponse.Summary summary = ndjsonBatchValidator.validate(
+        ErrorExceptionDto.Request.class,
+        request.getInputStream(),
+        response.getOutputStream(),
+        request.getMethod(),
+        request.getRequestURI(),
+        LocaleContextHolder.getLocale());
+
+    if (summary.getInvalid() > 0) {
+      ResponseCode responseCode = ResponseCode.CONSTRAINT_VIOLATION;
+      errorMetrics.record("BatchValidationController", responseCode,
+          responseCode.getHttpStatus(), System.nanoTime() - startNanos);
+    }
+  }
+}
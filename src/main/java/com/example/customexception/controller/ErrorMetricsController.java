@@ -0,0 +1,22 @@
+package com.example.customexception.controller;
+
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.metrics.ErrorMetricsSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class ErrorMetricsController {
+
+  private final ErrorMetrics errorMetrics;
+
+  /**
+   * ResponseCode, HTTP 상태, 핸들러별 에러 건수 및 처리 시간
+   */
+  @GetMapping("/internal/errors/metrics")
+  public ErrorMetricsSnapshot metrics() {
+    return errorMetrics.snapshot();
+  }
+}
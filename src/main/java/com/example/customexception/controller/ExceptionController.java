@@ -3,12 +3,10 @@ package com.example.customexception.controller;
 import com.example.customexception.constant.ResponseCode;
 import com.example.customexception.dto.ErrorExceptionDto;
 import com.example.customexception.exception.ErrorException;
-import java.util.Set;
-import javax.validation.ConstraintViolation;
-import javax.validation.ConstraintViolationException;
+import com.example.customexception.exception.Result;
+import com.example.customexception.validation.RequestValidator;
 import javax.validation.Valid;
-import javax.validation.Validation;
-import javax.validation.Validator;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,8 +15,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@RequiredArgsConstructor
 public class ExceptionController {
 
+  private final RequestValidator requestValidator;
+
   /**
    * RuntimeException
    */
@@ -43,6 +44,30 @@ public class ExceptionController {
     throw new ErrorException("ErrorException 발생");
   }
 
+  /**
+   * ErrorException.of(ResponseCode responseCode)
+   */
+  @GetMapping("/api/exception04")
+  public String exception04() {
+    throw ErrorException.of(ResponseCode.NOT_FOUND);
+  }
+
+  /**
+   * Result.error(ResponseCode responseCode) - ErrorException.of와 같은 응답
+   */
+  @GetMapping("/api/result01")
+  public Result<String> result01() {
+    return Result.error(ResponseCode.NOT_FOUND);
+  }
+
+  /**
+   * Result.ok(T value)
+   */
+  @GetMapping("/api/result02")
+  public Result<String> result02() {
+    return Result.ok("result02");
+  }
+
   /**
    * MethodArgumentNotvalidException
    */
@@ -70,12 +95,7 @@ public class ExceptionController {
   public String constraintViolationException(
       @RequestBody ErrorExceptionDto.Request errorRequest
   ) {
-    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
-    Set<ConstraintViolation<ErrorExceptionDto.Request>> violations
-        = validator.validate(errorRequest);
-    if (!violations.isEmpty()) {
-      throw new ConstraintViolationException(violations);
-    }
+    requestValidator.validateOrThrow(errorRequest);
     return "constraintViolationException";
   }
 
@@ -0,0 +1,30 @@
+package com.example.customexception.controller;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.exception.ErrorException;
+import com.example.customexception.metrics.HeavyHitters;
+import com.example.customexception.metrics.HeavyHittersSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class HeavyHittersController {
+
+  private final HeavyHitters heavyHitters;
+
+  /**
+   * 에러가 많이 발생한 경로, 에러 코드, 클라이언트 IP 상위 목록 (감쇠 적용 추정 건수)
+   */
+  @GetMapping("/internal/errors/top")
+  public HeavyHittersSnapshot top(
+      @RequestParam(name = "limit", defaultValue = "10") int limit
+  ) {
+    if (limit < 1) {
+      throw ErrorException.of(ResponseCode.INVALID_REQUEST);
+    }
+    return heavyHitters.snapshot(limit);
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.customexception.controller;
+
+import com.example.customexception.filter.LoadSheddingFilter;
+import com.example.customexception.filter.LoadSheddingSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "custom-exception.load-shedding", name = "enabled",
+    havingValue = "true")
+public class LoadSheddingController {
+
+  private final LoadSheddingFilter loadSheddingFilter;
+
+  /**
+   * 라우트별 차단 상태 및 에러율
+   */
+  @GetMapping("/internal/load-shedding")
+  public LoadSheddingSnapshot loadShedding() {
+    return loadSheddingFilter.snapshot();
+  }
+}
@@ -0,0 +1,61 @@
+package com.example.customexception.controller;
+
+import com.example.customexception.config.RecentErrorsProperties;
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.exception.ErrorException;
+import com.example.customexception.metrics.RecentErrors;
+import com.example.customexception.metrics.RecentErrorsSnapshot;
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class RecentErrorsController {
+
+  private final RecentErrors recentErrors;
+  private final RecentErrorsProperties recentErrorsProperties;
+  private final ResponseCodeRegistry responseCodeRegistry;
+  private final Clock clock;
+
+  /**
+   * 최근 에러 응답 조회 (최신순)
+   *
+   * <p>code - 에러 코드, path_prefix - 경로 접두사, window - 조회 기간 (예: 30s, 5m), limit - 최대 반환 수
+   */
+  @GetMapping("/internal/errors/recent")
+  public RecentErrorsSnapshot recent(
+      @RequestParam(name = "code", required = false) String code,
+      @RequestParam(name = "path_prefix", required = false) String pathPrefix,
+      @RequestParam(name = "window", required = false) String window,
+      @RequestParam(name = "limit", defaultValue = "100") int limit
+  ) {
+    ErrorCode errorCode = null;
+    if (code != null) {
+      errorCode = responseCodeRegistry.find(code);
+      if (errorCode == null) {
+        throw ErrorException.of(ResponseCode.INVALID_REQUEST);
+      }
+    }
+
+    long fromMillis = Long.MIN_VALUE;
+    if (window != null) {
+      try {
+        fromMillis = clock.millis() - DurationStyle.detectAndParse(window).toMillis();
+      } catch (IllegalArgumentException e) {
+        throw ErrorException.of(ResponseCode.INVALID_REQUEST);
+      }
+    }
+
+    if (limit < 1) {
+      throw ErrorException.of(ResponseCode.INVALID_REQUEST);
+    }
+    return recentErrors.query(
+        errorCode, pathPrefix, fromMillis, Math.min(limit, recentErrorsProperties.getMaxLimit()));
+  }
+}
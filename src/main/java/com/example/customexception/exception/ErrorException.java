@@ -1,27 +1,118 @@
 package com.example.customexception.exception;
 
+import com.example.customexception.constant.ErrorCode;
 import com.example.customexception.constant.ResponseCode;
-import lombok.AllArgsConstructor;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
+import org.slf4j.helpers.MessageFormatter;
 
-@AllArgsConstructor
-@NoArgsConstructor
 @Getter
 public class ErrorException extends RuntimeException {
 
-  private ResponseCode responseCode;
-  private String message;
+  /**
+   * ResponseCode별 공유 인스턴스 (ordinal 인덱스)
+   */
+  private static final ErrorException[] SHARED_INSTANCES = createSharedInstances();
 
-  public ErrorException(ResponseCode rtaStatusCode) {
-    super();
-    this.responseCode = rtaStatusCode;
-    this.message = rtaStatusCode.getMessage();
+  private final ErrorCode responseCode;
+  private final boolean shared;
+
+  /**
+   * 메시지 템플릿과 인자 (getMessage 첫 호출 시 message로 변환)
+   */
+  private final String template;
+  @Getter(AccessLevel.NONE)
+  private final transient Object[] arguments;
+  private volatile String message;
+
+  public ErrorException() {
+    this(null, null);
+  }
+
+  /**
+   * StackTracePolicy에 따라 스택 트레이스 생성 여부 결정
+   */
+  public ErrorException(ErrorCode responseCode, String message) {
+    this(responseCode, message, false);
+  }
+
+  public ErrorException(ErrorCode rtaStatusCode) {
+    this(rtaStatusCode, rtaStatusCode.getMessage());
   }
 
   public ErrorException(String message) {
-    super();
-    this.responseCode = ResponseCode.CUSTOM_EXCEPTION;
+    this(ResponseCode.CUSTOM_EXCEPTION, message);
+  }
+
+  /**
+   * SLF4J 형식({}) 메시지 템플릿 - 메시지는 getMessage 첫 호출 시 생성
+   */
+  public ErrorException(ErrorCode responseCode, String template, Object... arguments) {
+    this(responseCode, null, template, arguments, false);
+  }
+
+  private ErrorException(ErrorCode responseCode, String message, boolean shared) {
+    this(responseCode, message, null, null, shared);
+  }
+
+  /**
+   * 공유 인스턴스 - 스택 트레이스, suppressed exception 비활성화 및 cause 고정(null)
+   */
+  private ErrorException(ErrorCode responseCode, String message, String template,
+      Object[] arguments, boolean shared) {
+    super(shared ? message : null, null, !shared,
+        !shared && StackTracePolicy.isWritable(responseCode));
+    this.responseCode = responseCode;
     this.message = message;
+    this.template = template;
+    this.arguments = arguments;
+    this.shared = shared;
+  }
+
+  /**
+   * SLF4J 형식({}) 메시지 템플릿으로 생성 (메시지 문자열은 필요할 때 생성)
+   */
+  public static ErrorException of(ErrorCode responseCode, String template, Object... arguments) {
+    return new ErrorException(responseCode, template, arguments);
+  }
+
+  /**
+   * 메시지 (템플릿이면 첫 호출 시 생성 후 재사용, 동시 호출 시 같은 문자열을 중복 생성할 수 있음)
+   */
+  @Override
+  public String getMessage() {
+    String rendered = message;
+    if (rendered == null && template != null) {
+      rendered = MessageFormatter.arrayFormat(template, arguments).getMessage();
+      message = rendered;
+    }
+    return rendered;
+  }
+
+  /**
+   * 인자는 직렬화하지 않으므로 메시지를 먼저 생성
+   */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    getMessage();
+    out.defaultWriteObject();
+  }
+
+  /**
+   * ResponseCode의 공유 인스턴스 반환 (할당 없음)
+   */
+  public static ErrorException of(ResponseCode responseCode) {
+    return SHARED_INSTANCES[responseCode.ordinal()];
+  }
+
+  private static ErrorException[] createSharedInstances() {
+    ResponseCode[] responseCodes = ResponseCode.values();
+    ErrorException[] instances = new ErrorException[responseCodes.length];
+    for (ResponseCode responseCode : responseCodes) {
+      instances[responseCode.ordinal()] =
+          new ErrorException(responseCode, responseCode.getMessage(), true);
+    }
+    return instances;
   }
-}
\ No newline at end of file
+}
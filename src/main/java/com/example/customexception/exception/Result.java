@@ -0,0 +1,116 @@
+package com.example.customexception.exception;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCode;
+import java.util.function.Function;
+
+/**
+ * 값 또는 에러 코드, 메시지 (ErrorException을 던지지 않는 결과)
+ *
+ * <p>컨트롤러가 반환하면 에러는 ErrorException과 같은 ErrorResponse, HTTP 상태로 응답한다. ResponseCode 에러는 공유
+ * 인스턴스를 반환하므로 할당이 없다.
+ */
+public final class Result<T> {
+
+  /**
+   * ResponseCode별 공유 에러 인스턴스 (ordinal 인덱스)
+   */
+  private static final Result<?>[] SHARED_ERRORS = createSharedErrors();
+
+  private final T value;
+  private final ErrorCode responseCode;
+  private final String message;
+
+  private Result(T value, ErrorCode responseCode, String message) {
+    this.value = value;
+    this.responseCode = responseCode;
+    this.message = message;
+  }
+
+  public static <T> Result<T> ok(T value) {
+    return new Result<>(value, null, null);
+  }
+
+  /**
+   * ResponseCode의 공유 에러 인스턴스 반환 (메시지는 요청 Locale의 에러 코드 메시지)
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Result<T> error(ResponseCode responseCode) {
+    return (Result<T>) SHARED_ERRORS[responseCode.ordinal()];
+  }
+
+  public static <T> Result<T> error(ErrorCode responseCode) {
+    return responseCode instanceof ResponseCode
+        ? error((ResponseCode) responseCode) : new Result<>(null, responseCode, null);
+  }
+
+  public static <T> Result<T> error(ErrorCode responseCode, String message) {
+    return new Result<>(null, responseCode, message);
+  }
+
+  public static <T> Result<T> error(String message) {
+    return error(ResponseCode.CUSTOM_EXCEPTION, message);
+  }
+
+  public boolean isOk() {
+    return responseCode == null;
+  }
+
+  public boolean isError() {
+    return responseCode != null;
+  }
+
+  /**
+   * 값 (에러면 null)
+   */
+  public T getValue() {
+    return value;
+  }
+
+  /**
+   * 에러 코드 (성공이면 null)
+   */
+  public ErrorCode getResponseCode() {
+    return responseCode;
+  }
+
+  /**
+   * 에러 메시지 (null이면 에러 코드 메시지)
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <U> Result<U> map(Function<? super T, ? extends U> mapper) {
+    return isOk() ? ok(mapper.apply(value)) : (Result<U>) this;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <U> Result<U> flatMap(Function<? super T, Result<U>> mapper) {
+    return isOk() ? mapper.apply(value) : (Result<U>) this;
+  }
+
+  /**
+   * 값 반환, 에러면 ErrorException 발생 (ResponseCode 에러는 공유 인스턴스)
+   */
+  public T orElseThrow() {
+    if (isOk()) {
+      return value;
+    }
+    if (message == null && responseCode instanceof ResponseCode) {
+      throw ErrorException.of((ResponseCode) responseCode);
+    }
+    throw new ErrorException(
+        responseCode, message != null ? message : responseCode.getMessage());
+  }
+
+  private static Result<?>[] createSharedErrors() {
+    ResponseCode[] responseCodes = ResponseCode.values();
+    Result<?>[] errors = new Result<?>[responseCodes.length];
+    for (ResponseCode responseCode : responseCodes) {
+      errors[responseCode.ordinal()] = new Result<>(null, responseCode, null);
+    }
+    return errors;
+  }
+}
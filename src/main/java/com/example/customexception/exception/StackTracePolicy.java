@@ -0,0 +1,46 @@
+package com.example.customexception.exception;
+
+import com.example.customexception.constant.CustomErrorCode;
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCode;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 에러 코드별 ErrorException 스택 트레이스 생성 정책
+ */
+public final class StackTracePolicy {
+
+  private static volatile Set<ResponseCode> stacklessCodes =
+      Collections.unmodifiableSet(EnumSet.noneOf(ResponseCode.class));
+
+  private StackTracePolicy() {
+  }
+
+  /**
+   * 스택 트레이스를 생성하지 않을 ResponseCode 설정
+   */
+  public static void configure(Collection<ResponseCode> codes) {
+    EnumSet<ResponseCode> set = EnumSet.noneOf(ResponseCode.class);
+    if (codes != null) {
+      set.addAll(codes);
+    }
+    stacklessCodes = Collections.unmodifiableSet(set);
+  }
+
+  /**
+   * 스택 트레이스 생성 여부 (외부 정의 코드는 정의의 stackless 값)
+   */
+  public static boolean isWritable(ErrorCode errorCode) {
+    if (errorCode instanceof CustomErrorCode) {
+      return !((CustomErrorCode) errorCode).isStackless();
+    }
+    return errorCode == null || !stacklessCodes.contains(errorCode);
+  }
+
+  public static Set<ResponseCode> getStacklessCodes() {
+    return stacklessCodes;
+  }
+}
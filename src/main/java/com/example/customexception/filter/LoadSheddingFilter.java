@@ -0,0 +1,232 @@
+package com.example.customexception.filter;
+
+import com.example.customexception.config.LoadSheddingProperties;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.ErrorResponseEncoder;
+import com.example.customexception.response.TimestampProvider;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.LocaleResolver;
+
+/**
+ * 라우트(HTTP 메서드 + 경로 패턴)별 에러율이 임계치를 넘으면 DispatcherServlet 이전에 요청을 차단
+ *
+ * <p>차단된 요청은 컨트롤러 호출, 예외 생성, ExceptionAspect 처리 없이 ErrorResponseEncoder가 미리 인코딩한
+ * SERVICE_UNAVAILABLE(909) 구간에 method, path, timestamp만 붙여 503으로 응답한다. OPEN 유지 시간이 지나면
+ * halfOpenProbes개의 요청만 통과시켜 모두 성공하면 차단을 해제한다.
+ *
+ * <p>라우트는 시작 시 HandlerMapping으로 만든 RouteTrie에서 찾은 경로 패턴이므로 /x/{id}의 모든 id가 한 라우트로
+ * 집계된다. 등록된 패턴에 없는 URI와 maxRoutes를 넘는 라우트는 추적하지 않으며(untracked), 라우트 수가 maxRoutes에
+ * 도달하면 윈도우 내 요청이 없는 CLOSED 라우트를 제거한다.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+  private static final HttpMethod[] METHODS = HttpMethod.values();
+
+  private final LoadSheddingProperties properties;
+  private final Clock clock;
+  private final ErrorResponseEncoder errorResponseEncoder;
+  private final ErrorMessages errorMessages;
+  private final TimestampProvider timestampProvider;
+  private final LocaleResolver localeResolver;
+  private final ErrorMetrics errorMetrics;
+
+  private final long bucketMillis;
+  private final long openMillis;
+  private final String retryAfter;
+
+  /**
+   * 경로 패턴별 라우트 상태 (compile 전에는 null, 모든 요청 전달)
+   */
+  private volatile Routes routes;
+  private final AtomicInteger routeCount = new AtomicInteger();
+  private final LongAdder untracked = new LongAdder();
+  private final AtomicLong lastEviction = new AtomicLong();
+
+  public LoadSheddingFilter(
+      LoadSheddingProperties properties,
+      Clock clock,
+      ErrorResponseEncoder errorResponseEncoder,
+      ErrorMessages errorMessages,
+      TimestampProvider timestampProvider,
+      LocaleResolver localeResolver,
+      ErrorMetrics errorMetrics) {
+    this.properties = properties;
+    this.clock = clock;
+    this.errorResponseEncoder = errorResponseEncoder;
+    this.errorMessages = errorMessages;
+    this.timestampProvider = timestampProvider;
+    this.localeResolver = localeResolver;
+    this.errorMetrics = errorMetrics;
+    this.bucketMillis = Math.max(1, properties.getWindow().toMillis() / properties.getBuckets());
+    this.openMillis = properties.getOpenDuration().toMillis();
+    this.retryAfter = String.valueOf(Math.max(1, (openMillis + 999) / 1000));
+  }
+
+  /**
+   * HandlerMapping의 경로 패턴으로 라우트 생성 (경로를 알 수 없는 HandlerMapping이 있으면 false, 추적하지 않음)
+   */
+  public boolean compile(Collection<HandlerMapping> handlerMappings) {
+    RouteTrie trie = RouteTrie.compile(handlerMappings);
+    routes = trie != null ? new Routes(trie) : null;
+    routeCount.set(0);
+    return trie != null;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    RouteCircuit route = route(request);
+    if (route == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    if (!route.tryAcquire(clock.millis(), openMillis, properties.getHalfOpenProbes())) {
+      reject(request, response);
+      return;
+    }
+
+    boolean error = true;
+    try {
+      filterChain.doFilter(request, response);
+      error = !request.isAsyncStarted() && response.getStatus() >= properties.getErrorStatus();
+    } finally {
+      route.onComplete(error, clock.millis(), properties.getMinimumRequests(),
+          properties.getErrorRateThreshold(), properties.getHalfOpenProbes());
+    }
+  }
+
+  /**
+   * 라우트별 상태, 윈도우 요청 수, 에러 수, 차단 수
+   */
+  public LoadSheddingSnapshot snapshot() {
+    long now = clock.millis();
+    Map<String, LoadSheddingSnapshot.Route> snapshot = new TreeMap<>();
+    Routes current = routes;
+    for (int i = 0; current != null && i < current.circuits.length(); i++) {
+      RouteCircuit route = current.circuits.get(i);
+      if (route != null) {
+        long window = route.window(now);
+        long total = RouteCircuit.total(window);
+        long errors = RouteCircuit.errors(window);
+        snapshot.put(route.getRoute(), new LoadSheddingSnapshot.Route(
+            route.getState().name(),
+            total,
+            errors,
+            total > 0 ? (double) errors / total : 0.0,
+            route.getRejected()));
+      }
+    }
+    return new LoadSheddingSnapshot(snapshot, untracked.sum());
+  }
+
+  private RouteCircuit route(HttpServletRequest request) {
+    Routes current = routes;
+    HttpMethod method = HttpMethod.resolve(request.getMethod());
+    if (current == null || method == null) {
+      return null;
+    }
+    int pattern = current.trie.match(request.getRequestURI(), RouteTrie.pathStart(request));
+    if (pattern < 0) {
+      untracked.increment();
+      return null;
+    }
+
+    int index = pattern * METHODS.length + method.ordinal();
+    RouteCircuit route = current.circuits.get(index);
+    if (route != null) {
+      return route;
+    }
+    if (routeCount.get() >= properties.getMaxRoutes()) {
+      evictIdle(current, clock.millis());
+    }
+    if (routeCount.incrementAndGet() > properties.getMaxRoutes()) {
+      routeCount.decrementAndGet();
+      untracked.increment();
+      return null;
+    }
+    RouteCircuit created = new RouteCircuit(
+        method.name() + " " + current.trie.patternOf(pattern), bucketMillis,
+        properties.getBuckets());
+    if (!current.circuits.compareAndSet(index, null, created)) {
+      routeCount.decrementAndGet();
+      route = current.circuits.get(index);
+    }
+    return route != null ? route : created;
+  }
+
+  /**
+   * 윈도우 내 요청이 없는 CLOSED 라우트 제거 (bucket 간격마다 최대 한 번)
+   *
+   * <p>제거 직전에 라우트를 가져간 요청의 결과는 제거된 라우트에 기록되어 버려질 수 있다.
+   */
+  private void evictIdle(Routes current, long now) {
+    long last = lastEviction.get();
+    if (now - last < bucketMillis || !lastEviction.compareAndSet(last, now)) {
+      return;
+    }
+    for (int i = 0; i < current.circuits.length(); i++) {
+      RouteCircuit route = current.circuits.get(i);
+      if (route != null && route.isIdle(now) && current.circuits.compareAndSet(i, route, null)) {
+        routeCount.decrementAndGet();
+      }
+    }
+  }
+
+  private void reject(HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    long startNanos = System.nanoTime();
+
+    ResponseCode responseCode = ResponseCode.SERVICE_UNAVAILABLE;
+    byte[] body = errorResponseEncoder.encode(
+        responseCode.getCode(),
+        errorMessages.messageOf(responseCode, localeResolver.resolveLocale(request)),
+        request.getMethod(),
+        request.getRequestURI(),
+        timestampProvider.now());
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+
+    errorMetrics.record("LoadSheddingFilter", responseCode, HttpStatus.SERVICE_UNAVAILABLE,
+        System.nanoTime() - startNanos);
+  }
+
+  /**
+   * 경로 패턴 trie와 라우트 상태 (패턴 번호 * HttpMethod 수 + ordinal 인덱스)
+   */
+  private static final class Routes {
+
+    private final RouteTrie trie;
+    private final AtomicReferenceArray<RouteCircuit> circuits;
+
+    private Routes(RouteTrie trie) {
+      this.trie = trie;
+      this.circuits = new AtomicReferenceArray<>(trie.size() * METHODS.length);
+    }
+  }
+}
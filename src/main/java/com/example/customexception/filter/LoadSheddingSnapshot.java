@@ -0,0 +1,37 @@
+package com.example.customexception.filter;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LoadSheddingSnapshot {
+
+  @JsonProperty("routes")
+  private Map<String, Route> routes;
+
+  @JsonProperty("untracked")
+  private long untracked;
+
+  @Getter
+  @AllArgsConstructor
+  public static class Route {
+
+    @JsonProperty("state")
+    private String state;
+
+    @JsonProperty("requests")
+    private long requests;
+
+    @JsonProperty("errors")
+    private long errors;
+
+    @JsonProperty("error_rate")
+    private double errorRate;
+
+    @JsonProperty("rejected")
+    private long rejected;
+  }
+}
@@ -0,0 +1,199 @@
+package com.example.customexception.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트별 에러율 슬라이딩 윈도우 및 차단 상태 (CLOSED -> OPEN -> HALF_OPEN -> CLOSED)
+ *
+ * <p>윈도우는 bucket 배열이며, bucket 하나는 long 하나에 bucket 번호(24bit), 요청 수(20bit), 에러 수(20bit)를
+ * 담아 CAS로 갱신한다. 상태 전이도 CAS로만 하므로 락이 없다.
+ */
+final class RouteCircuit {
+
+  enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private static final int EPOCH_SHIFT = 40;
+  private static final int TOTAL_SHIFT = 20;
+  private static final long COUNT_MASK = (1L << 20) - 1;
+  private static final long EPOCH_MASK = (1L << 24) - 1;
+
+  private static final int CLOSED = 0;
+  private static final int OPEN = 1;
+  private static final int HALF_OPEN = 2;
+
+  private final String route;
+  private final long bucketMillis;
+  private final AtomicLongArray buckets;
+
+  private final AtomicInteger state = new AtomicInteger(CLOSED);
+  private final AtomicLong openedAt = new AtomicLong();
+  private final AtomicInteger probePermits = new AtomicInteger();
+  private final AtomicInteger probeSuccesses = new AtomicInteger();
+  private final LongAdder rejected = new LongAdder();
+
+  RouteCircuit(String route, long bucketMillis, int bucketCount) {
+    this.route = route;
+    this.bucketMillis = bucketMillis;
+    this.buckets = new AtomicLongArray(bucketCount);
+  }
+
+  /**
+   * 요청 허용 여부 (OPEN 유지 시간이 지나면 HALF_OPEN으로 전환하고 probe만 허용)
+   */
+  boolean tryAcquire(long now, long openMillis, int halfOpenProbes) {
+    int current = state.get();
+    if (current == CLOSED) {
+      return true;
+    }
+    if (current == OPEN) {
+      if (now - openedAt.get() < openMillis) {
+        rejected.increment();
+        return false;
+      }
+      if (state.compareAndSet(OPEN, HALF_OPEN)) {
+        probeSuccesses.set(0);
+        probePermits.set(halfOpenProbes);
+      }
+    }
+    if (state.get() == HALF_OPEN && acquireProbe()) {
+      return true;
+    }
+    rejected.increment();
+    return false;
+  }
+
+  /**
+   * 처리 결과 기록 및 상태 전이
+   */
+  void onComplete(boolean error, long now, int minimumRequests, double errorRateThreshold,
+      int halfOpenProbes) {
+    int current = state.get();
+    if (current == HALF_OPEN) {
+      if (error) {
+        trip(HALF_OPEN, now);
+      } else if (probeSuccesses.incrementAndGet() >= halfOpenProbes
+          && state.compareAndSet(HALF_OPEN, CLOSED)) {
+        reset();
+      }
+      return;
+    }
+    if (current != CLOSED) {
+      return;
+    }
+
+    record(now / bucketMillis, error);
+    if (error) {
+      long window = window(now);
+      long total = total(window);
+      if (total >= minimumRequests && errors(window) >= total * errorRateThreshold) {
+        trip(CLOSED, now);
+      }
+    }
+  }
+
+  /**
+   * CLOSED이고 현재 윈도우에 기록된 요청이 없음 (제거 가능)
+   */
+  boolean isIdle(long now) {
+    return state.get() == CLOSED && total(window(now)) == 0;
+  }
+
+  State getState() {
+    return State.values()[state.get()];
+  }
+
+  String getRoute() {
+    return route;
+  }
+
+  long getRejected() {
+    return rejected.sum();
+  }
+
+  /**
+   * 현재 윈도우 요청 수(상위 32bit), 에러 수(하위 32bit)
+   */
+  long window(long now) {
+    long epoch = now / bucketMillis;
+    int bucketCount = buckets.length();
+    long total = 0;
+    long errors = 0;
+    for (int i = 0; i < bucketCount; i++) {
+      long value = buckets.get(i);
+      long expected = epoch - Math.floorMod(epoch - i, bucketCount);
+      if (value >>> EPOCH_SHIFT == stamp(expected)) {
+        total += (value >>> TOTAL_SHIFT) & COUNT_MASK;
+        errors += value & COUNT_MASK;
+      }
+    }
+    return (total << 32) | errors;
+  }
+
+  static long total(long window) {
+    return window >>> 32;
+  }
+
+  static long errors(long window) {
+    return window & 0xFFFFFFFFL;
+  }
+
+  private void record(long epoch, boolean error) {
+    int index = (int) Math.floorMod(epoch, (long) buckets.length());
+    long stamp = stamp(epoch);
+    while (true) {
+      long value = buckets.get(index);
+      long total;
+      long errors;
+      if (value >>> EPOCH_SHIFT == stamp) {
+        total = Math.min(((value >>> TOTAL_SHIFT) & COUNT_MASK) + 1, COUNT_MASK);
+        errors = Math.min((value & COUNT_MASK) + (error ? 1 : 0), COUNT_MASK);
+      } else {
+        total = 1;
+        errors = error ? 1 : 0;
+      }
+      long next = (stamp << EPOCH_SHIFT) | (total << TOTAL_SHIFT) | errors;
+      if (buckets.compareAndSet(index, value, next)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * OPEN 전환 (openedAt을 먼저 기록해 OPEN을 본 스레드가 이전 시각을 읽지 않도록 함)
+   */
+  private void trip(int from, long now) {
+    openedAt.set(now);
+    state.compareAndSet(from, OPEN);
+  }
+
+  private boolean acquireProbe() {
+    while (true) {
+      int permits = probePermits.get();
+      if (permits <= 0) {
+        return false;
+      }
+      if (probePermits.compareAndSet(permits, permits - 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void reset() {
+    for (int i = 0; i < buckets.length(); i++) {
+      buckets.set(i, 0L);
+    }
+  }
+
+  /**
+   * bucket 번호 하위 24bit (0은 빈 bucket으로 사용하므로 1 이상)
+   */
+  private static long stamp(long epoch) {
+    long stamp = epoch & EPOCH_MASK;
+    return stamp == 0 ? EPOCH_MASK : stamp;
+  }
+}
@@ -0,0 +1,332 @@
+package com.example.customexception.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurationSupport;
+import org.springframework.web.servlet.function.support.RouterFunctionMapping;
+import org.springframework.web.servlet.handler.AbstractHandlerMapping;
+import org.springframework.web.servlet.handler.AbstractUrlHandlerMapping;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+
+/**
+ * 등록된 요청 경로 패턴을 segment 단위로 저장한 trie
+ *
+ * <p>lookup은 리터럴 segment만 따라가며, 변수, 와일드카드 등 패턴 segment로 내려가야 하면 판단하지 않는다(PASS).
+ * match는 리터럴, 한 segment 패턴, '**' 순으로 요청 경로에 맞는 경로 패턴 번호를 찾는다(변수 정규식은 비교하지 않음).
+ * 조회 시 segment 문자열을 만들지 않고 요청 URI 구간과 자식 key를 직접 비교한다.
+ */
+final class RouteTrie {
+
+  /**
+   * 판단 불가 - DispatcherServlet으로 전달
+   */
+  static final int PASS = 0;
+
+  /**
+   * 일치하는 경로 없음 (NoHandlerFoundException)
+   */
+  static final int NOT_FOUND = 1;
+
+  /**
+   * 경로는 있으나 메서드 없음 (HttpRequestMethodNotSupportedException)
+   */
+  static final int METHOD_NOT_ALLOWED = 2;
+
+  /**
+   * 모든 HttpMethod
+   */
+  static final int ALL_METHODS = (1 << HttpMethod.values().length) - 1;
+
+  private static final String EMPTY_HANDLER_MAPPING =
+      WebMvcConfigurationSupport.class.getName() + "$EmptyHandlerMapping";
+
+  private final Node root = new Node("");
+  private final List<String> patterns = new ArrayList<>();
+  private final Map<String, Integer> patternIndexes = new HashMap<>();
+
+  /**
+   * HandlerMapping의 경로 패턴과 메서드로 trie 생성 (경로를 알 수 없는 HandlerMapping이 있으면 null)
+   */
+  static RouteTrie compile(Collection<HandlerMapping> handlerMappings) {
+    RouteTrie trie = new RouteTrie();
+    for (HandlerMapping handlerMapping : handlerMappings) {
+      if (!trie.add(handlerMapping)) {
+        return null;
+      }
+    }
+    return trie;
+  }
+
+  /**
+   * 경로 패턴과 허용 메서드(HttpMethod ordinal 비트) 등록
+   */
+  void add(String pattern, int methods) {
+    int index = patternIndexes.computeIfAbsent(pattern, key -> {
+      patterns.add(key);
+      return patterns.size() - 1;
+    });
+    String path = pattern.startsWith("/") ? pattern : "/" + pattern;
+    Node node = root;
+    int position = path.length() == 1 ? 1 : 0;
+    while (position < path.length()) {
+      int end = path.indexOf('/', position + 1);
+      if (end < 0) {
+        end = path.length();
+      }
+      String segment = path.substring(position + 1, end);
+      if (segment.isEmpty() || segment.startsWith("**") || segment.startsWith("{*")) {
+        // '**', '{*path}', 끝 '/' 또는 '//' 패턴 - lookup은 이 노드와 그 아래를 판단하지 않음
+        node.catchAll = true;
+        if (!segment.isEmpty() && node.catchAllPattern < 0) {
+          node.catchAllPattern = index;
+        } else if (segment.isEmpty() && end == path.length() && node.pattern < 0) {
+          node.pattern = index;
+        }
+        return;
+      }
+      if (isPattern(segment)) {
+        // 변수, 와일드카드 segment - lookup은 이 노드 아래를 판단하지 않음
+        node.variable = true;
+        node = node.variableChild();
+      } else {
+        node = node.child(segment);
+      }
+      position = end;
+    }
+    node.methods |= methods;
+    node.terminal = true;
+    if (node.pattern < 0) {
+      node.pattern = index;
+    }
+  }
+
+  /**
+   * 요청 URI에서 HandlerMapping이 비교하는 경로의 시작 위치 (context path, '/app/*' 같은 servlet path 이후)
+   */
+  static int pathStart(HttpServletRequest request) {
+    int start = request.getContextPath().length();
+    if (request.getPathInfo() != null) {
+      // prefix 매핑 - servlet path는 경로에 포함되지 않음 ('/' 매핑은 pathInfo가 null)
+      start += request.getServletPath().length();
+    }
+    return start;
+  }
+
+  /**
+   * 요청 경로(pathStart 이후)와 메서드 조회 - PASS, NOT_FOUND, METHOD_NOT_ALLOWED
+   */
+  int lookup(String uri, int start, HttpMethod method) {
+    if (start >= uri.length() || uri.charAt(start) != '/') {
+      return PASS;
+    }
+    Node node = root;
+    int position = start;
+    int length = uri.length();
+    while (true) {
+      if (node.catchAll) {
+        return PASS;
+      }
+      if (position >= length) {
+        break;
+      }
+      int end = position + 1;
+      while (end < length) {
+        char ch = uri.charAt(end);
+        if (ch == '/') {
+          break;
+        }
+        if (ch == ';' || ch == '%') {
+          // matrix 변수, 인코딩된 문자는 Spring의 경로 처리에 맡김
+          return PASS;
+        }
+        end++;
+      }
+      if (node.variable || end == position + 1 && end < length) {
+        return PASS;
+      }
+      if (end == position + 1) {
+        // 끝 '/' - trailing slash match
+        break;
+      }
+      node = node.find(uri, position + 1, end);
+      if (node == null) {
+        return NOT_FOUND;
+      }
+      position = end;
+    }
+    if (!node.terminal) {
+      return NOT_FOUND;
+    }
+    int bit = 1 << method.ordinal();
+    if (method == HttpMethod.HEAD) {
+      bit |= 1 << HttpMethod.GET.ordinal();
+    }
+    return (node.methods & bit) != 0 ? PASS : METHOD_NOT_ALLOWED;
+  }
+
+  /**
+   * 요청 경로(pathStart 이후)에 맞는 경로 패턴 번호 (없으면 -1)
+   */
+  int match(String uri, int start) {
+    if (start >= uri.length() || uri.charAt(start) != '/') {
+      return -1;
+    }
+    return match(root, uri, start);
+  }
+
+  /**
+   * 등록된 경로 패턴 수 (패턴 번호는 0 ~ size - 1)
+   */
+  int size() {
+    return patterns.size();
+  }
+
+  String patternOf(int index) {
+    return patterns.get(index);
+  }
+
+  private static int match(Node node, String uri, int position) {
+    int length = uri.length();
+    if (position + 1 >= length) {
+      // 끝 또는 끝 '/' (trailing slash match)
+      return node.pattern >= 0 ? node.pattern : node.catchAllPattern;
+    }
+    int end = uri.indexOf('/', position + 1);
+    if (end < 0) {
+      end = length;
+    }
+    if (end > position + 1) {
+      Node child = node.find(uri, position + 1, end);
+      if (child != null) {
+        int pattern = match(child, uri, end);
+        if (pattern >= 0) {
+          return pattern;
+        }
+      }
+      if (node.variableChild != null) {
+        int pattern = match(node.variableChild, uri, end);
+        if (pattern >= 0) {
+          return pattern;
+        }
+      }
+    }
+    return node.catchAllPattern;
+  }
+
+  private boolean add(HandlerMapping handlerMapping) {
+    if (handlerMapping instanceof AbstractHandlerMapping
+        && ((AbstractHandlerMapping) handlerMapping).getDefaultHandler() != null) {
+      return false;
+    }
+    if (handlerMapping instanceof RequestMappingInfoHandlerMapping) {
+      for (RequestMappingInfo info
+          : ((RequestMappingInfoHandlerMapping) handlerMapping).getHandlerMethods().keySet()) {
+        int methods = methodsOf(info.getMethodsCondition().getMethods());
+        for (String pattern : info.getPatternValues()) {
+          add(pattern, methods);
+        }
+      }
+      return true;
+    }
+    if (handlerMapping instanceof AbstractUrlHandlerMapping) {
+      AbstractUrlHandlerMapping urlHandlerMapping = (AbstractUrlHandlerMapping) handlerMapping;
+      if (urlHandlerMapping.getRootHandler() != null) {
+        add("/", ALL_METHODS);
+      }
+      for (String pattern : urlHandlerMapping.getHandlerMap().keySet()) {
+        add(pattern, ALL_METHODS);
+      }
+      return true;
+    }
+    if (handlerMapping instanceof RouterFunctionMapping) {
+      return ((RouterFunctionMapping) handlerMapping).getRouterFunction() == null;
+    }
+    return handlerMapping.getClass().getName().equals(EMPTY_HANDLER_MAPPING);
+  }
+
+  /**
+   * RequestMethod 집합을 HttpMethod ordinal 비트로 변환 (비어 있으면 모든 메서드)
+   */
+  private static int methodsOf(Set<RequestMethod> requestMethods) {
+    if (requestMethods.isEmpty()) {
+      return ALL_METHODS;
+    }
+    int methods = 0;
+    for (RequestMethod requestMethod : requestMethods) {
+      methods |= 1 << HttpMethod.valueOf(requestMethod.name()).ordinal();
+    }
+    return methods;
+  }
+
+  private static boolean isPattern(String segment) {
+    for (int i = 0; i < segment.length(); i++) {
+      char ch = segment.charAt(i);
+      if (ch == '{' || ch == '*' || ch == '?') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static final class Node {
+
+    private static final Node[] EMPTY = new Node[0];
+
+    private final String segment;
+    private Node[] children = EMPTY;
+    private Node variableChild;
+    private boolean catchAll;
+    private boolean variable;
+    private boolean terminal;
+    private int methods;
+    private int pattern = -1;
+    private int catchAllPattern = -1;
+
+    private Node(String segment) {
+      this.segment = segment;
+    }
+
+    private Node child(String segment) {
+      for (Node child : children) {
+        if (child.segment.equals(segment)) {
+          return child;
+        }
+      }
+      Node child = new Node(segment);
+      children = Arrays.copyOf(children, children.length + 1);
+      children[children.length - 1] = child;
+      return child;
+    }
+
+    /**
+     * 한 segment 패턴 자식 (변수 이름, 정규식이 달라도 같은 노드)
+     */
+    private Node variableChild() {
+      if (variableChild == null) {
+        variableChild = new Node("*");
+      }
+      return variableChild;
+    }
+
+    private Node find(String uri, int start, int end) {
+      int length = end - start;
+      for (Node child : children) {
+        if (child.segment.length() == length
+            && uri.regionMatches(start, child.segment, 0, length)) {
+          return child;
+        }
+      }
+      return null;
+    }
+  }
+}
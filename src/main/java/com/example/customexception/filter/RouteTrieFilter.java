@@ -0,0 +1,170 @@
+package com.example.customexception.filter;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.jfr.ErrorHandledEvent;
+import com.example.customexception.journal.ErrorJournal;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.metrics.HeavyHitters;
+import com.example.customexception.metrics.RecentErrors;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.ErrorResponseEncoder;
+import com.example.customexception.response.TimestampProvider;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+/**
+ * 등록된 요청 경로에 없는 URI와 메서드를 DispatcherServlet 이전에 404(906), 405(907)로 응답
+ *
+ * <p>시작 시 HandlerMapping의 경로 패턴과 메서드를 RouteTrie로 만들고, 확실히 일치하지 않는 요청만 예외 생성 없이
+ * ExceptionAspect와 같은 ErrorResponse 본문으로 응답하고 최근 에러, journal, 상위 에러, 처리 시간, JFR 이벤트를 같게
+ * 기록한다(예외 로그 제외). 패턴 segment, 인코딩된 문자, OPTIONS 요청, JSON을 받지 않는 Accept 헤더 등 판단할 수 없는
+ * 요청과 trie를 만들기 전의 요청은 그대로 전달한다. DispatcherServlet에만 등록하며 경로는 servlet path 이후를 비교한다.
+ */
+public class RouteTrieFilter extends OncePerRequestFilter {
+
+  /**
+   * 처리 시간, JFR 이벤트에 기록할 이름
+   */
+  private static final String HANDLER = "RouteTrieFilter";
+
+  private final ErrorResponseEncoder errorResponseEncoder;
+  private final ErrorMessages errorMessages;
+  private final TimestampProvider timestampProvider;
+  private final LocaleResolver localeResolver;
+  private final ErrorMetrics errorMetrics;
+  private final HeavyHitters heavyHitters;
+  private final RecentErrors recentErrors;
+  private final ErrorJournal errorJournal;
+
+  private volatile RouteTrie routeTrie;
+
+  public RouteTrieFilter(
+      ErrorResponseEncoder errorResponseEncoder,
+      ErrorMessages errorMessages,
+      TimestampProvider timestampProvider,
+      LocaleResolver localeResolver,
+      ErrorMetrics errorMetrics,
+      HeavyHitters heavyHitters,
+      RecentErrors recentErrors,
+      ErrorJournal errorJournal) {
+    this.errorResponseEncoder = errorResponseEncoder;
+    this.errorMessages = errorMessages;
+    this.timestampProvider = timestampProvider;
+    this.localeResolver = localeResolver;
+    this.errorMetrics = errorMetrics;
+    this.heavyHitters = heavyHitters;
+    this.recentErrors = recentErrors;
+    this.errorJournal = errorJournal;
+  }
+
+  /**
+   * HandlerMapping의 경로 패턴과 메서드로 trie 생성 (경로를 알 수 없는 HandlerMapping이 있으면 false, 전부 전달)
+   */
+  public boolean compile(Collection<HandlerMapping> handlerMappings) {
+    RouteTrie trie = RouteTrie.compile(handlerMappings);
+    routeTrie = trie;
+    return trie != null;
+  }
+
+  public boolean isCompiled() {
+    return routeTrie != null;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    RouteTrie trie = routeTrie;
+    HttpMethod method = HttpMethod.resolve(request.getMethod());
+    if (trie == null || method == null || method == HttpMethod.OPTIONS
+        || !acceptsJson(request)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    switch (trie.lookup(request.getRequestURI(), RouteTrie.pathStart(request), method)) {
+      case RouteTrie.NOT_FOUND:
+        reject(request, response, ResponseCode.NO_HANDLER_FOUND,
+            NoHandlerFoundException.class);
+        break;
+      case RouteTrie.METHOD_NOT_ALLOWED:
+        reject(request, response, ResponseCode.HTTP_REQUEST_METHOD_NOT_SUPPORTED,
+            HttpRequestMethodNotSupportedException.class);
+        break;
+      default:
+        filterChain.doFilter(request, response);
+        break;
+    }
+  }
+
+  /**
+   * Accept 헤더가 없거나 application/json을 허용 (허용하지 않으면 ExceptionAspect 응답도 달라지므로 전달)
+   */
+  private static boolean acceptsJson(HttpServletRequest request) {
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+    if (accept == null || accept.equals("*/*")
+        || accept.equals(MediaType.APPLICATION_JSON_VALUE)) {
+      return true;
+    }
+    try {
+      List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+      for (MediaType mediaType : mediaTypes) {
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)
+            && mediaType.getQualityValue() > 0) {
+          return true;
+        }
+      }
+      return false;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  /**
+   * ErrorResponse 응답 및 ExceptionAspect가 type 예외를 처리할 때와 같은 에러 기록
+   */
+  private void reject(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      ResponseCode responseCode,
+      Class<? extends Exception> type) throws IOException {
+    long startNanos = System.nanoTime();
+    ErrorHandledEvent event = new ErrorHandledEvent();
+    event.begin();
+
+    String method = request.getMethod();
+    String uri = request.getRequestURI();
+    String timestamp = timestampProvider.now();
+    byte[] body = errorResponseEncoder.encode(
+        responseCode.getCode(),
+        errorMessages.messageOf(responseCode, localeResolver.resolveLocale(request)),
+        method,
+        uri,
+        timestamp);
+    response.setStatus(responseCode.getHttpStatus().value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+
+    recentErrors.publish(responseCode, method, uri, timestamp, type);
+    errorJournal.append(responseCode, method, uri, type);
+    heavyHitters.record(responseCode, uri, request.getRemoteAddr());
+    errorMetrics.record(HANDLER, responseCode, responseCode.getHttpStatus(),
+        System.nanoTime() - startNanos);
+    event.commit(type, responseCode, responseCode.getHttpStatus(), method, uri, HANDLER);
+  }
+}
@@ -0,0 +1,85 @@
+package com.example.customexception.idempotency;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.exception.ErrorException;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Idempotency-Key 헤더로 중복 요청 거부
+ *
+ * <p>대상 메서드 요청에 헤더가 있으면 키를 처리 중으로 등록하고, 이미 처리 중이거나 처리 완료된 키이면 공유
+ * ErrorException(DUPLICATED_REQUEST)을, 저장소가 처리 중인 키로 가득 차 있으면
+ * IdempotencyKeyStoreFullException(503)을 던진다. 처리 중 예외가 발생하거나 4xx, 5xx로 끝난 요청은 키를 제거해 요청을 고친 재시도를 허용한다.
+ */
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+  private static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".KEY";
+
+  private final IdempotencyKeyStore idempotencyKeyStore;
+  private final String headerName;
+  private final Set<HttpMethod> methods;
+  private final int maxKeyLength;
+
+  public IdempotencyInterceptor(
+      IdempotencyKeyStore idempotencyKeyStore,
+      String headerName,
+      Set<HttpMethod> methods,
+      int maxKeyLength) {
+    this.idempotencyKeyStore = idempotencyKeyStore;
+    this.headerName = headerName;
+    this.methods = methods;
+    this.maxKeyLength = maxKeyLength;
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler) {
+    if (!(handler instanceof HandlerMethod)) {
+      return true;
+    }
+    HttpMethod method = HttpMethod.resolve(request.getMethod());
+    String idempotencyKey = request.getHeader(headerName);
+    if (method == null || !methods.contains(method) || idempotencyKey == null) {
+      return true;
+    }
+    if (idempotencyKey.isEmpty() || idempotencyKey.length() > maxKeyLength) {
+      throw ErrorException.of(ResponseCode.INVALID_REQUEST);
+    }
+
+    String key = method.name() + ' ' + request.getRequestURI() + ' ' + idempotencyKey;
+    switch (idempotencyKeyStore.tryAcquire(key)) {
+      case DUPLICATED:
+        throw ErrorException.of(ResponseCode.DUPLICATED_REQUEST);
+      case FULL:
+        throw IdempotencyKeyStoreFullException.INSTANCE;
+      default:
+        break;
+    }
+    request.setAttribute(KEY_ATTRIBUTE, key);
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler,
+      Exception ex) {
+    String key = (String) request.getAttribute(KEY_ATTRIBUTE);
+    if (key == null) {
+      return;
+    }
+    if (ex != null || response.getStatus() >= 400) {
+      idempotencyKeyStore.release(key);
+    } else {
+      idempotencyKeyStore.complete(key);
+    }
+  }
+}
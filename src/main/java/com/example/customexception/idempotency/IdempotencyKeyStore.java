@@ -0,0 +1,203 @@
+package com.example.customexception.idempotency;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 처리 중, 처리 완료 Idempotency-Key 저장소
+ *
+ * <p>키 해시로 나눈 stripe마다 삽입 순서 LinkedHashMap과 ReentrantLock을 둔다. TTL이 모두 같으므로 삽입 순서가
+ * 만료 순서이며, 만료 키는 맨 앞에서부터 제거하므로 제거 비용은 키당 O(1)이다. 처리 완료 키는 완료 순서 LinkedHashMap에도
+ * 연결해 stripe가 가득 차면 그 맨 앞(가장 오래된 처리 완료 키)을 O(1)로 제거한다. 처리 중인 키는 만료 전에는 제거하지
+ * 않으며(제거하면 같은 키의 중복 요청이 다시 처리됨), stripe가 처리 중인 키로 가득 차면 탐색 없이 새 키를 등록하지
+ * 않는다(FULL). 전체 키 수는 maxKeys를 넘지 않는다.
+ */
+public class IdempotencyKeyStore {
+
+  /**
+   * tryAcquire 결과
+   */
+  public enum Acquisition {
+
+    /**
+     * 처리 중으로 등록
+     */
+    ACQUIRED,
+
+    /**
+     * 이미 처리 중이거나 TTL 안에 처리 완료된 키
+     */
+    DUPLICATED,
+
+    /**
+     * stripe가 처리 중인 키로 가득 참
+     */
+    FULL
+  }
+
+  private final Clock clock;
+  private final long ttlMillis;
+  private final Stripe[] stripes;
+  private final int mask;
+
+  public IdempotencyKeyStore(Clock clock, long ttlMillis, int maxKeys, int stripes) {
+    int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    this.clock = clock;
+    this.ttlMillis = ttlMillis;
+    this.stripes = new Stripe[stripeCount];
+    this.mask = stripeCount - 1;
+    int capacity = Math.max(1, maxKeys / stripeCount);
+    for (int i = 0; i < stripeCount; i++) {
+      this.stripes[i] = new Stripe(capacity);
+    }
+  }
+
+  /**
+   * 처리 중으로 등록
+   */
+  public Acquisition tryAcquire(String key) {
+    long now = clock.millis();
+    Stripe stripe = stripeOf(key);
+    stripe.lock.lock();
+    try {
+      stripe.evictExpired(now);
+      if (stripe.entries.containsKey(key)) {
+        return Acquisition.DUPLICATED;
+      }
+      if (stripe.entries.size() >= stripe.capacity && !stripe.evictCompleted()) {
+        return Acquisition.FULL;
+      }
+      stripe.entries.put(key, new Entry(now + ttlMillis));
+      return Acquisition.ACQUIRED;
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  /**
+   * 처리 완료 (TTL 동안 중복 요청 거부)
+   */
+  public void complete(String key) {
+    Stripe stripe = stripeOf(key);
+    stripe.lock.lock();
+    try {
+      Entry entry = stripe.entries.get(key);
+      if (entry != null && !entry.completed) {
+        entry.completed = true;
+        stripe.completed.put(key, entry);
+      }
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  /**
+   * 키 제거 (처리 실패 시 재시도 허용)
+   */
+  public void release(String key) {
+    Stripe stripe = stripeOf(key);
+    stripe.lock.lock();
+    try {
+      Entry entry = stripe.entries.remove(key);
+      if (entry != null && entry.completed) {
+        stripe.completed.remove(key);
+      }
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  /**
+   * 처리 완료 여부 (없으면 null)
+   */
+  public Boolean isCompleted(String key) {
+    Stripe stripe = stripeOf(key);
+    stripe.lock.lock();
+    try {
+      Entry entry = stripe.entries.get(key);
+      return entry != null ? entry.completed : null;
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  /**
+   * 저장된 키 수 (만료 후 아직 제거되지 않은 키 포함)
+   */
+  public int size() {
+    int size = 0;
+    for (Stripe stripe : stripes) {
+      stripe.lock.lock();
+      try {
+        size += stripe.entries.size();
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+    return size;
+  }
+
+  private Stripe stripeOf(String key) {
+    int hash = key.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & mask];
+  }
+
+  private static final class Stripe {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * 처리 완료 키 (완료 순서)
+     */
+    private final LinkedHashMap<String, Entry> completed = new LinkedHashMap<>();
+    private final int capacity;
+
+    private Stripe(int capacity) {
+      this.capacity = capacity;
+    }
+
+    /**
+     * 만료 키 제거 (처리 중인 키 포함)
+     */
+    private void evictExpired(long now) {
+      Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<String, Entry> next = iterator.next();
+        if (next.getValue().expiresAt > now) {
+          return;
+        }
+        if (next.getValue().completed) {
+          completed.remove(next.getKey());
+        }
+        iterator.remove();
+      }
+    }
+
+    /**
+     * 가장 오래된 처리 완료 키 제거 (처리 중인 키만 있으면 false)
+     */
+    private boolean evictCompleted() {
+      Iterator<String> iterator = completed.keySet().iterator();
+      if (!iterator.hasNext()) {
+        return false;
+      }
+      entries.remove(iterator.next());
+      iterator.remove();
+      return true;
+    }
+  }
+
+  private static final class Entry {
+
+    private final long expiresAt;
+    private boolean completed;
+
+    private Entry(long expiresAt) {
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.customexception.idempotency;
+
+/**
+ * 저장소가 처리 중인 키로 가득 차 새 키를 등록할 수 없음 (503, SERVICE_UNAVAILABLE)
+ *
+ * <p>부하가 몰릴 때 던지므로 스택 트레이스 없는 공유 인스턴스를 사용한다.
+ */
+public final class IdempotencyKeyStoreFullException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  static final IdempotencyKeyStoreFullException INSTANCE = new IdempotencyKeyStoreFullException();
+
+  private IdempotencyKeyStoreFullException() {
+    super("Idempotency key store is full", null, false, false);
+  }
+}
@@ -0,0 +1,30 @@
+package com.example.customexception.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * 에러 코드별 누적 건수 (주기 이벤트, 건수가 있는 코드만)
+ */
+@Name("com.example.customexception.ErrorCounts")
+@Label("Error Counts")
+@Category("Custom Exception")
+@Description("ErrorMetrics의 에러 코드별 누적 건수와 이전 이벤트 이후 증가량")
+@StackTrace(false)
+@Period("10 s")
+public class ErrorCountsEvent extends Event {
+
+  @Label("Response Code")
+  String code;
+
+  @Label("Count")
+  long count;
+
+  @Label("Delta")
+  long delta;
+}
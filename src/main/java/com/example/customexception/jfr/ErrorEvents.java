@@ -0,0 +1,66 @@
+package com.example.customexception.jfr;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.metrics.ErrorMetrics;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * ErrorCountsEvent 주기 이벤트 등록 (건수는 ErrorMetrics 값)
+ *
+ * <p>주기 이벤트 hook은 JFR 스레드 하나에서만 실행되므로 이전 건수 배열은 동기화하지 않는다. 비활성화하면 두 이벤트 모두
+ * 등록 해제해 기록 설정과 관계없이 기록하지 않는다.
+ */
+public class ErrorEvents implements AutoCloseable {
+
+  private final ErrorMetrics errorMetrics;
+  private final ResponseCodeRegistry responseCodeRegistry;
+  private final long[] previous;
+  private final Runnable hook = this::emitCounts;
+  private final boolean enabled;
+
+  public ErrorEvents(
+      boolean enabled,
+      ErrorMetrics errorMetrics,
+      ResponseCodeRegistry responseCodeRegistry) {
+    this.enabled = enabled;
+    this.errorMetrics = errorMetrics;
+    this.responseCodeRegistry = responseCodeRegistry;
+    this.previous = new long[responseCodeRegistry.size()];
+    if (enabled) {
+      // 등록 해제는 JVM 전역이므로 이전에 비활성화로 해제된 이벤트를 다시 등록
+      FlightRecorder.register(ErrorHandledEvent.class);
+      FlightRecorder.register(ErrorCountsEvent.class);
+      FlightRecorder.addPeriodicEvent(ErrorCountsEvent.class, hook);
+    } else {
+      FlightRecorder.unregister(ErrorHandledEvent.class);
+      FlightRecorder.unregister(ErrorCountsEvent.class);
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public void close() {
+    if (enabled) {
+      FlightRecorder.removePeriodicEvent(hook);
+    }
+  }
+
+  private void emitCounts() {
+    for (ErrorCode errorCode : responseCodeRegistry.getErrorCodes()) {
+      long count = errorMetrics.countOf(errorCode);
+      if (count == 0) {
+        continue;
+      }
+      ErrorCountsEvent event = new ErrorCountsEvent();
+      event.code = errorCode.getCode();
+      event.count = count;
+      event.delta = count - previous[errorCode.getIndex()];
+      event.commit();
+      previous[errorCode.getIndex()] = count;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.customexception.jfr;
+
+import com.example.customexception.constant.ErrorCode;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.http.HttpStatus;
+
+/**
+ * ExceptionAspect가 처리한 에러 1건 (duration은 핸들러 처리 시간)
+ *
+ * <p>기록 중이 아니면 shouldCommit이 false이므로 필드를 채우지 않는다.
+ */
+@Name("com.example.customexception.ErrorHandled")
+@Label("Error Handled")
+@Category("Custom Exception")
+@Description("ExceptionAspect에서 처리한 예외")
+@StackTrace(false)
+public class ErrorHandledEvent extends Event {
+
+  @Label("Exception Class")
+  Class<?> exceptionClass;
+
+  @Label("Response Code")
+  String code;
+
+  @Label("HTTP Status")
+  int httpStatus;
+
+  @Label("Method")
+  String method;
+
+  @Label("Path")
+  String path;
+
+  @Label("Handler")
+  String handler;
+
+  /**
+   * 기록 중이면 필드를 채워 commit
+   */
+  public void commit(Class<?> exceptionClass, ErrorCode errorCode, HttpStatus httpStatus,
+      String method, String path, String handler) {
+    if (!shouldCommit()) {
+      return;
+    }
+    this.exceptionClass = exceptionClass;
+    this.code = errorCode.getCode();
+    this.httpStatus = httpStatus.value();
+    this.method = method;
+    this.path = path;
+    this.handler = handler;
+    commit();
+  }
+}
@@ -0,0 +1,297 @@
+package com.example.customexception.journal;
+
+import com.example.customexception.config.JournalProperties;
+import com.example.customexception.config.JournalProperties.Fsync;
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 처리한 에러를 memory-mapped segment 파일에 추가 기록하는 바이너리 journal (형식은 JournalFormat)
+ *
+ * <p>에러 코드는 int, method, path, 예외 클래스 이름은 사전 ID로 기록하므로 레코드 하나는 고정 25byte이며 텍스트 로그처럼
+ * 포매팅하거나 출력 스트림을 거치지 않는다. segment가 가득 차거나 rotateInterval이 지나면 새 segment로 교체하고,
+ * maxSegments를 넘는 오래된 segment는 삭제한다. 사전은 segment마다 새로 만들므로 maxStrings를 넘는 문자열("?")은 그
+ * segment 안에서만 생긴다. 기록 위치와 사전은 ReentrantLock으로 보호하며, 같은 문자열의 두 번째 사용부터는 사전 조회만
+ * 하므로 객체를 할당하지 않는다. 파일 오류는 요청 처리에 영향을 주지 않도록 기록을 버리고 센다.
+ */
+@Slf4j
+public class ErrorJournal implements AutoCloseable {
+
+  /**
+   * 최대 길이 문자열 3개와 레코드 1개가 들어가는 최소 segment 크기
+   */
+  private static final int MIN_SEGMENT_BYTES = 64 * 1024;
+
+  private final boolean enabled;
+  private final Clock clock;
+  private final Path directory;
+  private final int segmentBytes;
+  private final long rotateMillis;
+  private final Fsync fsync;
+  private final int maxSegments;
+  private final int maxStrings;
+
+  /**
+   * 에러 코드 int 값 (ErrorCode index 기준)
+   */
+  private final int[] codes;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Map<String, Integer> ids = new HashMap<>();
+  private final List<byte[]> strings = new ArrayList<>();
+  private final BitSet defined;
+  private final LongAdder dropped = new LongAdder();
+
+  private FileChannel channel;
+  private MappedByteBuffer buffer;
+  private long sequence;
+  private long segmentStart;
+  private int position;
+  private boolean closed;
+
+  public ErrorJournal(
+      JournalProperties journalProperties,
+      Clock clock,
+      ResponseCodeRegistry responseCodeRegistry) {
+    this.enabled = journalProperties.isEnabled();
+    this.clock = clock;
+    this.directory = Paths.get(journalProperties.getDirectory());
+    this.segmentBytes = Math.max(MIN_SEGMENT_BYTES,
+        Math.toIntExact(journalProperties.getSegmentSize().toBytes()));
+    this.rotateMillis = journalProperties.getRotateInterval().toMillis();
+    this.fsync = journalProperties.getFsync();
+    this.maxSegments = Math.max(1, journalProperties.getMaxSegments());
+    this.maxStrings = journalProperties.getMaxStrings();
+    this.defined = new BitSet(maxStrings + 1);
+    this.strings.add(JournalFormat.UNKNOWN.getBytes(StandardCharsets.UTF_8));
+
+    this.codes = new int[responseCodeRegistry.size()];
+    for (ErrorCode errorCode : responseCodeRegistry.getErrorCodes()) {
+      codes[errorCode.getIndex()] = Integer.parseInt(errorCode.getCode());
+    }
+
+    if (enabled) {
+      try {
+        Files.createDirectories(directory);
+        sequence = lastSequence();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Cannot open error journal : " + directory, e);
+      }
+    }
+  }
+
+  /**
+   * 에러 기록
+   */
+  public void append(ErrorCode errorCode, String method, String path, Class<?> exceptionType) {
+    if (!enabled) {
+      return;
+    }
+    long now = clock.millis();
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      if (buffer == null || now - segmentStart >= rotateMillis) {
+        rotate(now);
+      }
+      String exceptionName = exceptionType.getName();
+      int methodId = idOf(method);
+      int pathId = idOf(path);
+      int exceptionId = idOf(exceptionName);
+      int required = JournalFormat.EVENT_SIZE + 1
+          + undefinedSize(methodId) + undefinedSize(pathId) + undefinedSize(exceptionId);
+      if (position + required > segmentBytes) {
+        // 새 segment는 사전을 비우므로 ID를 다시 부여
+        rotate(now);
+        methodId = idOf(method);
+        pathId = idOf(path);
+        exceptionId = idOf(exceptionName);
+      }
+
+      int start = position;
+      define(methodId);
+      define(pathId);
+      define(exceptionId);
+      int offset = position;
+      buffer.putInt(offset + 1, codes[errorCode.getIndex()]);
+      buffer.putLong(offset + 5, now);
+      buffer.putInt(offset + 13, methodId);
+      buffer.putInt(offset + 17, pathId);
+      buffer.putInt(offset + 21, exceptionId);
+      buffer.put(offset, JournalFormat.EVENT);
+      position = offset + JournalFormat.EVENT_SIZE;
+
+      if (fsync == Fsync.ALWAYS) {
+        buffer.force(start, position - start);
+      }
+    } catch (IOException | RuntimeException e) {
+      dropped.increment();
+      log.warn("Error journal append failed : {}", e.toString());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /**
+   * 파일 오류로 기록하지 못한 에러 수
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      closeSegment();
+    } catch (IOException e) {
+      log.warn("Error journal close failed : {}", e.toString());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 문자열 사전 ID (사전이 가득 차면 UNKNOWN_ID)
+   */
+  private int idOf(String value) {
+    if (value == null) {
+      return JournalFormat.UNKNOWN_ID;
+    }
+    Integer id = ids.get(value);
+    if (id != null) {
+      return id;
+    }
+    if (ids.size() >= maxStrings) {
+      return JournalFormat.UNKNOWN_ID;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > JournalFormat.MAX_STRING_BYTES) {
+      return JournalFormat.UNKNOWN_ID;
+    }
+    int newId = strings.size();
+    strings.add(bytes);
+    ids.put(value, newId);
+    return newId;
+  }
+
+  /**
+   * 사전 초기화 (segment마다 문자열을 다시 정의하므로 이전 segment의 문자열을 유지할 필요 없음)
+   */
+  private void clearStrings() {
+    ids.clear();
+    strings.subList(JournalFormat.UNKNOWN_ID + 1, strings.size()).clear();
+    defined.clear();
+  }
+
+  private int undefinedSize(int id) {
+    if (id == JournalFormat.UNKNOWN_ID || defined.get(id)) {
+      return 0;
+    }
+    return JournalFormat.STRING_HEADER_SIZE + strings.get(id).length;
+  }
+
+  private void define(int id) {
+    if (id == JournalFormat.UNKNOWN_ID || defined.get(id)) {
+      return;
+    }
+    byte[] bytes = strings.get(id);
+    int offset = position;
+    buffer.putInt(offset + 1, id);
+    buffer.putShort(offset + 5, (short) bytes.length);
+    buffer.put(offset + JournalFormat.STRING_HEADER_SIZE, bytes);
+    buffer.put(offset, JournalFormat.STRING);
+    position = offset + JournalFormat.STRING_HEADER_SIZE + bytes.length;
+    defined.set(id);
+  }
+
+  private void rotate(long now) throws IOException {
+    closeSegment();
+
+    sequence++;
+    Path file = directory.resolve(JournalFormat.segmentName(sequence));
+    channel = FileChannel.open(file,
+        StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+    buffer.putInt(0, JournalFormat.MAGIC);
+    buffer.putShort(4, JournalFormat.VERSION);
+    buffer.putLong(8, now);
+    position = JournalFormat.HEADER_SIZE;
+    segmentStart = now;
+    clearStrings();
+
+    deleteOldSegments();
+  }
+
+  /**
+   * 현재 segment 동기화 후 기록한 길이로 자름 (mapping 해제 전 자를 수 없는 OS에서는 끝 표시로 구분)
+   */
+  private void closeSegment() throws IOException {
+    if (channel == null) {
+      return;
+    }
+    try {
+      if (fsync != Fsync.NONE) {
+        buffer.force();
+      }
+      try {
+        channel.truncate(position + 1L);
+      } catch (IOException e) {
+        log.debug("Error journal segment not truncated : {}", e.toString());
+      }
+    } finally {
+      channel.close();
+      channel = null;
+      buffer = null;
+    }
+  }
+
+  private long lastSequence() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.mapToLong(JournalFormat::sequenceOf).max().orElse(0);
+    }
+  }
+
+  private void deleteOldSegments() throws IOException {
+    List<Path> segments;
+    try (Stream<Path> files = Files.list(directory)) {
+      segments = files.filter(file -> JournalFormat.sequenceOf(file) >= 0)
+          .sorted()
+          .collect(Collectors.toList());
+    }
+    for (int i = 0; i < segments.size() - maxSegments; i++) {
+      Files.deleteIfExists(segments.get(i));
+    }
+  }
+}
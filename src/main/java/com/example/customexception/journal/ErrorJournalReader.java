@@ -0,0 +1,214 @@
+package com.example.customexception.journal;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * journal segment 파일을 읽어 레코드 출력, 필터, 집계 (오프라인 분석용)
+ *
+ * <pre>
+ * java -cp custom-exception.jar \
+ *     -Dloader.main=com.example.customexception.journal.ErrorJournalReader \
+ *     org.springframework.boot.loader.PropertiesLauncher journal \
+ *     [--code 804] [--path-prefix /api] [--from 2022-06-01T00:00:00Z] [--to 1654041845000] \
+ *     [--aggregate code|method|path|exception]
+ * </pre>
+ */
+public final class ErrorJournalReader {
+
+  private ErrorJournalReader() {
+  }
+
+  /**
+   * 디렉터리의 segment 파일 (번호순), 파일이면 그 파일만
+   */
+  public static List<Path> segments(Path path) throws IOException {
+    if (!Files.isDirectory(path)) {
+      return List.of(path);
+    }
+    try (Stream<Path> files = Files.list(path)) {
+      return files.filter(file -> JournalFormat.sequenceOf(file) >= 0)
+          .sorted()
+          .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * segment 하나의 레코드를 기록 순서대로 전달 (기록 중이거나 잘린 레코드에서 중단)
+   */
+  public static void read(Path segment, Consumer<JournalEvent> consumer) throws IOException {
+    try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < JournalFormat.HEADER_SIZE) {
+        return;
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      buffer.order(ByteOrder.BIG_ENDIAN);
+      if (buffer.getInt(0) != JournalFormat.MAGIC
+          || buffer.getShort(4) != JournalFormat.VERSION) {
+        throw new IOException("Not an error journal segment : " + segment);
+      }
+
+      Map<Integer, String> strings = new HashMap<>();
+      strings.put(JournalFormat.UNKNOWN_ID, JournalFormat.UNKNOWN);
+      int position = JournalFormat.HEADER_SIZE;
+      int limit = buffer.limit();
+      while (position < limit) {
+        byte type = buffer.get(position);
+        if (type == JournalFormat.STRING) {
+          if (position + JournalFormat.STRING_HEADER_SIZE > limit) {
+            return;
+          }
+          int id = buffer.getInt(position + 1);
+          int length = buffer.getShort(position + 5);
+          int start = position + JournalFormat.STRING_HEADER_SIZE;
+          if (length < 0 || start + length > limit) {
+            return;
+          }
+          byte[] bytes = new byte[length];
+          buffer.get(start, bytes);
+          strings.put(id, new String(bytes, StandardCharsets.UTF_8));
+          position = start + length;
+        } else if (type == JournalFormat.EVENT) {
+          if (position + JournalFormat.EVENT_SIZE > limit) {
+            return;
+          }
+          consumer.accept(new JournalEvent(
+              buffer.getInt(position + 1),
+              buffer.getLong(position + 5),
+              strings.getOrDefault(buffer.getInt(position + 13), JournalFormat.UNKNOWN),
+              strings.getOrDefault(buffer.getInt(position + 17), JournalFormat.UNKNOWN),
+              strings.getOrDefault(buffer.getInt(position + 21), JournalFormat.UNKNOWN)));
+          position += JournalFormat.EVENT_SIZE;
+        } else {
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * 조건에 맞는 레코드를 모든 segment에서 읽음
+   */
+  public static void read(Path path, Predicate<JournalEvent> filter,
+      Consumer<JournalEvent> consumer) throws IOException {
+    for (Path segment : segments(path)) {
+      read(segment, event -> {
+        if (filter.test(event)) {
+          consumer.accept(event);
+        }
+      });
+    }
+  }
+
+  /**
+   * key별 레코드 수 (key 순)
+   */
+  public static Map<String, Long> aggregate(Path path, Predicate<JournalEvent> filter,
+      Function<JournalEvent, String> key) throws IOException {
+    Map<String, Long> counts = new TreeMap<>();
+    read(path, filter, event -> counts.merge(key.apply(event), 1L, Long::sum));
+    return counts;
+  }
+
+  /**
+   * 모든 segment의 레코드 (기록 순서)
+   */
+  public static List<JournalEvent> readAll(Path path) throws IOException {
+    List<JournalEvent> events = new ArrayList<>();
+    read(path, event -> true, events::add);
+    return events;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length == 0) {
+      System.err.println("usage: ErrorJournalReader <directory|segment> [--code CODE]"
+          + " [--path-prefix PREFIX] [--from TIME] [--to TIME]"
+          + " [--aggregate code|method|path|exception]");
+      System.exit(2);
+    }
+    Path path = Paths.get(args[0]);
+    Predicate<JournalEvent> filter = event -> true;
+    String aggregate = null;
+    for (int i = 1; i + 1 < args.length; i += 2) {
+      String value = args[i + 1];
+      switch (args[i]) {
+        case "--code":
+          int code = Integer.parseInt(value);
+          filter = filter.and(event -> event.getCode() == code);
+          break;
+        case "--path-prefix":
+          filter = filter.and(event -> event.getPath().startsWith(value));
+          break;
+        case "--from":
+          long from = parseTime(value);
+          filter = filter.and(event -> event.getEpochMillis() >= from);
+          break;
+        case "--to":
+          long to = parseTime(value);
+          filter = filter.and(event -> event.getEpochMillis() < to);
+          break;
+        case "--aggregate":
+          aggregate = value;
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown option : " + args[i]);
+      }
+    }
+
+    PrintStream out = System.out;
+    if (aggregate == null) {
+      read(path, filter, event -> out.println(format(event)));
+      return;
+    }
+    aggregate(path, filter, keyOf(aggregate))
+        .forEach((key, count) -> out.println(count + "\t" + key));
+  }
+
+  static String format(JournalEvent event) {
+    return Instant.ofEpochMilli(event.getEpochMillis()) + "\t" + event.getCode() + "\t"
+        + event.getMethod() + "\t" + event.getPath() + "\t" + event.getException();
+  }
+
+  private static Function<JournalEvent, String> keyOf(String aggregate) {
+    switch (aggregate) {
+      case "code":
+        return event -> String.valueOf(event.getCode());
+      case "method":
+        return JournalEvent::getMethod;
+      case "path":
+        return JournalEvent::getPath;
+      case "exception":
+        return JournalEvent::getException;
+      default:
+        throw new IllegalArgumentException("Unknown aggregate : " + aggregate);
+    }
+  }
+
+  /**
+   * ISO-8601 시각 또는 epoch ms
+   */
+  private static long parseTime(String value) {
+    return value.chars().allMatch(Character::isDigit)
+        ? Long.parseLong(value) : Instant.parse(value).toEpochMilli();
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.customexception.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * journal에서 읽은 에러 레코드
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class JournalEvent {
+
+  private final int code;
+  private final long epochMillis;
+  private final String method;
+  private final String path;
+  private final String exception;
+}
@@ -0,0 +1,55 @@
+package com.example.customexception.journal;
+
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * journal segment 파일 형식
+ *
+ * <pre>
+ * header  : magic(int) version(short) reserved(short) createdAt(long, epoch ms)
+ * STRING  : type(byte=1) id(int) length(short) UTF-8 bytes
+ * EVENT   : type(byte=2) code(int) timestamp(long, epoch ms) methodId(int) pathId(int)
+ *           exceptionId(int)
+ * 끝      : type(byte=0)
+ * </pre>
+ *
+ * <p>문자열 ID는 segment마다 처음 사용하기 전에 STRING 레코드로 정의하므로 segment 하나만으로 읽을 수 있다. ID 0은
+ * 사전이 가득 차 기록하지 못한 문자열이다. 레코드는 본문을 먼저 쓰고 type을 마지막에 쓰므로 기록 중인 레코드는 끝으로
+ * 읽힌다.
+ */
+final class JournalFormat {
+
+  static final int MAGIC = 0x454A4E4C;
+  static final short VERSION = 1;
+  static final int HEADER_SIZE = 16;
+
+  static final byte END = 0;
+  static final byte STRING = 1;
+  static final byte EVENT = 2;
+
+  static final int STRING_HEADER_SIZE = 1 + 4 + 2;
+  static final int EVENT_SIZE = 1 + 4 + 8 + 4 + 4 + 4;
+
+  static final int MAX_STRING_BYTES = 1024;
+  static final int UNKNOWN_ID = 0;
+  static final String UNKNOWN = "?";
+
+  private static final Pattern SEGMENT_NAME = Pattern.compile("errors-(\\d{19})\\.journal");
+
+  private JournalFormat() {
+  }
+
+  static String segmentName(long sequence) {
+    return String.format("errors-%019d.journal", sequence);
+  }
+
+  /**
+   * segment 파일 번호 (segment 파일이 아니면 -1)
+   */
+  static long sequenceOf(Path file) {
+    Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+    return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+  }
+}
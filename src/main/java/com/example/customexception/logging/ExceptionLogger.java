@@ -0,0 +1,214 @@
+package com.example.customexception.logging;
+
+import com.example.customexception.config.LoggingProperties;
+import com.example.customexception.config.LoggingProperties.Policy;
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCode;
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.logging.LogLevel;
+
+/**
+ * ExceptionAspect 예외 로그 출력
+ *
+ * <p>sampled 모드에서는 예외 타입, ResponseCode, 상위 스택 프레임으로 fingerprint를 만들고, window마다 fingerprint별
+ * 첫 번째 예외만 스택 트레이스를 출력한다. 나머지는 sampleRate 비율로 한 줄 출력하거나 건수만 세어 두었다가 요약으로 출력한다.
+ */
+@Slf4j
+public class ExceptionLogger {
+
+  private final Clock clock;
+  private final boolean sampled;
+  private final long windowMillis;
+  private final int topFrames;
+  private final int maxFingerprints;
+  private final Policy defaultPolicy;
+  private final Policy[] policies;
+
+  private final ConcurrentHashMap<Long, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+  private final LongAdder overflow = new LongAdder();
+
+  public ExceptionLogger(Clock clock, LoggingProperties loggingProperties) {
+    this.clock = clock;
+    this.sampled = loggingProperties.isSampled();
+    this.windowMillis = loggingProperties.getWindow().toMillis();
+    this.topFrames = loggingProperties.getTopFrames();
+    this.maxFingerprints = loggingProperties.getMaxFingerprints();
+    this.defaultPolicy = loggingProperties.getDefaultPolicy();
+    this.policies = new Policy[ResponseCode.values().length];
+    for (ResponseCode responseCode : ResponseCode.values()) {
+      this.policies[responseCode.ordinal()] = loggingProperties.getCodes()
+          .getOrDefault(responseCode, defaultPolicy);
+    }
+  }
+
+  /**
+   * 예외 로그 출력
+   */
+  public void log(String handler, ErrorCode responseCode, Throwable e) {
+    if (responseCode == null) {
+      responseCode = ResponseCode.CUSTOM_EXCEPTION;
+    }
+    Policy policy = policyOf(responseCode);
+    LogLevel level = policy.getLevel();
+    if (!isEnabled(level)) {
+      return;
+    }
+
+    if (!sampled) {
+      writeException(level, handler, e, true);
+      return;
+    }
+
+    long key = fingerprint(responseCode, e);
+    Fingerprint fingerprint = fingerprints.get(key);
+    if (fingerprint == null) {
+      if (fingerprints.size() >= maxFingerprints) {
+        overflow.increment();
+        return;
+      }
+      ErrorCode code = responseCode;
+      fingerprint = fingerprints.computeIfAbsent(
+          key, k -> new Fingerprint(handler, code, e.getClass().getName()));
+    }
+
+    long now = clock.millis();
+    long windowStart = fingerprint.windowStart.get();
+    if (now - windowStart >= windowMillis
+        && fingerprint.windowStart.compareAndSet(windowStart, now)) {
+      writeSummary(fingerprint, level);
+      writeException(level, handler, e, true);
+    } else if (policy.getSampleRate() > 0
+        && ThreadLocalRandom.current().nextDouble() < policy.getSampleRate()) {
+      writeException(level, handler, e, false);
+    } else {
+      fingerprint.suppressed.increment();
+    }
+  }
+
+  /**
+   * 생략된 예외 요약 출력 및 오래된 fingerprint 정리
+   */
+  public void flushSummaries() {
+    long now = clock.millis();
+    for (Iterator<Fingerprint> iterator = fingerprints.values().iterator(); iterator.hasNext(); ) {
+      Fingerprint fingerprint = iterator.next();
+      writeSummary(fingerprint, policyOf(fingerprint.responseCode).getLevel());
+      if (now - fingerprint.windowStart.get() >= windowMillis * 2
+          && fingerprint.suppressed.sum() == 0) {
+        iterator.remove();
+      }
+    }
+
+    long overflowCount = overflow.sumThenReset();
+    if (overflowCount > 0) {
+      log.warn("ExceptionLogger : {} exceptions not logged (more than {} fingerprints)",
+          overflowCount, maxFingerprints);
+    }
+  }
+
+  public int fingerprintCount() {
+    return fingerprints.size();
+  }
+
+  /**
+   * 예외 타입, ResponseCode, 상위 스택 프레임 해시
+   */
+  long fingerprint(ErrorCode responseCode, Throwable e) {
+    long hash = e.getClass().getName().hashCode();
+    hash = hash * 31 + responseCode.getIndex();
+    StackTraceElement[] stackTrace = e.getStackTrace();
+    int frames = Math.min(topFrames, stackTrace.length);
+    for (int i = 0; i < frames; i++) {
+      hash = hash * 31 + stackTrace[i].hashCode();
+    }
+    return hash;
+  }
+
+  /**
+   * ResponseCode별 정책 (외부 정의 코드는 기본 정책)
+   */
+  private Policy policyOf(ErrorCode errorCode) {
+    return errorCode instanceof ResponseCode
+        ? policies[((ResponseCode) errorCode).ordinal()] : defaultPolicy;
+  }
+
+  private void writeSummary(Fingerprint fingerprint, LogLevel level) {
+    long suppressed = fingerprint.suppressed.sumThenReset();
+    if (suppressed > 0) {
+      write(level, "{} : {} [{}] suppressed {} times",
+          fingerprint.handler, fingerprint.exceptionClass,
+          fingerprint.responseCode.getCode(), suppressed);
+    }
+  }
+
+  private void writeException(
+      LogLevel level, String handler, Throwable e, boolean withStackTrace) {
+    if (withStackTrace) {
+      write(level, "{} : {}", handler, e.toString(), e);
+    } else {
+      write(level, "{} : {}", handler, e.toString());
+    }
+  }
+
+  private static boolean isEnabled(LogLevel level) {
+    switch (level) {
+      case TRACE:
+        return log.isTraceEnabled();
+      case DEBUG:
+        return log.isDebugEnabled();
+      case INFO:
+        return log.isInfoEnabled();
+      case WARN:
+        return log.isWarnEnabled();
+      case ERROR:
+      case FATAL:
+        return log.isErrorEnabled();
+      default:
+        return false;
+    }
+  }
+
+  private static void write(LogLevel level, String format, Object... arguments) {
+    switch (level) {
+      case TRACE:
+        log.trace(format, arguments);
+        break;
+      case DEBUG:
+        log.debug(format, arguments);
+        break;
+      case INFO:
+        log.info(format, arguments);
+        break;
+      case WARN:
+        log.warn(format, arguments);
+        break;
+      case ERROR:
+      case FATAL:
+        log.error(format, arguments);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private static final class Fingerprint {
+
+    private final String handler;
+    private final ErrorCode responseCode;
+    private final String exceptionClass;
+    private final AtomicLong windowStart = new AtomicLong(Long.MIN_VALUE / 2);
+    private final LongAdder suppressed = new LongAdder();
+
+    private Fingerprint(String handler, ErrorCode responseCode, String exceptionClass) {
+      this.handler = handler;
+      this.responseCode = responseCode;
+      this.exceptionClass = exceptionClass;
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.example.customexception.metrics;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 에러 코드, HTTP 상태, 핸들러별 에러 건수 및 처리 시간
+ *
+ * <p>카운터는 LongAdder 셀로 분산되어 요청 스레드 간 경합 없이 증가하며, 기록 시 에러 코드와 HTTP 상태는 배열 인덱스로
+ * 조회하므로 객체를 할당하지 않는다.
+ */
+public class ErrorMetrics {
+
+  private static final int MAX_STATUS = 600;
+
+  private final boolean enabled;
+  private final ResponseCodeRegistry responseCodeRegistry;
+  private final LongAdder[] byCode;
+  private final LongAdder[] byStatus = new LongAdder[MAX_STATUS];
+  private final ConcurrentHashMap<String, HandlerMetrics> byHandler = new ConcurrentHashMap<>();
+
+  public ErrorMetrics(boolean enabled, ResponseCodeRegistry responseCodeRegistry) {
+    this.enabled = enabled;
+    this.responseCodeRegistry = responseCodeRegistry;
+    this.byCode = new LongAdder[responseCodeRegistry.size()];
+    for (int i = 0; i < byCode.length; i++) {
+      byCode[i] = new LongAdder();
+    }
+    for (int i = 0; i < MAX_STATUS; i++) {
+      byStatus[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * 에러 처리 결과 기록
+   */
+  public void record(String handler, ErrorCode errorCode, HttpStatus httpStatus, long nanos) {
+    if (!enabled) {
+      return;
+    }
+    byCode[errorCode.getIndex()].increment();
+    byStatus[httpStatus.value()].increment();
+    HandlerMetrics handlerMetrics = byHandler.get(handler);
+    if (handlerMetrics == null) {
+      handlerMetrics = byHandler.computeIfAbsent(handler, key -> new HandlerMetrics());
+    }
+    handlerMetrics.latency.record(nanos);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public long countOf(ErrorCode errorCode) {
+    return byCode[errorCode.getIndex()].sum();
+  }
+
+  /**
+   * 현재 값 조회
+   */
+  public ErrorMetricsSnapshot snapshot() {
+    Map<String, Long> codes = new LinkedHashMap<>();
+    for (ErrorCode errorCode : responseCodeRegistry.getErrorCodes()) {
+      long count = byCode[errorCode.getIndex()].sum();
+      if (count > 0) {
+        codes.put(errorCode.getCode(), count);
+      }
+    }
+
+    Map<String, Long> statuses = new LinkedHashMap<>();
+    for (int status = 0; status < MAX_STATUS; status++) {
+      long count = byStatus[status].sum();
+      if (count > 0) {
+        statuses.put(String.valueOf(status), count);
+      }
+    }
+
+    Map<String, ErrorMetricsSnapshot.Handler> handlers = new LinkedHashMap<>();
+    byHandler.forEach((handler, handlerMetrics) -> {
+      LatencyHistogram latency = handlerMetrics.latency;
+      long count = latency.getCount();
+      handlers.put(handler, new ErrorMetricsSnapshot.Handler(
+          count,
+          count == 0 ? 0L : latency.getTotalNanos() / count,
+          latency.percentile(0.5),
+          latency.percentile(0.9),
+          latency.percentile(0.99),
+          latency.getMaxNanos()));
+    });
+
+    return new ErrorMetricsSnapshot(codes, statuses, handlers);
+  }
+
+  private static final class HandlerMetrics {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.customexception.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ErrorMetricsSnapshot {
+
+  @JsonProperty("codes")
+  private Map<String, Long> codes;
+
+  @JsonProperty("statuses")
+  private Map<String, Long> statuses;
+
+  @JsonProperty("handlers")
+  private Map<String, Handler> handlers;
+
+  @Getter
+  @AllArgsConstructor
+  public static class Handler {
+
+    @JsonProperty("count")
+    private long count;
+
+    @JsonProperty("mean_nanos")
+    private long meanNanos;
+
+    @JsonProperty("p50_nanos")
+    private long p50Nanos;
+
+    @JsonProperty("p90_nanos")
+    private long p90Nanos;
+
+    @JsonProperty("p99_nanos")
+    private long p99Nanos;
+
+    @JsonProperty("max_nanos")
+    private long maxNanos;
+  }
+}
@@ -0,0 +1,83 @@
+package com.example.customexception.metrics;
+
+import com.example.customexception.constant.ErrorCode;
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 에러가 많이 발생한 경로, 에러 코드, 클라이언트 IP 상위 목록 (TopKSketch, 고정 메모리)
+ *
+ * <p>decayInterval마다 모든 카운터를 절반으로 줄여 최근 에러에 가중치를 둔다. 감쇠는 주기가 바뀐 뒤 처음 기록하는
+ * 스레드 하나만 수행한다.
+ */
+public class HeavyHitters {
+
+  private final boolean enabled;
+  private final Clock clock;
+  private final long decayMillis;
+  private final AtomicLong epoch;
+
+  private final TopKSketch paths;
+  private final TopKSketch codes;
+  private final TopKSketch clients;
+
+  public HeavyHitters(
+      boolean enabled,
+      Clock clock,
+      int topK,
+      int depth,
+      int width,
+      long decayMillis) {
+    this.enabled = enabled;
+    this.clock = clock;
+    this.decayMillis = Math.max(1, decayMillis);
+    this.epoch = new AtomicLong(clock.millis() / this.decayMillis);
+    this.paths = new TopKSketch(topK, depth, width);
+    this.codes = new TopKSketch(topK, depth, width);
+    this.clients = new TopKSketch(topK, depth, width);
+  }
+
+  /**
+   * 에러 기록 (path, client가 null이면 해당 항목 제외)
+   */
+  public void record(ErrorCode errorCode, String path, String client) {
+    if (!enabled) {
+      return;
+    }
+    decayIfElapsed();
+    codes.add(errorCode.getCode());
+    if (path != null) {
+      paths.add(path);
+    }
+    if (client != null) {
+      clients.add(client);
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 항목별 상위 limit개 (추정 건수 내림차순)
+   */
+  public HeavyHittersSnapshot snapshot(int limit) {
+    decayIfElapsed();
+    return new HeavyHittersSnapshot(
+        paths.top(limit),
+        codes.top(limit),
+        clients.top(limit),
+        decayMillis / 1000);
+  }
+
+  private void decayIfElapsed() {
+    long now = clock.millis() / decayMillis;
+    long current = epoch.get();
+    if (now > current && epoch.compareAndSet(current, now)) {
+      int shift = (int) Math.min(63, now - current);
+      paths.decay(shift);
+      codes.decay(shift);
+      clients.decay(shift);
+    }
+  }
+}
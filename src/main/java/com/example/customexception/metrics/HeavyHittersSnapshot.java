@@ -0,0 +1,37 @@
+package com.example.customexception.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HeavyHittersSnapshot {
+
+  @JsonProperty("paths")
+  private List<Entry> paths;
+
+  @JsonProperty("codes")
+  private List<Entry> codes;
+
+  @JsonProperty("clients")
+  private List<Entry> clients;
+
+  /**
+   * 카운터가 절반으로 줄어드는 주기 (초)
+   */
+  @JsonProperty("half_life_seconds")
+  private long halfLifeSeconds;
+
+  @Getter
+  @AllArgsConstructor
+  public static class Entry {
+
+    @JsonProperty("key")
+    private String key;
+
+    @JsonProperty("count")
+    private long count;
+  }
+}
@@ -0,0 +1,77 @@
+package com.example.customexception.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 나노초 단위 처리 시간 히스토그램 (2의 거듭제곱 버킷)
+ */
+public class LatencyHistogram {
+
+  private static final int BUCKETS = 64;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKETS];
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+  public LatencyHistogram() {
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  public void record(long nanos) {
+    long value = Math.max(0L, nanos);
+    buckets[bucketOf(value)].increment();
+    totalNanos.add(value);
+    maxNanos.accumulate(value);
+  }
+
+  /**
+   * 버킷 i의 범위 - [2^(i-1), 2^i)
+   */
+  static int bucketOf(long nanos) {
+    return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+  }
+
+  public long getCount() {
+    long count = 0;
+    for (LongAdder bucket : buckets) {
+      count += bucket.sum();
+    }
+    return count;
+  }
+
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  public long getMaxNanos() {
+    return maxNanos.get();
+  }
+
+  /**
+   * 백분위 값 (해당 버킷 상한)
+   */
+  public long percentile(double percentile) {
+    long[] counts = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets[i].sum();
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0L;
+    }
+
+    long rank = (long) Math.ceil(total * percentile);
+    long cumulative = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      cumulative += counts[i];
+      if (cumulative >= rank) {
+        return i == 0 ? 0L : Math.min((1L << i) - 1, getMaxNanos());
+      }
+    }
+    return getMaxNanos();
+  }
+}
@@ -0,0 +1,151 @@
+package com.example.customexception.metrics;
+
+import com.example.customexception.constant.ErrorCode;
+import java.lang.invoke.VarHandle;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근 에러 응답을 보관하는 고정 크기 링 버퍼 (에러 코드, 메서드, 경로, timestamp, 예외 클래스)
+ *
+ * <p>버퍼는 stripe별로 나뉘며 요청 스레드는 스레드 ID로 고른 stripe의 cursor만 증가시키므로 스레드 간 경합이 분산된다.
+ * slot은 시작 시 배열로 미리 할당하고 기록 시에는 기존 객체의 참조와 primitive 값만 쓰므로 객체를 할당하지 않는다.
+ * slot마다 version(홀수 - 기록 중, 짝수 - 기록 완료)을 두어 조회 시 version이 바뀐 slot은 건너뛴다(seqlock). 같은
+ * slot을 다른 스레드가 기록 중이거나 더 최근 기록이 있으면 해당 에러는 버리고 dropped로 센다.
+ */
+public class RecentErrors {
+
+  /**
+   * stripe cursor 사이 간격 (long 16개 = 128byte, false sharing 방지)
+   */
+  private static final int CURSOR_PADDING = 16;
+
+  private final boolean enabled;
+  private final Clock clock;
+  private final int stripeMask;
+  private final int slotShift;
+  private final int slotMask;
+
+  private final AtomicLongArray cursors;
+  private final AtomicLongArray versions;
+  private final ErrorCode[] errorCodes;
+  private final String[] methods;
+  private final String[] paths;
+  private final String[] timestamps;
+  private final long[] epochMillis;
+  private final Class<?>[] exceptionTypes;
+  private final LongAdder dropped = new LongAdder();
+
+  /**
+   * capacity, stripes - 2의 거듭제곱으로 올림 (stripe당 slot 수는 capacity / stripes)
+   */
+  public RecentErrors(boolean enabled, Clock clock, int capacity, int stripes) {
+    this.enabled = enabled;
+    this.clock = clock;
+    int capacityPower = ceilingPowerOfTwo(capacity);
+    int stripePower = Math.min(ceilingPowerOfTwo(stripes), capacityPower);
+    int slotsPerStripe = capacityPower / stripePower;
+    this.stripeMask = stripePower - 1;
+    this.slotShift = Integer.numberOfTrailingZeros(slotsPerStripe);
+    this.slotMask = slotsPerStripe - 1;
+
+    this.cursors = new AtomicLongArray(stripePower * CURSOR_PADDING);
+    this.versions = new AtomicLongArray(capacityPower);
+    this.errorCodes = new ErrorCode[capacityPower];
+    this.methods = new String[capacityPower];
+    this.paths = new String[capacityPower];
+    this.timestamps = new String[capacityPower];
+    this.epochMillis = new long[capacityPower];
+    this.exceptionTypes = new Class<?>[capacityPower];
+  }
+
+  /**
+   * 에러 응답 기록
+   */
+  public void publish(
+      ErrorCode errorCode,
+      String method,
+      String path,
+      String timestamp,
+      Class<?> exceptionType) {
+    if (!enabled) {
+      return;
+    }
+    int stripe = (int) Thread.currentThread().getId() & stripeMask;
+    long sequence = cursors.getAndIncrement(stripe * CURSOR_PADDING);
+    int slot = (stripe << slotShift) | (int) (sequence & slotMask);
+
+    long writing = (sequence << 1) | 1;
+    long current = versions.get(slot);
+    if ((current & 1) != 0 || current > writing
+        || !versions.compareAndSet(slot, current, writing)) {
+      dropped.increment();
+      return;
+    }
+    errorCodes[slot] = errorCode;
+    methods[slot] = method;
+    paths[slot] = path;
+    timestamps[slot] = timestamp;
+    epochMillis[slot] = clock.millis();
+    exceptionTypes[slot] = exceptionType;
+    versions.set(slot, writing + 1);
+  }
+
+  /**
+   * 조건에 맞는 최근 에러 (최신순, 조건이 null이면 전체)
+   *
+   * <p>errorCode - 에러 코드, pathPrefix - 경로 접두사, fromMillis - 이 시각(epoch ms) 이후
+   */
+  public RecentErrorsSnapshot query(
+      ErrorCode errorCode,
+      String pathPrefix,
+      long fromMillis,
+      int limit) {
+    List<RecentErrorsSnapshot.Error> errors = new ArrayList<>();
+    for (int slot = 0; slot < versions.length(); slot++) {
+      long version = versions.get(slot);
+      if (version == 0 || (version & 1) != 0) {
+        continue;
+      }
+      ErrorCode code = errorCodes[slot];
+      String method = methods[slot];
+      String path = paths[slot];
+      String timestamp = timestamps[slot];
+      long millis = epochMillis[slot];
+      Class<?> exceptionType = exceptionTypes[slot];
+      VarHandle.acquireFence();
+      if (versions.get(slot) != version) {
+        continue;
+      }
+
+      if ((errorCode == null || errorCode == code)
+          && (pathPrefix == null || path.startsWith(pathPrefix))
+          && millis >= fromMillis) {
+        errors.add(new RecentErrorsSnapshot.Error(
+            code.getCode(), method, path, timestamp, exceptionType.getName(), millis));
+      }
+    }
+
+    errors.sort(Comparator.comparingLong(RecentErrorsSnapshot.Error::getEpochMillis).reversed());
+    if (errors.size() > limit) {
+      errors = new ArrayList<>(errors.subList(0, limit));
+    }
+    return new RecentErrorsSnapshot(errors, versions.length(), dropped.sum());
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public int getCapacity() {
+    return versions.length();
+  }
+
+  private static int ceilingPowerOfTwo(int value) {
+    return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+  }
+}
@@ -0,0 +1,44 @@
+package com.example.customexception.metrics;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecentErrorsSnapshot {
+
+  @JsonProperty("errors")
+  private List<Error> errors;
+
+  @JsonProperty("capacity")
+  private int capacity;
+
+  @JsonProperty("dropped")
+  private long dropped;
+
+  @Getter
+  @AllArgsConstructor
+  public static class Error {
+
+    @JsonProperty("status_code")
+    private String statusCode;
+
+    @JsonProperty("method")
+    private String method;
+
+    @JsonProperty("path")
+    private String path;
+
+    @JsonProperty("timestamp")
+    private String timestamp;
+
+    @JsonProperty("exception")
+    private String exception;
+
+    @JsonIgnore
+    private long epochMillis;
+  }
+}
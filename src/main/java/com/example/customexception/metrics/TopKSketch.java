@@ -0,0 +1,165 @@
+package com.example.customexception.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * count-min sketch와 상위 K개 후보로 빈도가 높은 key를 고정 메모리로 추적
+ *
+ * <p>key별 빈도는 depth x width 카운터 중 key가 해시되는 칸의 최솟값으로 추정하므로 key 종류가 늘어나도 메모리는
+ * 일정하다(과대 추정만 가능). 후보 목록은 추정값이 후보 최솟값(threshold)보다 큰 새 key가 나타날 때만 lock을 잡고
+ * 교체하며, 이미 후보인 key와 threshold 이하인 key는 카운터만 증가시킨다.
+ */
+final class TopKSketch {
+
+  private final int depth;
+  private final int width;
+  private final int widthMask;
+  private final AtomicLongArray counters;
+  private final AtomicReferenceArray<String> keys;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * 후보 등록 최소 추정값 (후보가 가득 차기 전에는 0)
+   */
+  private volatile long threshold;
+
+  /**
+   * width - 2의 거듭제곱으로 올림
+   */
+  TopKSketch(int k, int depth, int width) {
+    this.depth = depth;
+    this.width = width <= 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+    this.widthMask = this.width - 1;
+    this.counters = new AtomicLongArray(depth * this.width);
+    this.keys = new AtomicReferenceArray<>(k);
+  }
+
+  void add(String key) {
+    int hash = key.hashCode();
+    int h1 = spread(hash);
+    int h2 = spread(h1 ^ 0x9E3779B9) | 1;
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      int index = row * width + ((h1 + row * h2) & widthMask);
+      estimate = Math.min(estimate, counters.incrementAndGet(index));
+    }
+    if (estimate <= threshold || contains(key, hash)) {
+      return;
+    }
+    admit(key, hash, estimate);
+  }
+
+  long estimate(String key) {
+    int h1 = spread(key.hashCode());
+    int h2 = spread(h1 ^ 0x9E3779B9) | 1;
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.get(row * width + ((h1 + row * h2) & widthMask)));
+    }
+    return estimate;
+  }
+
+  /**
+   * 모든 카운터를 2^shift로 나눔 (감쇠)
+   */
+  void decay(int shift) {
+    for (int i = 0; i < counters.length(); i++) {
+      long value;
+      do {
+        value = counters.get(i);
+      } while (value != 0 && !counters.compareAndSet(i, value, value >>> shift));
+    }
+    threshold = threshold >>> shift;
+  }
+
+  /**
+   * 추정값이 0보다 큰 후보 (추정값 내림차순)
+   */
+  List<HeavyHittersSnapshot.Entry> top(int limit) {
+    List<HeavyHittersSnapshot.Entry> entries = new ArrayList<>();
+    for (int i = 0; i < keys.length(); i++) {
+      String key = keys.get(i);
+      if (key != null) {
+        long count = estimate(key);
+        if (count > 0) {
+          entries.add(new HeavyHittersSnapshot.Entry(key, count));
+        }
+      }
+    }
+    entries.sort(Comparator.comparingLong(HeavyHittersSnapshot.Entry::getCount).reversed());
+    return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
+  }
+
+  int capacity() {
+    return keys.length();
+  }
+
+  private boolean contains(String key, int hash) {
+    for (int i = 0; i < keys.length(); i++) {
+      String candidate = keys.get(i);
+      if (candidate != null && candidate.hashCode() == hash && candidate.equals(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 빈 자리에 등록하거나 추정값이 가장 작은 후보와 교체
+   */
+  private void admit(String key, int hash, long estimate) {
+    lock.lock();
+    try {
+      if (contains(key, hash)) {
+        return;
+      }
+      int minIndex = -1;
+      long min = Long.MAX_VALUE;
+      for (int i = 0; i < keys.length(); i++) {
+        String candidate = keys.get(i);
+        if (candidate == null) {
+          keys.set(i, key);
+          if (i == keys.length() - 1) {
+            threshold = minEstimate();
+          }
+          return;
+        }
+        long candidateEstimate = estimate(candidate);
+        if (candidateEstimate < min) {
+          min = candidateEstimate;
+          minIndex = i;
+        }
+      }
+      if (estimate > min) {
+        keys.set(minIndex, key);
+        threshold = minEstimate();
+      } else {
+        threshold = min;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private long minEstimate() {
+    long min = Long.MAX_VALUE;
+    for (int i = 0; i < keys.length(); i++) {
+      String candidate = keys.get(i);
+      min = Math.min(min, candidate != null ? estimate(candidate) : 0);
+    }
+    return min;
+  }
+
+  private static int spread(int hash) {
+    hash ^= hash >>> 16;
+    hash *= 0x85EBCA6B;
+    hash ^= hash >>> 13;
+    hash *= 0xC2B2AE35;
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.customexception.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 검증 응답 (ErrorResponse 필드 + 요약 + 요청별 에러)
+ */
+@Getter
+public class BatchErrorResponse extends ErrorResponse {
+
+  @JsonProperty("summary")
+  private final Summary summary;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("errors")
+  private final List<ItemError> errors;
+
+  public BatchErrorResponse(
+      String statusCode,
+      String message,
+      String method,
+      String path,
+      String timestamp,
+      int total,
+      List<ItemError> errors
+  ) {
+    super(statusCode, message, method, path, timestamp);
+    this.summary = new Summary(total, total - errors.size(), errors.size());
+    this.errors = errors;
+  }
+
+  /**
+   * 요약만 포함 (NDJSON 스트리밍 검증의 마지막 레코드)
+   */
+  public BatchErrorResponse(
+      String statusCode,
+      String message,
+      String method,
+      String path,
+      String timestamp,
+      Summary summary
+  ) {
+    super(statusCode, message, method, path, timestamp);
+    this.summary = summary;
+    this.errors = null;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Summary {
+
+    @JsonProperty("total")
+    private final long total;
+
+    @JsonProperty("valid")
+    private final long valid;
+
+    @JsonProperty("invalid")
+    private final long invalid;
+  }
+
+  /**
+   * 요청 인덱스와 필드 에러 메시지 (snake_case 필드:메시지)
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class ItemError {
+
+    @JsonProperty("index")
+    private final int index;
+
+    @JsonProperty("message")
+    private final String message;
+  }
+}
@@ -0,0 +1,115 @@
+package com.example.customexception.response;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.context.MessageSource;
+
+/**
+ * 에러 코드별, Locale별 메시지
+ *
+ * <p>시작 시 지원 Locale과 등록된 에러 코드의 모든 조합을 MessageSource에서 한 번 조회해 불변 테이블로 만든다. 조회 시에는
+ * MessageSource, MessageFormat을 거치지 않고 배열에서 바로 반환하며, 지원하지 않는 Locale은 기본 Locale 메시지를
+ * 반환한다.
+ */
+public class ErrorMessages {
+
+  /**
+   * 메시지 키 접두사 (예: response.code.804)
+   */
+  public static final String KEY_PREFIX = "response.code.";
+
+  private final List<Locale> locales;
+  private final Map<Locale, Integer> localeIndexes;
+  private final Map<String, Integer> languageIndexes;
+  private final int defaultIndex;
+
+  /**
+   * [Locale 인덱스][ErrorCode.getIndex()]
+   */
+  private final String[][] messages;
+
+  /**
+   * 메시지 번들 없이 에러 코드 기본 메시지만 사용
+   */
+  public ErrorMessages(ResponseCodeRegistry responseCodeRegistry) {
+    this(null, responseCodeRegistry, Collections.emptyList(), Locale.KOREAN);
+  }
+
+  public ErrorMessages(
+      MessageSource messageSource,
+      ResponseCodeRegistry responseCodeRegistry,
+      List<Locale> supportedLocales,
+      Locale defaultLocale) {
+    Set<Locale> localeSet = new LinkedHashSet<>();
+    localeSet.add(defaultLocale);
+    localeSet.addAll(supportedLocales);
+    this.locales = Collections.unmodifiableList(new ArrayList<>(localeSet));
+    this.defaultIndex = 0;
+
+    Map<Locale, Integer> localeIndexes = new HashMap<>();
+    Map<String, Integer> languageIndexes = new HashMap<>();
+    this.messages = new String[locales.size()][];
+    for (int i = 0; i < locales.size(); i++) {
+      Locale locale = locales.get(i);
+      localeIndexes.put(locale, i);
+      languageIndexes.putIfAbsent(locale.getLanguage(), i);
+      this.messages[i] = resolve(messageSource, responseCodeRegistry, locale);
+    }
+    this.localeIndexes = Collections.unmodifiableMap(localeIndexes);
+    this.languageIndexes = Collections.unmodifiableMap(languageIndexes);
+  }
+
+  /**
+   * 에러 코드의 Locale별 메시지 (지원하지 않는 Locale은 기본 Locale)
+   */
+  public String messageOf(ErrorCode errorCode, Locale locale) {
+    String[] localized = messages[indexOf(locale)];
+    int index = errorCode.getIndex();
+    return index < localized.length ? localized[index] : errorCode.getMessage();
+  }
+
+  /**
+   * 지원 Locale 목록 (첫 번째가 기본 Locale)
+   */
+  public List<Locale> getLocales() {
+    return locales;
+  }
+
+  /**
+   * Locale 일치 우선, 없으면 언어 일치
+   */
+  private int indexOf(Locale locale) {
+    if (locale == null) {
+      return defaultIndex;
+    }
+    Integer index = localeIndexes.get(locale);
+    if (index == null) {
+      index = languageIndexes.get(locale.getLanguage());
+    }
+    return index != null ? index : defaultIndex;
+  }
+
+  private static String[] resolve(
+      MessageSource messageSource,
+      ResponseCodeRegistry responseCodeRegistry,
+      Locale locale) {
+    String[] resolved = new String[responseCodeRegistry.size()];
+    for (ErrorCode errorCode : responseCodeRegistry.getErrorCodes()) {
+      String message = errorCode.getMessage();
+      if (messageSource != null) {
+        message = messageSource.getMessage(KEY_PREFIX + errorCode.getCode(), null, message,
+            locale);
+      }
+      resolved[errorCode.getIndex()] = message;
+    }
+    return resolved;
+  }
+}
@@ -1,9 +1,7 @@
 package com.example.customexception.response;
 
-import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -39,11 +37,11 @@ public class ErrorResponse {
     this.statusCode = statusCode;
     this.message =
         StringUtils.isNotBlank(message) ? message
-            : ResponseCode.valueOfStatusCode(statusCode).getMessage();
+            : ResponseCodeRegistry.getInstance().messageOf(statusCode);
     this.method = method;
     this.path = path;
     this.timestamp =
         StringUtils.isNotBlank(timestamp) ? timestamp
-            : LocalDateTime.now().format(DateTimeFormatter.ofPattern("YYYYMMDDHHMMSS"));
+            : TimestampProvider.getDefault().now();
   }
 }
\ No newline at end of file
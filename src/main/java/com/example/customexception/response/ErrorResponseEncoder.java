@@ -0,0 +1,255 @@
+package com.example.customexception.response;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+/**
+ * ErrorResponse를 Jackson과 동일한 UTF-8 JSON으로 인코딩
+ *
+ * <p>에러 코드별, Locale별 {"status_code":..,"message":..} 구간을 미리 인코딩해 두고, method, path,
+ * timestamp만 이스케이프하여 이어 붙인다.
+ */
+public class ErrorResponseEncoder {
+
+  private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+  private static final byte[] STATUS_CODE_FIELD = ascii("{\"status_code\":");
+  private static final byte[] MESSAGE_FIELD = ascii(",\"message\":");
+  private static final byte[] METHOD_FIELD = ascii(",\"method\":");
+  private static final byte[] PATH_FIELD = ascii(",\"path\":");
+  private static final byte[] TIMESTAMP_FIELD = ascii(",\"timestamp\":");
+  private static final byte[] NULL = ascii("null");
+
+  private final ResponseCodeRegistry responseCodeRegistry;
+
+  /**
+   * Locale별 메시지 [Locale 인덱스][ErrorCode.getIndex()] (0번은 에러 코드 기본 메시지)
+   */
+  private final String[][] messages;
+
+  /**
+   * messages와 같은 인덱스의 status_code, message 구간
+   */
+  private final byte[][][] prefixes;
+
+  public ErrorResponseEncoder(ResponseCodeRegistry responseCodeRegistry) {
+    this(responseCodeRegistry, new ErrorMessages(responseCodeRegistry));
+  }
+
+  public ErrorResponseEncoder(
+      ResponseCodeRegistry responseCodeRegistry,
+      ErrorMessages errorMessages) {
+    this.responseCodeRegistry = responseCodeRegistry;
+    List<Locale> locales = errorMessages.getLocales();
+    this.messages = new String[locales.size() + 1][responseCodeRegistry.size()];
+    this.prefixes = new byte[locales.size() + 1][responseCodeRegistry.size()][];
+    for (ErrorCode errorCode : responseCodeRegistry.getErrorCodes()) {
+      int index = errorCode.getIndex();
+      messages[0][index] = errorCode.getMessage();
+      for (int i = 0; i < locales.size(); i++) {
+        messages[i + 1][index] = errorMessages.messageOf(errorCode, locales.get(i));
+      }
+      for (int i = 0; i < messages.length; i++) {
+        prefixes[i][index] = encodePrefix(errorCode.getCode(), messages[i][index]);
+      }
+    }
+  }
+
+  /**
+   * ErrorResponse 인코딩
+   */
+  public byte[] encode(ErrorResponse errorResponse) {
+    return encode(
+        errorResponse.getStatusCode(),
+        errorResponse.getMessage(),
+        errorResponse.getMethod(),
+        errorResponse.getPath(),
+        errorResponse.getTimestamp());
+  }
+
+  public byte[] encode(
+      String statusCode,
+      String message,
+      String method,
+      String path,
+      String timestamp) {
+    byte[] prefix = prefixOf(statusCode, message);
+    byte[] out = new byte[encodedLength(prefix, method, path, timestamp)];
+    writeBody(ByteBuffer.wrap(out), prefix, method, path, timestamp);
+    return out;
+  }
+
+  /**
+   * ErrorResponse를 bufferFactory가 할당한 DataBuffer에 바로 인코딩 (중간 byte[] 없음)
+   */
+  public DataBuffer encode(DataBufferFactory bufferFactory, ErrorResponse errorResponse) {
+    byte[] prefix = prefixOf(errorResponse.getStatusCode(), errorResponse.getMessage());
+    int length = encodedLength(
+        prefix, errorResponse.getMethod(), errorResponse.getPath(), errorResponse.getTimestamp());
+
+    DataBuffer buffer = bufferFactory.allocateBuffer(length);
+    int writePosition = buffer.writePosition();
+    writeBody(buffer.asByteBuffer(writePosition, length), prefix,
+        errorResponse.getMethod(), errorResponse.getPath(), errorResponse.getTimestamp());
+    buffer.writePosition(writePosition + length);
+    return buffer;
+  }
+
+  private byte[] prefixOf(String statusCode, String message) {
+    byte[] prefix = cachedPrefix(statusCode, message);
+    return prefix != null ? prefix : encodePrefix(statusCode, message);
+  }
+
+  private static int encodedLength(byte[] prefix, String method, String path, String timestamp) {
+    return prefix.length
+        + METHOD_FIELD.length + valueLength(method)
+        + PATH_FIELD.length + valueLength(path)
+        + TIMESTAMP_FIELD.length + valueLength(timestamp)
+        + 1;
+  }
+
+  private static void writeBody(
+      ByteBuffer out,
+      byte[] prefix,
+      String method,
+      String path,
+      String timestamp) {
+    out.put(prefix);
+    writeValue(out.put(METHOD_FIELD), method);
+    writeValue(out.put(PATH_FIELD), path);
+    writeValue(out.put(TIMESTAMP_FIELD), timestamp);
+    out.put((byte) '}');
+  }
+
+  private byte[] cachedPrefix(String statusCode, String message) {
+    ErrorCode errorCode = responseCodeRegistry.find(statusCode);
+    if (errorCode == null || message == null) {
+      return null;
+    }
+    int index = errorCode.getIndex();
+    for (int i = 0; i < messages.length; i++) {
+      if (message.equals(messages[i][index])) {
+        return prefixes[i][index];
+      }
+    }
+    return null;
+  }
+
+  private static byte[] encodePrefix(String statusCode, String message) {
+    byte[] out = new byte[STATUS_CODE_FIELD.length + valueLength(statusCode)
+        + MESSAGE_FIELD.length + valueLength(message)];
+    ByteBuffer buffer = ByteBuffer.wrap(out);
+    writeValue(buffer.put(STATUS_CODE_FIELD), statusCode);
+    writeValue(buffer.put(MESSAGE_FIELD), message);
+    return out;
+  }
+
+  /**
+   * 따옴표를 포함한 JSON 문자열 값의 UTF-8 길이
+   */
+  private static int valueLength(String value) {
+    if (value == null) {
+      return NULL.length;
+    }
+    int length = 2;
+    for (int i = 0; i < value.length(); i++) {
+      char ch = value.charAt(i);
+      if (ch < 0x80) {
+        length += asciiLength(ch);
+      } else if (ch < 0x800) {
+        length += 2;
+      } else if (Character.isSurrogate(ch)) {
+        length += 6;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private static int asciiLength(char ch) {
+    if (ch == '"' || ch == '\\') {
+      return 2;
+    }
+    if (ch < 0x20) {
+      return shortEscape(ch) != 0 ? 2 : 6;
+    }
+    return 1;
+  }
+
+  /**
+   * Jackson UTF8JsonGenerator 기본 설정과 동일한 이스케이프 (서로게이트는 \\uXXXX)
+   */
+  private static void writeValue(ByteBuffer out, String value) {
+    if (value == null) {
+      out.put(NULL);
+      return;
+    }
+    out.put((byte) '"');
+    for (int i = 0; i < value.length(); i++) {
+      char ch = value.charAt(i);
+      if (ch < 0x80) {
+        if (ch == '"' || ch == '\\') {
+          out.put((byte) '\\');
+          out.put((byte) ch);
+        } else if (ch < 0x20) {
+          char escape = shortEscape(ch);
+          if (escape != 0) {
+            out.put((byte) '\\');
+            out.put((byte) escape);
+          } else {
+            writeUnicodeEscape(out, ch);
+          }
+        } else {
+          out.put((byte) ch);
+        }
+      } else if (ch < 0x800) {
+        out.put((byte) (0xC0 | (ch >> 6)));
+        out.put((byte) (0x80 | (ch & 0x3F)));
+      } else if (Character.isSurrogate(ch)) {
+        writeUnicodeEscape(out, ch);
+      } else {
+        out.put((byte) (0xE0 | (ch >> 12)));
+        out.put((byte) (0x80 | ((ch >> 6) & 0x3F)));
+        out.put((byte) (0x80 | (ch & 0x3F)));
+      }
+    }
+    out.put((byte) '"');
+  }
+
+  private static char shortEscape(char ch) {
+    switch (ch) {
+      case '\b':
+        return 'b';
+      case '\t':
+        return 't';
+      case '\n':
+        return 'n';
+      case '\f':
+        return 'f';
+      case '\r':
+        return 'r';
+      default:
+        return 0;
+    }
+  }
+
+  private static void writeUnicodeEscape(ByteBuffer out, char ch) {
+    out.put((byte) '\\');
+    out.put((byte) 'u');
+    out.put(HEX[(ch >> 12) & 0xF]);
+    out.put(HEX[(ch >> 8) & 0xF]);
+    out.put(HEX[(ch >> 4) & 0xF]);
+    out.put(HEX[ch & 0xF]);
+  }
+
+  private static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+}
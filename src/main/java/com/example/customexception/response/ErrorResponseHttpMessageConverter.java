@@ -0,0 +1,45 @@
+package com.example.customexception.response;
+
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * ErrorResponse를 ErrorResponseEncoder로 직접 쓰는 HttpMessageConverter (쓰기 전용)
+ */
+public class ErrorResponseHttpMessageConverter extends AbstractHttpMessageConverter<ErrorResponse> {
+
+  private final ErrorResponseEncoder errorResponseEncoder;
+
+  public ErrorResponseHttpMessageConverter(ErrorResponseEncoder errorResponseEncoder) {
+    super(MediaType.APPLICATION_JSON);
+    this.errorResponseEncoder = errorResponseEncoder;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return ErrorResponse.class == clazz;
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected ErrorResponse readInternal(
+      Class<? extends ErrorResponse> clazz,
+      HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("ErrorResponse is write-only", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(
+      ErrorResponse errorResponse,
+      HttpOutputMessage outputMessage) throws IOException {
+    outputMessage.getBody().write(errorResponseEncoder.encode(errorResponse));
+  }
+}
@@ -0,0 +1,26 @@
+package com.example.customexception.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+/**
+ * NDJSON 스트리밍 검증의 줄별 에러 응답 (ErrorResponse 필드 + 줄 번호)
+ */
+@Getter
+public class LineErrorResponse extends ErrorResponse {
+
+  @JsonProperty("line")
+  private final long line;
+
+  public LineErrorResponse(
+      String statusCode,
+      String message,
+      String method,
+      String path,
+      String timestamp,
+      long line
+  ) {
+    super(statusCode, message, method, path, timestamp);
+    this.line = line;
+  }
+}
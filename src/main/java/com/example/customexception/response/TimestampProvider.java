@@ -0,0 +1,79 @@
+package com.example.customexception.response;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * ErrorResponse timestamp 생성
+ *
+ * <p>같은 resolution 구간(초 또는 밀리초) 안에서는 포맷된 문자열을 재사용한다. 캐시는 불변 객체를 volatile
+ * 필드로 교체하는 방식이라 잠금 없이 스레드 간에 공유된다.
+ */
+public class TimestampProvider {
+
+  public static final String DEFAULT_PATTERN = "yyyyMMddHHmmss";
+
+  private static volatile TimestampProvider defaultProvider = systemDefault();
+
+  private final Clock clock;
+  private final DateTimeFormatter formatter;
+  private final long resolutionMillis;
+
+  private volatile Cached cached;
+
+  public TimestampProvider(Clock clock, String pattern, ChronoUnit resolution) {
+    this.clock = clock;
+    this.formatter = DateTimeFormatter.ofPattern(pattern).withZone(clock.getZone());
+    this.resolutionMillis = Math.max(1L, Duration.of(1, resolution).toMillis());
+  }
+
+  public static TimestampProvider systemDefault() {
+    return new TimestampProvider(Clock.systemDefaultZone(), DEFAULT_PATTERN, ChronoUnit.SECONDS);
+  }
+
+  /**
+   * ErrorResponse 기본 timestamp에 사용할 provider
+   */
+  public static TimestampProvider getDefault() {
+    return defaultProvider;
+  }
+
+  public static void setDefault(TimestampProvider timestampProvider) {
+    defaultProvider = timestampProvider;
+  }
+
+  /**
+   * 현재 시각 문자열
+   */
+  public String now() {
+    long epochMillis = clock.millis();
+    long slot = Math.floorDiv(epochMillis, resolutionMillis);
+
+    Cached current = cached;
+    if (current != null && current.slot == slot) {
+      return current.value;
+    }
+
+    String value = formatter.format(Instant.ofEpochMilli(epochMillis));
+    cached = new Cached(slot, value);
+    return value;
+  }
+
+  public Clock getClock() {
+    return clock;
+  }
+
+  private static final class Cached {
+
+    private final long slot;
+    private final String value;
+
+    private Cached(long slot, String value) {
+      this.slot = slot;
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.example.customexception.support;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 고정 크기 버퍼로 InputStream을 줄('\n') 단위로 읽는 reader
+ *
+ * <p>버퍼보다 긴 줄은 다음 줄바꿈까지 버리고 TOO_LONG을 반환하므로 입력 크기와 관계없이 메모리 사용량이 일정하다.
+ * 읽을 수 있는 입력이 없어 블로킹 read를 하기 전에 beforeBlockingRead를 flush해 이전까지의 출력을 먼저 내보낸다.
+ */
+public class NdjsonLineReader {
+
+  public static final int EOF = -1;
+  public static final int TOO_LONG = -2;
+
+  private final InputStream inputStream;
+  private final Flushable beforeBlockingRead;
+  private final int maxLineLength;
+  private final byte[] buffer;
+
+  private int position;
+  private int limit;
+  private int lineStart;
+  private long lineNumber;
+
+  /**
+   * maxLineLength - 줄바꿈 문자를 제외한 최대 줄 길이 (byte)
+   */
+  public NdjsonLineReader(
+      InputStream inputStream,
+      int maxLineLength,
+      Flushable beforeBlockingRead) {
+    this.inputStream = inputStream;
+    this.beforeBlockingRead = beforeBlockingRead;
+    this.maxLineLength = Math.max(1, maxLineLength);
+    this.buffer = new byte[this.maxLineLength + 2];
+  }
+
+  /**
+   * 다음 줄 길이 (줄 내용은 getBuffer()의 getLineStart()부터), 입력 끝이면 EOF, 너무 긴 줄이면 TOO_LONG
+   */
+  public int readLine() throws IOException {
+    int scan = position;
+    while (true) {
+      for (int i = scan; i < limit; i++) {
+        if (buffer[i] == '\n') {
+          return line(i, i + 1);
+        }
+      }
+
+      if (position > 0) {
+        System.arraycopy(buffer, position, buffer, 0, limit - position);
+        limit -= position;
+        position = 0;
+      }
+      scan = limit;
+      if (limit == buffer.length) {
+        skipLine();
+        lineNumber++;
+        return TOO_LONG;
+      }
+      if (fill() < 0) {
+        return position == limit ? EOF : line(limit, limit);
+      }
+    }
+  }
+
+  public byte[] getBuffer() {
+    return buffer;
+  }
+
+  public int getLineStart() {
+    return lineStart;
+  }
+
+  /**
+   * 마지막으로 읽은 줄 번호 (1부터, 빈 줄 포함)
+   */
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  private int line(int end, int next) {
+    lineStart = position;
+    position = next;
+    lineNumber++;
+    if (end > lineStart && buffer[end - 1] == '\r') {
+      end--;
+    }
+    int length = end - lineStart;
+    return length > maxLineLength ? TOO_LONG : length;
+  }
+
+  /**
+   * 다음 줄바꿈까지 버림 (줄바꿈 이후 데이터는 버퍼에 남김)
+   */
+  private void skipLine() throws IOException {
+    position = 0;
+    limit = 0;
+    while (fill() >= 0) {
+      for (int i = 0; i < limit; i++) {
+        if (buffer[i] == '\n') {
+          position = i + 1;
+          return;
+        }
+      }
+      limit = 0;
+    }
+  }
+
+  private int fill() throws IOException {
+    if (beforeBlockingRead != null && inputStream.available() == 0) {
+      beforeBlockingRead.flush();
+    }
+    int read = inputStream.read(buffer, limit, buffer.length - limit);
+    if (read > 0) {
+      limit += read;
+    }
+    return read;
+  }
+}
@@ -0,0 +1,94 @@
+package com.example.customexception.support;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Camel Case를 Snake Case로 변환 (변환 결과 캐시)
+ *
+ * <p>필드명처럼 종류가 제한된 입력을 대상으로 하며, 캐시가 maxSize에 도달하면 이후 입력은 캐시하지 않고 변환만 한다.
+ */
+public final class SnakeCaseConverter {
+
+  public static final int DEFAULT_MAX_SIZE = 1024;
+
+  private static final ConcurrentHashMap<String, String> CACHE = new ConcurrentHashMap<>();
+
+  private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+  private SnakeCaseConverter() {
+  }
+
+  public static void setMaxSize(int size) {
+    maxSize = size;
+  }
+
+  /**
+   * 변환 결과를 미리 캐시
+   */
+  public static void warmUp(Collection<String> names) {
+    for (String name : names) {
+      toSnakeCase(name);
+    }
+  }
+
+  /**
+   * 변환 (대문자가 없으면 입력 그대로 반환)
+   */
+  public static String toSnakeCase(String str) {
+    if (!hasUpperCase(str)) {
+      return str;
+    }
+
+    String cached = CACHE.get(str);
+    if (cached != null) {
+      return cached;
+    }
+
+    String converted = convert(str);
+    if (CACHE.mappingCount() < maxSize) {
+      CACHE.putIfAbsent(str, converted);
+    }
+    return converted;
+  }
+
+  public static int size() {
+    return CACHE.size();
+  }
+
+  /**
+   * 대문자 앞에 '_' 추가 - 이전 문자가 소문자/숫자이거나, 약어(HTTPStatus)의 마지막 대문자인 경우
+   */
+  static String convert(String str) {
+    int length = str.length();
+    StringBuilder sb = new StringBuilder(length + 4);
+
+    for (int i = 0; i < length; i++) {
+      char ch = str.charAt(i);
+      if (Character.isUpperCase(ch)) {
+        if (i > 0) {
+          char prev = str.charAt(i - 1);
+          boolean nextIsLower = i + 1 < length && Character.isLowerCase(str.charAt(i + 1));
+          if (Character.isLowerCase(prev) || Character.isDigit(prev)
+              || (Character.isUpperCase(prev) && nextIsLower)) {
+            sb.append('_');
+          }
+        }
+        sb.append(Character.toLowerCase(ch));
+      } else {
+        sb.append(ch);
+      }
+    }
+
+    return sb.toString();
+  }
+
+  private static boolean hasUpperCase(String str) {
+    for (int i = 0; i < str.length(); i++) {
+      if (Character.isUpperCase(str.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,61 @@
+package com.example.customexception.support;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.validation.Valid;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * 핸들러 메서드의 @Valid, @Validated 파라미터 타입(요청 DTO) 조회
+ */
+public class ValidatedRequestScanner {
+
+  private final RequestMappingHandlerMapping requestMappingHandlerMapping;
+
+  public ValidatedRequestScanner(RequestMappingHandlerMapping requestMappingHandlerMapping) {
+    this.requestMappingHandlerMapping = requestMappingHandlerMapping;
+  }
+
+  /**
+   * 요청 DTO 타입
+   */
+  public Set<Class<?>> scanRequestTypes() {
+    Set<Class<?>> requestTypes = new LinkedHashSet<>();
+    for (HandlerMethod handlerMethod : requestMappingHandlerMapping.getHandlerMethods().values()) {
+      for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+        if (parameter.hasParameterAnnotation(Valid.class)
+            || parameter.hasParameterAnnotation(Validated.class)
+            || AnnotatedElementUtils.hasAnnotation(parameter.getParameterType(), Validated.class)) {
+          requestTypes.add(parameter.getParameterType());
+        }
+      }
+    }
+    return requestTypes;
+  }
+
+  /**
+   * 요청 DTO의 객체명, 필드명 (상위 클래스 포함)
+   */
+  public Set<String> scanFieldNames() {
+    Set<String> fieldNames = new LinkedHashSet<>();
+    for (Class<?> requestType : scanRequestTypes()) {
+      fieldNames.add(ClassUtils.getShortNameAsProperty(requestType));
+      for (Class<?> type = requestType; type != null && type != Object.class;
+          type = type.getSuperclass()) {
+        for (Field field : type.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+            fieldNames.add(field.getName());
+          }
+        }
+      }
+    }
+    return fieldNames;
+  }
+}
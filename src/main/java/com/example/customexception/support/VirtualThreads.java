@@ -0,0 +1,54 @@
+package com.example.customexception.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 Executor 생성
+ *
+ * <p>빌드 대상(Java 17)에는 가상 스레드 API가 없으므로 Executors.newVirtualThreadPerTaskExecutor()를
+ * MethodHandle로 조회한다. Java 21 미만 런타임에서는 지원하지 않는다.
+ */
+public final class VirtualThreads {
+
+  private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findFactory();
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * 현재 런타임의 가상 스레드 지원 여부
+   */
+  public static boolean isSupported() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * 작업마다 가상 스레드를 생성하는 Executor (지원하지 않으면 empty)
+   */
+  public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+    if (!isSupported()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of((ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke());
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Failed to create virtual thread executor", e);
+    }
+  }
+
+  private static MethodHandle findFactory() {
+    try {
+      return MethodHandles.publicLookup().findStatic(Executors.class,
+          "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+}
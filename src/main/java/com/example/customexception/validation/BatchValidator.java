@@ -0,0 +1,125 @@
+package com.example.customexception.validation;
+
+import com.example.customexception.response.BatchErrorResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import javax.validation.ConstraintViolation;
+
+/**
+ * 요청 목록을 전용 ForkJoinPool에서 구간별로 나누어 병렬 검증
+ *
+ * <p>chunkSize 이하의 목록은 호출 스레드에서 바로 검증한다. 구간별 결과는 인덱스 순서를 유지한 채 합치며, 위반이 없는
+ * 구간은 리스트를 만들지 않는다. 공용 풀(commonPool)과 분리해 다른 병렬 작업과 간섭하지 않도록 한다.
+ */
+public class BatchValidator implements AutoCloseable {
+
+  private final RequestValidator requestValidator;
+  private final ForkJoinPool pool;
+  private final int chunkSize;
+
+  /**
+   * parallelism - 검증 스레드 수, chunkSize - 한 작업이 검증할 최대 요청 수
+   */
+  public BatchValidator(RequestValidator requestValidator, int parallelism, int chunkSize) {
+    this.requestValidator = requestValidator;
+    this.pool = new ForkJoinPool(Math.max(1, parallelism), BatchValidator::newThread, null, false);
+    this.chunkSize = Math.max(1, chunkSize);
+  }
+
+  /**
+   * 위반이 있는 요청의 인덱스와 메시지 (인덱스 오름차순)
+   */
+  public <T> List<BatchErrorResponse.ItemError> validate(List<T> items) {
+    ValidateTask<T> task =
+        new ValidateTask<>(requestValidator, chunkSize, items, 0, items.size());
+    if (items.size() <= chunkSize) {
+      return task.compute();
+    }
+    return pool.invoke(task);
+  }
+
+  public int getParallelism() {
+    return pool.getParallelism();
+  }
+
+  @Override
+  public void close() {
+    pool.shutdown();
+  }
+
+  private static ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+    thread.setName("batch-validation-" + thread.getPoolIndex());
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  private static final class ValidateTask<T>
+      extends RecursiveTask<List<BatchErrorResponse.ItemError>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final RequestValidator requestValidator;
+    private final int chunkSize;
+    private final List<T> items;
+    private final int from;
+    private final int to;
+
+    private ValidateTask(RequestValidator requestValidator, int chunkSize, List<T> items,
+        int from, int to) {
+      this.requestValidator = requestValidator;
+      this.chunkSize = chunkSize;
+      this.items = items;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<BatchErrorResponse.ItemError> compute() {
+      if (to - from <= chunkSize) {
+        return validateRange();
+      }
+      int mid = (from + to) >>> 1;
+      ValidateTask<T> right = new ValidateTask<>(requestValidator, chunkSize, items, mid, to);
+      right.fork();
+      List<BatchErrorResponse.ItemError> left =
+          new ValidateTask<>(requestValidator, chunkSize, items, from, mid).compute();
+      return merge(left, right.join());
+    }
+
+    private List<BatchErrorResponse.ItemError> validateRange() {
+      List<BatchErrorResponse.ItemError> errors = null;
+      for (int i = from; i < to; i++) {
+        Set<ConstraintViolation<T>> violations = requestValidator.validate(items.get(i));
+        if (!violations.isEmpty()) {
+          if (errors == null) {
+            errors = new ArrayList<>();
+          }
+          errors.add(new BatchErrorResponse.ItemError(
+              i, RequestValidator.violationMessage(violations)));
+        }
+      }
+      return errors != null ? errors : Collections.emptyList();
+    }
+  }
+
+  private static List<BatchErrorResponse.ItemError> merge(
+      List<BatchErrorResponse.ItemError> left,
+      List<BatchErrorResponse.ItemError> right) {
+    if (right.isEmpty()) {
+      return left;
+    }
+    if (left.isEmpty()) {
+      return right;
+    }
+    List<BatchErrorResponse.ItemError> merged = new ArrayList<>(left.size() + right.size());
+    merged.addAll(left);
+    merged.addAll(right);
+    return merged;
+  }
+}
@@ -0,0 +1,171 @@
+package com.example.customexception.validation;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.response.BatchErrorResponse;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.LineErrorResponse;
+import com.example.customexception.response.TimestampProvider;
+import com.example.customexception.support.NdjsonLineReader;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+
+/**
+ * NDJSON 요청을 한 줄씩 읽어 검증하고 줄별 에러를 NDJSON으로 바로 쓰는 스트리밍 검증
+ *
+ * <p>입력은 NdjsonLineReader의 고정 버퍼로, 출력은 JsonGenerator 버퍼로만 보관하므로 업로드 크기와 관계없이 메모리
+ * 사용량이 일정하다. 출력은 블로킹 write이므로 클라이언트가 응답을 읽지 않으면 입력 읽기도 멈춘다(backpressure).
+ * 파싱할 수 없는 줄(905), 너무 긴 줄(801), 제약 조건 위반(903)은 해당 줄만 실패로 기록하고 다음 줄을 계속 검증하며,
+ * 마지막 줄에 요약을 쓴다.
+ */
+public class NdjsonBatchValidator {
+
+  private final RequestValidator requestValidator;
+  private final ObjectMapper objectMapper;
+  private final ErrorMessages errorMessages;
+  private final TimestampProvider timestampProvider;
+  private final int maxLineLength;
+
+  public NdjsonBatchValidator(
+      RequestValidator requestValidator,
+      ObjectMapper objectMapper,
+      ErrorMessages errorMessages,
+      TimestampProvider timestampProvider,
+      int maxLineLength) {
+    this.requestValidator = requestValidator;
+    this.objectMapper = objectMapper;
+    this.errorMessages = errorMessages;
+    this.timestampProvider = timestampProvider;
+    this.maxLineLength = maxLineLength;
+  }
+
+  /**
+   * 줄별 에러와 마지막 요약 레코드를 outputStream에 쓰고 요약 반환 (outputStream은 닫지 않음)
+   */
+  public BatchErrorResponse.Summary validate(
+      Class<?> type,
+      InputStream inputStream,
+      OutputStream outputStream,
+      String method,
+      String path,
+      Locale locale) throws IOException {
+    ObjectReader objectReader =
+        objectMapper.readerFor(type).with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    RecordWriter recordWriter = new RecordWriter(outputStream);
+    NdjsonLineReader lineReader = new NdjsonLineReader(inputStream, maxLineLength, recordWriter);
+
+    long total = 0;
+    long invalid = 0;
+    int length;
+    while ((length = lineReader.readLine()) != NdjsonLineReader.EOF) {
+      if (isBlank(lineReader.getBuffer(), lineReader.getLineStart(), length)) {
+        continue;
+      }
+      total++;
+
+      ResponseCode responseCode = null;
+      String message = null;
+      if (length == NdjsonLineReader.TOO_LONG) {
+        responseCode = ResponseCode.INVALID_REQUEST;
+      } else {
+        Object item = read(objectReader, lineReader.getBuffer(), lineReader.getLineStart(), length);
+        if (item == null) {
+          responseCode = ResponseCode.HTTP_MESSAGE_NOT_READABLE_EXCEPTION;
+        } else {
+          Set<ConstraintViolation<Object>> violations = requestValidator.validate(item);
+          if (!violations.isEmpty()) {
+            responseCode = ResponseCode.CONSTRAINT_VIOLATION;
+            message = RequestValidator.violationMessage(violations);
+          }
+        }
+      }
+
+      if (responseCode != null) {
+        invalid++;
+        recordWriter.write(new LineErrorResponse(
+            responseCode.getCode(),
+            message != null ? message : errorMessages.messageOf(responseCode, locale),
+            method,
+            path,
+            timestampProvider.now(),
+            lineReader.getLineNumber()));
+      }
+    }
+
+    ResponseCode responseCode = invalid == 0 ? ResponseCode.OK : ResponseCode.CONSTRAINT_VIOLATION;
+    BatchErrorResponse.Summary summary =
+        new BatchErrorResponse.Summary(total, total - invalid, invalid);
+    recordWriter.write(new BatchErrorResponse(
+        responseCode.getCode(),
+        errorMessages.messageOf(responseCode, locale),
+        method,
+        path,
+        timestampProvider.now(),
+        summary));
+    recordWriter.flush();
+    return summary;
+  }
+
+  /**
+   * 파싱할 수 없거나 null이면 null
+   */
+  private static Object read(ObjectReader objectReader, byte[] buffer, int offset, int length)
+      throws IOException {
+    try {
+      return objectReader.readValue(buffer, offset, length);
+    } catch (JsonProcessingException e) {
+      return null;
+    }
+  }
+
+  private static boolean isBlank(byte[] buffer, int offset, int length) {
+    if (length < 0) {
+      return false;
+    }
+    for (int i = offset; i < offset + length; i++) {
+      byte b = buffer[i];
+      if (b != ' ' && b != '\t') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 레코드마다 줄바꿈을 붙여 쓰고, 쓴 레코드가 있을 때만 flush
+   */
+  private class RecordWriter implements Flushable {
+
+    private final JsonGenerator generator;
+    private boolean pending;
+
+    private RecordWriter(OutputStream outputStream) throws IOException {
+      this.generator = objectMapper.getFactory().createGenerator(outputStream);
+      this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      this.generator.setRootValueSeparator(null);
+    }
+
+    private void write(Object record) throws IOException {
+      generator.writeObject(record);
+      generator.writeRaw('\n');
+      pending = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (pending) {
+        generator.flush();
+        pending = false;
+      }
+    }
+  }
+}
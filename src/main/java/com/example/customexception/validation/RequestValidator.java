@@ -0,0 +1,84 @@
+package com.example.customexception.validation;
+
+import com.example.customexception.support.SnakeCaseConverter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import org.hibernate.validator.HibernateValidator;
+
+/**
+ * 공유 ValidatorFactory 기반 요청 검증
+ *
+ * <p>ValidatorFactory와 Validator는 스레드 안전하므로 애플리케이션에서 하나만 생성해 재사용한다.
+ */
+public class RequestValidator implements AutoCloseable {
+
+  private final ValidatorFactory validatorFactory;
+  private final Validator validator;
+
+  /**
+   * failFast - 첫 번째 위반에서 검증 중단
+   */
+  public RequestValidator(boolean failFast) {
+    this.validatorFactory = Validation.byProvider(HibernateValidator.class)
+        .configure()
+        .failFast(failFast)
+        .buildValidatorFactory();
+    this.validator = validatorFactory.getValidator();
+  }
+
+  /**
+   * 제약 조건 메타데이터 사전 생성
+   */
+  public void warmUp(Collection<Class<?>> types) {
+    for (Class<?> type : types) {
+      validator.getConstraintsForClass(type);
+    }
+  }
+
+  public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+    return validator.validate(object, groups);
+  }
+
+  /**
+   * 검증 실패 시 ConstraintViolationException 발생
+   */
+  public <T> void validateOrThrow(T object, Class<?>... groups) {
+    Set<ConstraintViolation<T>> violations = validator.validate(object, groups);
+    if (!violations.isEmpty()) {
+      throw new ConstraintViolationException(violations);
+    }
+  }
+
+  /**
+   * 제약 조건 위반 메시지 (snake_case propertyPath:message, propertyPath 기준 정렬)
+   */
+  public static String violationMessage(Collection<? extends ConstraintViolation<?>> violations) {
+    if (violations == null || violations.isEmpty()) {
+      return "";
+    }
+    List<String> messages = new ArrayList<>(violations.size());
+    for (ConstraintViolation<?> violation : violations) {
+      messages.add(SnakeCaseConverter.toSnakeCase(violation.getPropertyPath().toString()) + ":"
+          + violation.getMessage());
+    }
+    Collections.sort(messages);
+    return String.join(", ", messages);
+  }
+
+  public Validator getValidator() {
+    return validator;
+  }
+
+  @Override
+  public void close() {
+    validatorFactory.close();
+  }
+}
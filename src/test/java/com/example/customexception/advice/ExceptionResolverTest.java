@@ -0,0 +1,124 @@
+package com.example.customexception.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.constant.ResponseCodeRegistry.Definition;
+import com.example.customexception.exception.ErrorException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+class ExceptionResolverTest {
+
+  private final ExceptionResolver exceptionResolver = new ExceptionResolver();
+
+  @DisplayName("예외 클래스_가장 가까운 상위 클래스 매핑 적용")
+  @Test
+  void testMappingOf() {
+
+    // When
+    ExceptionMapping subclass = exceptionResolver.mappingOf(SubErrorException.class);
+    ExceptionMapping unmapped = exceptionResolver.mappingOf(IllegalStateException.class);
+    ExceptionMapping error = exceptionResolver.mappingOf(AssertionError.class);
+    ExceptionMapping exact =
+        exceptionResolver.mappingOf(MethodArgumentTypeMismatchException.class);
+
+    // Then
+    assertThat(subclass.getExceptionType()).isEqualTo(ErrorException.class);
+    assertThat(subclass.errorCodeOf(new SubErrorException()))
+        .isEqualTo(ResponseCode.NOT_FOUND);
+    assertThat(subclass.httpStatusOf(ResponseCode.NOT_FOUND)).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(unmapped.getHandler()).isEqualTo("handleException");
+    assertThat(error.getExceptionType()).isEqualTo(Exception.class);
+    assertThat(exact.getHandler()).isEqualTo("handleMethodArgumentTypeMismatchException");
+    assertThat(exact.errorCodeOf(null)).isEqualTo(ResponseCode.METHOD_ARGUMENT_TYPE_MISMATCH);
+  }
+
+  @DisplayName("cause로 감싸인 ErrorException_ErrorException으로 처리")
+  @Test
+  void testUnwrap() {
+
+    // Given
+    ErrorException errorException = ErrorException.of(ResponseCode.NOT_FOUND);
+    RuntimeException wrapped =
+        new CompletionException(new IllegalStateException(errorException));
+    IllegalArgumentException mappedWrapper = new IllegalArgumentException(errorException);
+
+    // When
+    Throwable unwrapped = exceptionResolver.unwrap(wrapped);
+    Throwable tooDeep = new ExceptionResolver(List.of(), 1).unwrap(wrapped);
+    Throwable plain = exceptionResolver.unwrap(new IllegalStateException("no cause"));
+
+    // Then
+    assertThat(unwrapped).isSameAs(errorException);
+    assertThat(tooDeep).isSameAs(wrapped);
+    assertThat(plain).isInstanceOf(IllegalStateException.class);
+    assertThat(new ExceptionResolver(List.of(illegalArgument()), 8).unwrap(mappedWrapper))
+        .isSameAs(mappedWrapper);
+  }
+
+  @DisplayName("추가 매핑_기본 매핑보다 우선하고 하위 클래스에 적용")
+  @Test
+  void testAdditionalMapping() {
+
+    // Given
+    ExceptionResolver resolver = new ExceptionResolver(List.of(
+        illegalArgument(),
+        ExceptionMapping.builder(Exception.class, ResponseCode.SERVICE_UNAVAILABLE).build()),
+        8);
+
+    // When
+    ExceptionMapping mapping = resolver.mappingOf(NumberFormatException.class);
+    ExceptionMapping fallback = resolver.mappingOf(IllegalStateException.class);
+
+    // Then
+    assertThat(mapping.getHandler()).isEqualTo("handleIllegalArgumentException");
+    assertThat(mapping.errorCodeOf(new NumberFormatException()))
+        .isEqualTo(ResponseCode.INVALID_REQUEST);
+    assertThat(mapping.httpStatusOf(ResponseCode.INVALID_REQUEST))
+        .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    assertThat(mapping.isLogged()).isFalse();
+    assertThat(fallback.errorCodeOf(new IllegalStateException()))
+        .isEqualTo(ResponseCode.SERVICE_UNAVAILABLE);
+  }
+
+  @DisplayName("ErrorException HTTP 상태_ResponseCode는 400, 설정 파일에서 등록한 코드는 코드의 상태")
+  @Test
+  void testErrorExceptionStatus() {
+
+    // Given
+    ExceptionMapping mapping = exceptionResolver.mappingOf(ErrorException.class);
+    ErrorCode custom = new ResponseCodeRegistry(Collections.singletonList(
+        new Definition("1001", "결제 한도 초과", HttpStatus.UNPROCESSABLE_ENTITY, false)))
+        .find("1001");
+
+    // When & Then
+    for (ResponseCode responseCode : ResponseCode.values()) {
+      assertThat(mapping.httpStatusOf(responseCode)).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+    assertThat(mapping.httpStatusOf(custom)).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+  }
+
+  private static ExceptionMapping illegalArgument() {
+    return ExceptionMapping.builder(IllegalArgumentException.class, ResponseCode.INVALID_REQUEST)
+        .httpStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+        .logged(false)
+        .build();
+  }
+
+  private static class SubErrorException extends ErrorException {
+
+    private static final long serialVersionUID = 1L;
+
+    private SubErrorException() {
+      super(ResponseCode.NOT_FOUND);
+    }
+  }
+}
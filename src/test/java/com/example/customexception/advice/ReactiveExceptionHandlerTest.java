@@ -0,0 +1,238 @@
+package com.example.customexception.advice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.config.JournalProperties;
+import com.example.customexception.config.LoggingProperties;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.dto.ErrorExceptionDto;
+import com.example.customexception.exception.ErrorException;
+import com.example.customexception.journal.ErrorJournal;
+import com.example.customexception.logging.ExceptionLogger;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.metrics.HeavyHitters;
+import com.example.customexception.metrics.RecentErrors;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.ErrorResponse;
+import com.example.customexception.response.ErrorResponseEncoder;
+import com.example.customexception.response.TimestampProvider;
+import com.example.customexception.validation.RequestValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.stream.Stream;
+import javax.validation.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+/**
+ * ExceptionAspect(Servlet)와 ReactiveExceptionHandler(WebFlux)의 응답 비교
+ */
+class ReactiveExceptionHandlerTest {
+
+  private static final String PATH = "/api/exception";
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private final TimestampProvider timestampProvider = new TimestampProvider(
+      Clock.fixed(Instant.parse("2022-06-01T03:04:05Z"), ZoneId.of("Asia/Seoul")),
+      "yyyyMMddHHmmss", ChronoUnit.SECONDS);
+
+  private final ResponseCodeRegistry responseCodeRegistry = ResponseCodeRegistry.getInstance();
+
+  private final ErrorMessages errorMessages = new ErrorMessages(
+      messageSource(),
+      responseCodeRegistry,
+      Arrays.asList(Locale.KOREAN, Locale.ENGLISH, Locale.JAPANESE),
+      Locale.KOREAN);
+
+  private final ExceptionLogger exceptionLogger =
+      new ExceptionLogger(Clock.systemUTC(), new LoggingProperties());
+
+  private final ErrorMetrics errorMetrics = new ErrorMetrics(true, responseCodeRegistry);
+
+  private final ExceptionResolver exceptionResolver = new ExceptionResolver(
+      Collections.singletonList(ExceptionMapping.builder(
+              IllegalArgumentException.class, ResponseCode.INVALID_REQUEST)
+          .httpStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+          .build()),
+      8);
+
+  private final ExceptionAspect exceptionAspect = new ExceptionAspect(
+      timestampProvider, errorMessages, exceptionLogger, errorMetrics,
+      new RecentErrors(false, Clock.systemUTC(), 1, 1),
+      new ErrorJournal(new JournalProperties(), Clock.systemUTC(), responseCodeRegistry),
+      new HeavyHitters(false, Clock.systemUTC(), 1, 1, 1, 60_000),
+      exceptionResolver);
+
+  private final ReactiveExceptionHandler reactiveExceptionHandler = new ReactiveExceptionHandler(
+      timestampProvider,
+      errorMessages,
+      new ErrorResponseEncoder(responseCodeRegistry, errorMessages),
+      exceptionLogger,
+      errorMetrics,
+      exceptionResolver);
+
+  @AfterEach
+  void tearDown() {
+    LocaleContextHolder.resetLocaleContext();
+  }
+
+  @DisplayName("같은 예외_Servlet, WebFlux 응답 상태 및 본문 동일")
+  @ParameterizedTest(name = "{0} ({2})")
+  @MethodSource("exceptions")
+  void testSameResponse(String name, Throwable servletException, Throwable reactiveException,
+      String language) throws Exception {
+
+    // Given
+    Locale locale = Locale.forLanguageTag(language);
+    LocaleContextHolder.setLocale(locale);
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", PATH);
+    MockServerWebExchange exchange = MockServerWebExchange.from(
+        MockServerHttpRequest.post(PATH).header(HttpHeaders.ACCEPT_LANGUAGE, language));
+
+    // When
+    ResponseEntity<ErrorResponse> servletResponse =
+        handleServlet(servletRequest, servletException);
+    reactiveExceptionHandler.handle(exchange, reactiveException).block();
+
+    // Then
+    assertThat(exchange.getResponse().getStatusCode()).isEqualTo(servletResponse.getStatusCode());
+    assertThat(exchange.getResponse().getHeaders().getContentType())
+        .isEqualTo(MediaType.APPLICATION_JSON);
+    assertThat(exchange.getResponse().getBodyAsString().block())
+        .isEqualTo(objectMapper.writeValueAsString(servletResponse.getBody()));
+  }
+
+  static Stream<Arguments> exceptions() throws Exception {
+    Method handle = ReactiveExceptionHandlerTest.class
+        .getDeclaredMethod("handle", ErrorExceptionDto.Request.class, Long.class);
+    MethodParameter parameter = new MethodParameter(handle, 0);
+    MethodParameter idParameter = new MethodParameter(handle, 1);
+    ConstraintViolationException constraintViolationException =
+        constraintViolationException();
+    ErrorException notFound = ErrorException.of(ResponseCode.NOT_FOUND);
+    ErrorException withMessage = new ErrorException("ErrorException 발생");
+    ErrorException withCode = new ErrorException(ResponseCode.DUPLICATED_REQUEST);
+    RuntimeException runtimeException = new RuntimeException("RuntimeException 발생");
+    RuntimeException wrapped = new RuntimeException(ErrorException.of(ResponseCode.NOT_FOUND));
+    IllegalArgumentException illegalArgument = new IllegalArgumentException("잘못된 인자");
+    TypeMismatchException typeMismatch = new TypeMismatchException("abc", Long.class);
+
+    return Stream.of("ko", "en", "ja", "fr").flatMap(language -> Stream.of(
+        Arguments.of("ErrorException.of", notFound, notFound, language),
+        Arguments.of("ErrorException(message)", withMessage, withMessage, language),
+        Arguments.of("ErrorException(code)", withCode, withCode, language),
+        Arguments.of("Exception", runtimeException, runtimeException, language),
+        Arguments.of("Wrapped ErrorException", wrapped, wrapped, language),
+        Arguments.of("ExceptionMapping", illegalArgument, illegalArgument, language),
+        Arguments.of("BindingResult",
+            new MethodArgumentNotValidException(parameter, bindingResult()),
+            new WebExchangeBindException(parameter, bindingResult()), language),
+        Arguments.of("MissingParameter",
+            new MissingServletRequestParameterException("id", "Long"),
+            new ServerWebInputException(
+                "Required query parameter 'id' is not present.", idParameter),
+            language),
+        Arguments.of("ConstraintViolation",
+            constraintViolationException, constraintViolationException, language),
+        Arguments.of("TypeMismatch",
+            new MethodArgumentTypeMismatchException("abc", Long.class, "id", parameter, null),
+            new ServerWebInputException("Type mismatch.", idParameter, typeMismatch), language),
+        Arguments.of("NotReadable",
+            new HttpMessageNotReadableException("Required request body is missing",
+                new MockHttpInputMessage(new byte[0])),
+            new ServerWebInputException("No request body", parameter), language),
+        Arguments.of("NotFound",
+            new NoHandlerFoundException("GET", PATH, new HttpHeaders()),
+            new ResponseStatusException(HttpStatus.NOT_FOUND), language),
+        Arguments.of("MethodNotAllowed",
+            new HttpRequestMethodNotSupportedException("POST"),
+            new MethodNotAllowedException(HttpMethod.POST, Collections.singleton(HttpMethod.GET)),
+            language),
+        Arguments.of("MediaTypeNotSupported",
+            new HttpMediaTypeNotSupportedException("text/plain"),
+            new UnsupportedMediaTypeStatusException("text/plain"), language)));
+  }
+
+  /**
+   * ExceptionAspect의 @ExceptionHandler 선택 규칙대로 호출
+   */
+  @SuppressWarnings("unchecked")
+  private ResponseEntity<ErrorResponse> handleServlet(
+      MockHttpServletRequest request, Throwable e) throws Exception {
+    Method method = new ExceptionHandlerMethodResolver(ExceptionAspect.class)
+        .resolveMethodByThrowable(e);
+    return (ResponseEntity<ErrorResponse>) method.invoke(exceptionAspect, request, e);
+  }
+
+  private static BindingResult bindingResult() {
+    BindingResult bindingResult =
+        new BeanPropertyBindingResult(new ErrorExceptionDto.Request(), "request");
+    bindingResult.addError(new FieldError("request", "title", "공백일 수 없습니다"));
+    bindingResult.addError(new FieldError("request", "description", "공백일 수 없습니다"));
+    return bindingResult;
+  }
+
+  private static ConstraintViolationException constraintViolationException() {
+    try (RequestValidator requestValidator = new RequestValidator(false)) {
+      return new ConstraintViolationException(
+          requestValidator.validate(new ErrorExceptionDto.Request(null, "", "", true)));
+    }
+  }
+
+  private static ResourceBundleMessageSource messageSource() {
+    ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+    messageSource.setBasename("message/messages");
+    messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+    messageSource.setFallbackToSystemLocale(false);
+    return messageSource;
+  }
+
+  @SuppressWarnings("unused")
+  private void handle(@RequestBody ErrorExceptionDto.Request request, @RequestParam Long id) {
+  }
+}
@@ -0,0 +1,78 @@
+package com.example.customexception.constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.customexception.constant.ResponseCodeRegistry.Definition;
+import com.example.customexception.exception.ErrorException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class ResponseCodeRegistryTest {
+
+  @DisplayName("ResponseCode 조회_enum 상수 반환")
+  @Test
+  void testFindResponseCode() {
+
+    // Given
+    ResponseCodeRegistry registry = new ResponseCodeRegistry();
+
+    // When
+    ErrorCode errorCode = registry.find(ResponseCode.NOT_FOUND.getCode());
+
+    // Then
+    assertThat(errorCode).isSameAs(ResponseCode.NOT_FOUND);
+    assertThat(registry.size()).isEqualTo(ResponseCode.values().length);
+    assertThat(ResponseCode.valueOfStatusCode("804")).isSameAs(ResponseCode.NOT_FOUND);
+  }
+
+  @DisplayName("등록되지 않은 코드_null 및 CUSTOM_EXCEPTION 메시지")
+  @Test
+  void testUnknownCode() {
+
+    // Given
+    ResponseCodeRegistry registry = new ResponseCodeRegistry();
+
+    // When & Then
+    for (String code : Arrays.asList(null, "", "abc", "0804", "12345", "999", "-1")) {
+      assertThat(registry.find(code)).isNull();
+      assertThat(registry.messageOf(code))
+          .isEqualTo(ResponseCode.CUSTOM_EXCEPTION.getMessage());
+    }
+  }
+
+  @DisplayName("외부 정의 코드_인덱스, HTTP 상태 및 ErrorException 적용")
+  @Test
+  void testExternalCode() {
+
+    // Given
+    ResponseCodeRegistry registry = new ResponseCodeRegistry(Collections.singletonList(
+        new Definition("1001", "결제 한도 초과", HttpStatus.UNPROCESSABLE_ENTITY, true)));
+
+    // When
+    ErrorCode errorCode = registry.find("1001");
+    ErrorException exception = new ErrorException(errorCode);
+
+    // Then
+    assertThat(errorCode.getIndex()).isEqualTo(ResponseCode.values().length);
+    assertThat(registry.get(errorCode.getIndex())).isSameAs(errorCode);
+    assertThat(errorCode.getHttpStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    assertThat(registry.messageOf("1001")).isEqualTo("결제 한도 초과");
+    assertThat(exception.getStackTrace()).isEmpty();
+    assertThat(ResponseCode.valueOfStatusCode("1001")).isNull();
+  }
+
+  @DisplayName("중복 또는 잘못된 코드_등록 실패")
+  @Test
+  void testInvalidDefinition() {
+    assertThatThrownBy(() -> new ResponseCodeRegistry(Collections.singletonList(
+        new Definition("906", "중복", HttpStatus.BAD_REQUEST, false))))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> new ResponseCodeRegistry(Collections.singletonList(
+        new Definition("01001", "선행 0", HttpStatus.BAD_REQUEST, false))))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,179 @@
+package com.example.customexception.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.dto.ErrorExceptionDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class BatchValidationControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @Autowired
+  ObjectMapper objectMapper;
+
+  @DisplayName("일괄 검증_실패 요청 인덱스별 에러 및 요약_에러 코드:903")
+  @Test
+  void testBatchValidate() throws Exception {
+
+    // Given
+    String url = "/api/batch/validate";
+    List<ErrorExceptionDto.Request> errorRequests = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      errorRequests.add(ErrorExceptionDto.Request.builder()
+          .title("title")
+          .description(i % 100 == 7 ? "" : "description")
+          .completed(false)
+          .build());
+    }
+
+    // When
+    ResultActions resultActions = mockMvc.perform(
+        post(url)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(errorRequests))
+    );
+
+    // Then
+    resultActions
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            jsonPath("$.status_code")
+                .value(ResponseCode.CONSTRAINT_VIOLATION.getCode())
+        )
+        .andExpect(jsonPath("$.method").value(HttpMethod.POST.toString()))
+        .andExpect(jsonPath("$.path").value(url))
+        .andExpect(jsonPath("$.timestamp").isNotEmpty())
+        .andExpect(jsonPath("$.summary.total").value(1000))
+        .andExpect(jsonPath("$.summary.valid").value(990))
+        .andExpect(jsonPath("$.summary.invalid").value(10))
+        .andExpect(jsonPath("$.errors[0].index").value(7))
+        .andExpect(jsonPath("$.errors[9].index").value(907))
+        .andExpect(jsonPath("$.errors[0].message", containsString("description:")))
+        .andDo(print());
+  }
+
+  @DisplayName("일괄 검증_위반 없음_200 및 요약")
+  @Test
+  void testBatchValidateOk() throws Exception {
+
+    // Given
+    List<ErrorExceptionDto.Request> errorRequests = Collections.nCopies(10, valid());
+
+    // When
+    ResultActions resultActions = mockMvc.perform(
+        post("/api/batch/validate")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(errorRequests))
+    );
+
+    // Then
+    resultActions
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status_code").value(ResponseCode.OK.getCode()))
+        .andExpect(jsonPath("$.summary.total").value(10))
+        .andExpect(jsonPath("$.summary.invalid").value(0));
+  }
+
+  @DisplayName("일괄 검증_최대 요청 수 초과_에러 코드:801")
+  @Test
+  void testBatchValidateTooManyItems() throws Exception {
+
+    // Given
+    List<ErrorExceptionDto.Request> errorRequests = Collections.nCopies(10_001, valid());
+
+    // When
+    ResultActions resultActions = mockMvc.perform(
+        post("/api/batch/validate")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(errorRequests))
+    );
+
+    // Then
+    resultActions
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status_code").value(ResponseCode.INVALID_REQUEST.getCode()));
+  }
+
+  @DisplayName("일괄 검증_최대 요청 수 초과 뒤 본문은 읽지 않음_에러 코드:801")
+  @Test
+  void testBatchValidateTooManyItemsStopsReading() throws Exception {
+
+    // Given
+    String items = objectMapper.writeValueAsString(Collections.nCopies(10_001, valid()));
+    String body = items.substring(0, items.length() - 1) + ",{\"broken\":";
+
+    // When
+    ResultActions resultActions = mockMvc.perform(
+        post("/api/batch/validate")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body)
+    );
+
+    // Then
+    resultActions
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status_code").value(ResponseCode.INVALID_REQUEST.getCode()));
+  }
+
+  @DisplayName("NDJSON 스트리밍 검증_실패한 줄별 에러 및 요약")
+  @Test
+  void testBatchValidateStream() throws Exception {
+
+    // Given
+    String url = "/api/batch/validate/stream";
+    String content = "{\"title\":\"title\",\"description\":\"description\"}\n"
+        + "{\"title\":\"\",\"description\":\"description\"}\n"
+        + "{\"title\":\n";
+
+    // When
+    MvcResult mvcResult = mockMvc.perform(
+        post(url)
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(content)
+    ).andExpect(status().isOk()).andReturn();
+
+    // Then
+    String[] lines = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8)
+        .split("\n");
+    assertThat(lines).hasSize(3);
+    assertThat(objectMapper.readTree(lines[0]).get("status_code").asText())
+        .isEqualTo(ResponseCode.CONSTRAINT_VIOLATION.getCode());
+    assertThat(objectMapper.readTree(lines[0]).get("line").asLong()).isEqualTo(2);
+    assertThat(objectMapper.readTree(lines[1]).get("status_code").asText())
+        .isEqualTo(ResponseCode.HTTP_MESSAGE_NOT_READABLE_EXCEPTION.getCode());
+    assertThat(objectMapper.readTree(lines[2]).get("summary").get("invalid").asLong())
+        .isEqualTo(2);
+  }
+
+  private static ErrorExceptionDto.Request valid() {
+    return ErrorExceptionDto.Request.builder()
+        .title("title")
+        .description("description")
+        .completed(false)
+        .build();
+  }
+}
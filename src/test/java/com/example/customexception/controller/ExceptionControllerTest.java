@@ -1,5 +1,6 @@
 package com.example.customexception.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -212,10 +213,8 @@ class ExceptionControllerTest {
             jsonPath("$.status_code")
                 .value(ResponseCode.CONSTRAINT_VIOLATION.getCode())
         )
-        .andExpect(
-            jsonPath("$.message")
-                .value(ResponseCode.CONSTRAINT_VIOLATION.getMessage())
-        )
+        .andExpect(jsonPath("$.message").value(containsString("title:")))
+        .andExpect(jsonPath("$.message").value(containsString("description:")))
         .andExpect(jsonPath("$.method").value(HttpMethod.POST.toString()))
         .andExpect(jsonPath("$.path").value(url))
         .andExpect(jsonPath("$.timestamp").isNotEmpty())
@@ -387,4 +386,4 @@ class ExceptionControllerTest {
         .andExpect(jsonPath("$.timestamp").isNotEmpty())
         .andDo(print());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.example.customexception.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.customexception.constant.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class LocalizedErrorMessageTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @DisplayName("exception04_조회_Accept-Language:en_영어 메시지")
+  @Test
+  void testException04English() throws Exception {
+
+    // Given & When
+    String url = "/api/exception04";
+    ResultActions resultActions = mockMvc.perform(
+        get(url).header(HttpHeaders.ACCEPT_LANGUAGE, "en-US"));
+
+    // Then
+    resultActions
+        .andExpect(status().isBadRequest())
+        .andExpect(
+            jsonPath("$.status_code")
+                .value(ResponseCode.NOT_FOUND.getCode())
+        )
+        .andExpect(jsonPath("$.message").value("The requested information does not exist."))
+        .andDo(print());
+  }
+}
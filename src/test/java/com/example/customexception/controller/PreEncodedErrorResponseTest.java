@@ -0,0 +1,73 @@
+package com.example.customexception.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+
+import com.example.customexception.response.ErrorResponse;
+import com.example.customexception.response.ErrorResponseHttpMessageConverter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "custom-exception.response.pre-encoded=true")
+class PreEncodedErrorResponseTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @Autowired
+  ObjectMapper objectMapper;
+
+  @Autowired
+  RequestMappingHandlerAdapter requestMappingHandlerAdapter;
+
+  @DisplayName("pre-encoded 응답_Jackson 직렬화 결과와 동일")
+  @Test
+  void testPreEncodedErrorResponse() throws Exception {
+    assertThat(requestMappingHandlerAdapter.getMessageConverters().get(0))
+        .isInstanceOf(ErrorResponseHttpMessageConverter.class);
+
+    assertSameAsJackson(get("/api/exception01"));
+    assertSameAsJackson(get("/api/exception02"));
+    assertSameAsJackson(get("/api/exception03"));
+    assertSameAsJackson(
+        post("/api/methodArgumentNotvalidException")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"title\":\"\",\"description\":\"\",\"completed\":true}"));
+    assertSameAsJackson(get("/api/noHandlerFoundExceptionFailed"));
+  }
+
+  private void assertSameAsJackson(RequestBuilder requestBuilder) throws Exception {
+
+    // Given & When
+    MvcResult mvcResult = mockMvc.perform(requestBuilder)
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andReturn();
+    byte[] body = mvcResult.getResponse().getContentAsByteArray();
+
+    // Then
+    Map<String, String> fields = objectMapper.readValue(body, new TypeReference<>() {
+    });
+    ErrorResponse errorResponse = ErrorResponse.builder()
+        .statusCode(fields.get("status_code"))
+        .message(fields.get("message"))
+        .method(fields.get("method"))
+        .path(fields.get("path"))
+        .timestamp(fields.get("timestamp"))
+        .build();
+    assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(errorResponse));
+  }
+}
@@ -0,0 +1,86 @@
+package com.example.customexception.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.customexception.constant.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class RecentErrorsControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @DisplayName("최근 에러 조회_에러 코드, 경로 접두사 조건")
+  @Test
+  void testRecentErrors() throws Exception {
+
+    // Given
+    mockMvc.perform(get("/api/exception04"));
+
+    // When
+    ResultActions resultActions = mockMvc.perform(
+        get("/internal/errors/recent")
+            .param("code", ResponseCode.NOT_FOUND.getCode())
+            .param("path_prefix", "/api/exception")
+            .param("window", "1m")
+    );
+
+    // Then
+    resultActions
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.errors[0].status_code").value(ResponseCode.NOT_FOUND.getCode()))
+        .andExpect(jsonPath("$.errors[0].method").value(HttpMethod.GET.toString()))
+        .andExpect(jsonPath("$.errors[0].path").value("/api/exception04"))
+        .andExpect(jsonPath("$.errors[0].timestamp").isNotEmpty())
+        .andExpect(jsonPath("$.errors[0].exception")
+            .value("com.example.customexception.exception.ErrorException"))
+        .andDo(print());
+  }
+
+  @DisplayName("최근 에러 조회_알 수 없는 코드, 잘못된 기간, 0 이하 limit_에러 코드:801")
+  @Test
+  void testRecentErrorsInvalidRequest() throws Exception {
+
+    // Given & When & Then
+    mockMvc.perform(get("/internal/errors/recent").param("code", "999"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status_code").value(ResponseCode.INVALID_REQUEST.getCode()));
+    mockMvc.perform(get("/internal/errors/recent").param("window", "yesterday"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status_code").value(ResponseCode.INVALID_REQUEST.getCode()));
+    mockMvc.perform(get("/internal/errors/recent").param("limit", "0"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status_code").value(ResponseCode.INVALID_REQUEST.getCode()));
+  }
+
+  @DisplayName("최근 에러 조회_limit_최신순으로 limit개 반환")
+  @Test
+  void testRecentErrorsLimit() throws Exception {
+
+    // Given
+    mockMvc.perform(get("/api/exception04"));
+    mockMvc.perform(get("/api/exception01"));
+
+    // When
+    ResultActions resultActions = mockMvc.perform(
+        get("/internal/errors/recent").param("limit", "1"));
+
+    // Then
+    resultActions
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.errors.length()").value(1))
+        .andExpect(jsonPath("$.errors[0].path").value("/api/exception01"));
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.customexception.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.customexception.advice.ResultReturnValueHandler;
+import com.example.customexception.constant.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class ResultControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @Autowired
+  RequestMappingHandlerAdapter requestMappingHandlerAdapter;
+
+  @DisplayName("ResultConfig_ResultReturnValueHandler를 첫 번째 처리기로 등록")
+  @Test
+  void testResultReturnValueHandlerFirst() {
+
+    // Given & When & Then
+    assertThat(requestMappingHandlerAdapter.getReturnValueHandlers())
+        .first()
+        .isInstanceOf(ResultReturnValueHandler.class);
+  }
+
+  @DisplayName("Result 에러 반환_ErrorException.of와 같은 상태, 본문")
+  @Test
+  void testResultError() throws Exception {
+
+    // Given
+    MvcResult thrown = mockMvc.perform(get("/api/exception04")).andReturn();
+
+    // When
+    ResultActions resultActions = mockMvc.perform(get("/api/result01"));
+
+    // Then
+    resultActions
+        .andExpect(status().is(thrown.getResponse().getStatus()))
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.status_code").value(ResponseCode.NOT_FOUND.getCode()))
+        .andExpect(jsonPath("$.message").value(ResponseCode.NOT_FOUND.getMessage()))
+        .andExpect(jsonPath("$.method").value(HttpMethod.GET.toString()))
+        .andExpect(jsonPath("$.path").value("/api/result01"))
+        .andExpect(jsonPath("$.timestamp").isNotEmpty())
+        .andDo(print());
+  }
+
+  @DisplayName("Result 성공 반환_값을 200 본문으로 응답")
+  @Test
+  void testResultOk() throws Exception {
+
+    // Given & When
+    ResultActions resultActions = mockMvc.perform(get("/api/result02"));
+
+    // Then
+    resultActions
+        .andExpect(status().isOk())
+        .andExpect(content().string("result02"))
+        .andDo(print());
+  }
+}
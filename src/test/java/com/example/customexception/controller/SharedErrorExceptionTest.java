@@ -0,0 +1,52 @@
+package com.example.customexception.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.customexception.constant.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class SharedErrorExceptionTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @DisplayName("exception04_조회_에러 코드:804")
+  @Test
+  void testException04() throws Exception {
+
+    // Given & When
+    String url = "/api/exception04";
+    ResultActions resultActions = mockMvc.perform(get(url));
+
+    // Then
+    resultActions
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(
+            jsonPath("$.status_code")
+                .value(ResponseCode.NOT_FOUND.getCode())
+        )
+        .andExpect(
+            jsonPath("$.message")
+                .value(ResponseCode.NOT_FOUND.getMessage())
+        )
+        .andExpect(jsonPath("$.method").value(HttpMethod.GET.toString()))
+        .andExpect(jsonPath("$.path").value(url))
+        .andExpect(jsonPath("$.timestamp").isNotEmpty())
+        .andDo(print());
+  }
+}
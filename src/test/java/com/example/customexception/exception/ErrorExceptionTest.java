@@ -0,0 +1,103 @@
+package com.example.customexception.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.customexception.constant.ResponseCode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ErrorExceptionTest {
+
+  @AfterEach
+  void tearDown() {
+    StackTracePolicy.configure(Collections.emptySet());
+  }
+
+  @DisplayName("stackless ResponseCode_스택 트레이스 미생성")
+  @Test
+  void testStacklessResponseCode() {
+
+    // Given
+    StackTracePolicy.configure(EnumSet.of(ResponseCode.NOT_FOUND));
+
+    // When
+    ErrorException stackless = new ErrorException(ResponseCode.NOT_FOUND);
+    ErrorException withTrace = new ErrorException(ResponseCode.INTERNAL_SERVER_ERROR);
+
+    // Then
+    assertThat(stackless.getStackTrace()).isEmpty();
+    assertThat(stackless.getMessage()).isEqualTo(ResponseCode.NOT_FOUND.getMessage());
+    assertThat(withTrace.getStackTrace()).isNotEmpty();
+  }
+
+  @DisplayName("공유 인스턴스_ResponseCode별 동일 인스턴스 및 불변")
+  @Test
+  void testSharedInstance() {
+
+    // Given
+    ErrorException shared = ErrorException.of(ResponseCode.NOT_FOUND);
+
+    // When
+    shared.addSuppressed(new IllegalStateException("suppressed"));
+    shared.setStackTrace(new Throwable().getStackTrace());
+    shared.fillInStackTrace();
+
+    // Then
+    assertThat(ErrorException.of(ResponseCode.NOT_FOUND)).isSameAs(shared);
+    assertThat(shared.isShared()).isTrue();
+    assertThat(shared.getResponseCode()).isEqualTo(ResponseCode.NOT_FOUND);
+    assertThat(shared.getMessage()).isEqualTo(ResponseCode.NOT_FOUND.getMessage());
+    assertThat(shared.getSuppressed()).isEmpty();
+    assertThat(shared.getStackTrace()).isEmpty();
+    assertThatThrownBy(() -> shared.initCause(new IllegalStateException("cause")))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(shared.getCause()).isNull();
+  }
+
+  @DisplayName("메시지 템플릿_getMessage 첫 호출 시 한 번만 생성")
+  @Test
+  void testLazyMessage() throws Exception {
+
+    // Given
+    AtomicInteger renders = new AtomicInteger();
+    Object id = new Object() {
+      @Override
+      public String toString() {
+        renders.incrementAndGet();
+        return "42";
+      }
+    };
+
+    // When
+    ErrorException e = ErrorException.of(ResponseCode.NOT_FOUND, "user {} not found", id);
+    int beforeGetMessage = renders.get();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<String>> messages = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      messages.add(executor.submit(e::getMessage));
+    }
+    executor.shutdown();
+
+    // Then
+    assertThat(beforeGetMessage).isZero();
+    for (Future<String> message : messages) {
+      assertThat(message.get()).isEqualTo("user 42 not found");
+    }
+    assertThat(e.getResponseCode()).isEqualTo(ResponseCode.NOT_FOUND);
+    assertThat(e.toString()).endsWith(": user 42 not found");
+    int rendered = renders.get();
+    e.getMessage();
+    assertThat(rendered).isBetween(1, 8);
+    assertThat(renders.get()).isEqualTo(rendered);
+  }
+}
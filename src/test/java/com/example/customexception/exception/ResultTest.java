@@ -0,0 +1,56 @@
+package com.example.customexception.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.customexception.constant.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResultTest {
+
+  @DisplayName("ResponseCode 에러_공유 인스턴스, map 후에도 같은 에러")
+  @Test
+  void testSharedError() {
+
+    // Given
+    Result<String> error = Result.error(ResponseCode.NOT_FOUND);
+
+    // When
+    Result<Integer> mapped = error.map(String::length);
+
+    // Then
+    assertThat(error).isSameAs(Result.error(ResponseCode.NOT_FOUND));
+    assertThat(mapped.isError()).isTrue();
+    assertThat(mapped.getResponseCode()).isEqualTo(ResponseCode.NOT_FOUND);
+    assertThat(mapped.getMessage()).isNull();
+  }
+
+  @DisplayName("성공_map, flatMap 적용 및 값 반환")
+  @Test
+  void testOk() {
+
+    // When
+    Result<Integer> length = Result.ok("result").map(String::length);
+    Result<Integer> failed = length.flatMap(value -> Result.error("너무 깁니다"));
+
+    // Then
+    assertThat(length.isOk()).isTrue();
+    assertThat(length.orElseThrow()).isEqualTo(6);
+    assertThat(failed.getResponseCode()).isEqualTo(ResponseCode.CUSTOM_EXCEPTION);
+    assertThat(failed.getMessage()).isEqualTo("너무 깁니다");
+  }
+
+  @DisplayName("orElseThrow_에러 코드, 메시지로 ErrorException 발생")
+  @Test
+  void testOrElseThrow() {
+
+    // When & Then
+    assertThatThrownBy(() -> Result.error(ResponseCode.NOT_FOUND).orElseThrow())
+        .isSameAs(ErrorException.of(ResponseCode.NOT_FOUND));
+    assertThatThrownBy(() -> Result.error(ResponseCode.INVALID_REQUEST, "id 오류").orElseThrow())
+        .isInstanceOf(ErrorException.class)
+        .hasMessage("id 오류")
+        .extracting("responseCode").isEqualTo(ResponseCode.INVALID_REQUEST);
+  }
+}
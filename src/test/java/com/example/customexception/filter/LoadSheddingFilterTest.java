@@ -0,0 +1,318 @@
+package com.example.customexception.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.config.LoadSheddingProperties;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.ErrorResponseEncoder;
+import com.example.customexception.response.TimestampProvider;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+class LoadSheddingFilterTest {
+
+  private static final String PATH = "/api/exception01";
+
+  private static final String ITEM_PATTERN = "/api/items/{id}";
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2022-06-01T03:04:05Z"));
+
+  private final ResponseCodeRegistry responseCodeRegistry = ResponseCodeRegistry.getInstance();
+
+  private final ErrorResponseEncoder errorResponseEncoder =
+      new ErrorResponseEncoder(responseCodeRegistry);
+
+  private final TimestampProvider timestampProvider =
+      new TimestampProvider(clock, "yyyyMMddHHmmss", ChronoUnit.SECONDS);
+
+  private final ErrorMetrics errorMetrics = new ErrorMetrics(true, responseCodeRegistry);
+
+  private final LoadSheddingFilter loadSheddingFilter = loadSheddingFilter(properties());
+
+  private final AtomicInteger dispatched = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    RequestMappingHandlerMapping handlerMapping = new RequestMappingHandlerMapping();
+    register(handlerMapping, PATH);
+    register(handlerMapping, ITEM_PATTERN);
+    assertThat(loadSheddingFilter.compile(List.of(handlerMapping))).isTrue();
+  }
+
+  @DisplayName("에러율 임계치 초과_503 ErrorResponse 반환 및 컨트롤러 미호출")
+  @Test
+  void testTrip() throws Exception {
+
+    // Given
+    for (int i = 0; i < 10; i++) {
+      perform(500);
+    }
+    dispatched.set(0);
+
+    // When
+    MockHttpServletResponse response = perform(500);
+
+    // Then
+    assertThat(dispatched).hasValue(0);
+    assertThat(response.getStatus()).isEqualTo(503);
+    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+    assertThat(response.getContentAsByteArray()).isEqualTo(errorResponseEncoder.encode(
+        ResponseCode.SERVICE_UNAVAILABLE.getCode(),
+        ResponseCode.SERVICE_UNAVAILABLE.getMessage(),
+        "GET",
+        PATH,
+        timestampProvider.now()));
+    assertThat(errorMetrics.countOf(ResponseCode.SERVICE_UNAVAILABLE)).isEqualTo(1);
+    assertThat(loadSheddingFilter.snapshot().getRoutes().get("GET " + PATH).getState())
+        .isEqualTo("OPEN");
+  }
+
+  @DisplayName("에러율 임계치 미만 또는 최소 요청 수 미만_차단하지 않음")
+  @Test
+  void testBelowThreshold() throws Exception {
+
+    // Given
+    for (int i = 0; i < 9; i++) {
+      perform(500);
+    }
+    for (int i = 0; i < 20; i++) {
+      perform(200);
+    }
+
+    // When
+    MockHttpServletResponse response = perform(500);
+
+    // Then
+    LoadSheddingSnapshot.Route route = loadSheddingFilter.snapshot().getRoutes().get("GET " + PATH);
+    assertThat(response.getStatus()).isEqualTo(500);
+    assertThat(route.getState()).isEqualTo("CLOSED");
+    assertThat(route.getRequests()).isEqualTo(30);
+    assertThat(route.getErrors()).isEqualTo(10);
+  }
+
+  @DisplayName("OPEN 유지 시간 경과_probe 성공 시 CLOSED, 실패 시 다시 OPEN")
+  @Test
+  void testHalfOpen() throws Exception {
+
+    // Given
+    for (int i = 0; i < 10; i++) {
+      perform(500);
+    }
+    clock.instant = clock.instant.plusSeconds(5);
+
+    // When
+    MockHttpServletResponse failedProbe = perform(500);
+    MockHttpServletResponse rejected = perform(200);
+    clock.instant = clock.instant.plusSeconds(5);
+    for (int i = 0; i < 3; i++) {
+      perform(200);
+    }
+
+    // Then
+    assertThat(failedProbe.getStatus()).isEqualTo(500);
+    assertThat(rejected.getStatus()).isEqualTo(503);
+    assertThat(perform(200).getStatus()).isEqualTo(200);
+    assertThat(loadSheddingFilter.snapshot().getRoutes().get("GET " + PATH).getState())
+        .isEqualTo("CLOSED");
+  }
+
+  @DisplayName("윈도우 경과_이전 bucket 에러 제외")
+  @Test
+  void testSlidingWindow() throws Exception {
+
+    // Given
+    for (int i = 0; i < 9; i++) {
+      perform(500);
+    }
+    clock.instant = clock.instant.plusSeconds(10);
+
+    // When
+    MockHttpServletResponse response = perform(500);
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(500);
+    assertThat(loadSheddingFilter.snapshot().getRoutes().get("GET " + PATH).getErrors())
+        .isEqualTo(1);
+  }
+
+  @DisplayName("경로 패턴 라우트_id가 달라도 한 라우트로 집계되어 차단")
+  @Test
+  void testPatternRoute() throws Exception {
+
+    // Given
+    for (int i = 0; i < 10; i++) {
+      perform("/api/items/" + i, 500);
+    }
+    dispatched.set(0);
+
+    // When
+    MockHttpServletResponse response = perform("/api/items/new", 500);
+
+    // Then
+    assertThat(dispatched).hasValue(0);
+    assertThat(response.getStatus()).isEqualTo(503);
+    assertThat(loadSheddingFilter.snapshot().getRoutes())
+        .containsOnlyKeys("GET " + ITEM_PATTERN);
+  }
+
+  @DisplayName("'/app/*'에 매핑된 DispatcherServlet_servlet path 이후 경로의 패턴으로 집계")
+  @Test
+  void testServletPath() throws Exception {
+
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/items/1");
+    request.setServletPath("/app");
+    request.setPathInfo("/api/items/1");
+
+    // When
+    perform(request, 200);
+
+    // Then
+    assertThat(loadSheddingFilter.snapshot().getRoutes())
+        .containsOnlyKeys("GET " + ITEM_PATTERN);
+    assertThat(loadSheddingFilter.snapshot().getUntracked()).isZero();
+  }
+
+  @DisplayName("등록되지 않은 경로_라우트를 만들지 않고 untracked로 집계")
+  @Test
+  void testUnknownPath() throws Exception {
+
+    // Given & When
+    for (int i = 0; i < 20; i++) {
+      perform("/scan/" + i, 500);
+    }
+
+    // Then
+    assertThat(dispatched).hasValue(20);
+    assertThat(loadSheddingFilter.snapshot().getRoutes()).isEmpty();
+    assertThat(loadSheddingFilter.snapshot().getUntracked()).isEqualTo(20);
+  }
+
+  @DisplayName("최대 라우트 수 도달_윈도우 내 요청이 없는 라우트 제거 후 새 라우트 추적")
+  @Test
+  void testEvictIdleRoute() throws Exception {
+
+    // Given
+    LoadSheddingProperties properties = properties();
+    properties.setMaxRoutes(1);
+    LoadSheddingFilter filter = loadSheddingFilter(properties);
+    RequestMappingHandlerMapping handlerMapping = new RequestMappingHandlerMapping();
+    register(handlerMapping, PATH);
+    register(handlerMapping, ITEM_PATTERN);
+    filter.compile(List.of(handlerMapping));
+    filter.doFilter(new MockHttpServletRequest("GET", PATH), new MockHttpServletResponse(),
+        (req, res) -> dispatched.incrementAndGet());
+
+    // When
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/items/1"),
+        new MockHttpServletResponse(), (req, res) -> dispatched.incrementAndGet());
+    clock.instant = clock.instant.plusSeconds(10);
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/items/2"),
+        new MockHttpServletResponse(), (req, res) -> dispatched.incrementAndGet());
+
+    // Then
+    assertThat(filter.snapshot().getRoutes()).containsOnlyKeys("GET " + ITEM_PATTERN);
+    assertThat(filter.snapshot().getUntracked()).isEqualTo(1);
+  }
+
+  private MockHttpServletResponse perform(int status) throws Exception {
+    return perform(PATH, status);
+  }
+
+  private MockHttpServletResponse perform(String uri, int status) throws Exception {
+    return perform(new MockHttpServletRequest("GET", uri), status);
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequest request, int status)
+      throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FilterChain filterChain = (req, res) -> {
+      dispatched.incrementAndGet();
+      ((MockHttpServletResponse) res).setStatus(status);
+    };
+    loadSheddingFilter.doFilter(request, response, filterChain);
+    return response;
+  }
+
+  private LoadSheddingFilter loadSheddingFilter(LoadSheddingProperties properties) {
+    return new LoadSheddingFilter(
+        properties,
+        clock,
+        errorResponseEncoder,
+        new ErrorMessages(responseCodeRegistry),
+        timestampProvider,
+        localeResolver(),
+        errorMetrics);
+  }
+
+  private static void register(RequestMappingHandlerMapping handlerMapping, String path)
+      throws NoSuchMethodException {
+    handlerMapping.registerMapping(
+        RequestMappingInfo.paths(path).methods(RequestMethod.GET).build(),
+        new Object(),
+        Object.class.getMethod("toString"));
+  }
+
+  private static LoadSheddingProperties properties() {
+    LoadSheddingProperties properties = new LoadSheddingProperties();
+    properties.setEnabled(true);
+    properties.setWindow(Duration.ofSeconds(10));
+    properties.setBuckets(10);
+    properties.setMinimumRequests(10);
+    properties.setErrorRateThreshold(0.5);
+    properties.setOpenDuration(Duration.ofSeconds(5));
+    properties.setHalfOpenProbes(3);
+    return properties;
+  }
+
+  private static AcceptHeaderLocaleResolver localeResolver() {
+    AcceptHeaderLocaleResolver localeResolver = new AcceptHeaderLocaleResolver();
+    localeResolver.setDefaultLocale(Locale.KOREAN);
+    return localeResolver;
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
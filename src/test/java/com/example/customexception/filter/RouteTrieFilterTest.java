@@ -0,0 +1,274 @@
+package com.example.customexception.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.customexception.advice.ExceptionAspect;
+import com.example.customexception.advice.ExceptionResolver;
+import com.example.customexception.config.JournalProperties;
+import com.example.customexception.config.LoggingProperties;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.journal.ErrorJournal;
+import com.example.customexception.logging.ExceptionLogger;
+import com.example.customexception.metrics.ErrorMetrics;
+import com.example.customexception.metrics.HeavyHitters;
+import com.example.customexception.metrics.RecentErrors;
+import com.example.customexception.metrics.RecentErrorsSnapshot;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.ErrorResponse;
+import com.example.customexception.response.ErrorResponseEncoder;
+import com.example.customexception.response.TimestampProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+class RouteTrieFilterTest {
+
+  private final Clock clock = Clock.fixed(Instant.parse("2022-06-01T03:04:05Z"), ZoneOffset.UTC);
+
+  private final ResponseCodeRegistry responseCodeRegistry = ResponseCodeRegistry.getInstance();
+
+
+  private final TimestampProvider timestampProvider =
+      new TimestampProvider(clock, "yyyyMMddHHmmss", ChronoUnit.SECONDS);
+
+  private final ErrorMetrics errorMetrics = new ErrorMetrics(true, responseCodeRegistry);
+
+  private final HeavyHitters heavyHitters = new HeavyHitters(true, clock, 8, 4, 256, 60_000);
+
+  private final RecentErrors recentErrors = new RecentErrors(true, clock, 8, 1);
+
+  private final ErrorJournal errorJournal =
+      new ErrorJournal(new JournalProperties(), clock, responseCodeRegistry);
+
+  private final ErrorMessages errorMessages = new ErrorMessages(responseCodeRegistry);
+
+  private final RouteTrieFilter routeTrieFilter = new RouteTrieFilter(
+      new ErrorResponseEncoder(responseCodeRegistry),
+      errorMessages,
+      timestampProvider,
+      localeResolver(),
+      errorMetrics,
+      heavyHitters,
+      recentErrors,
+      errorJournal);
+
+  private final ExceptionAspect exceptionAspect = new ExceptionAspect(
+      timestampProvider,
+      errorMessages,
+      new ExceptionLogger(clock, new LoggingProperties()),
+      new ErrorMetrics(true, responseCodeRegistry),
+      new RecentErrors(false, clock, 1, 1),
+      errorJournal,
+      new HeavyHitters(false, clock, 1, 1, 1, 60_000),
+      new ExceptionResolver());
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private final AtomicInteger dispatched = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    RequestMappingHandlerMapping handlerMapping = new RequestMappingHandlerMapping();
+    register(handlerMapping, "/api/items", RequestMethod.GET, RequestMethod.POST);
+    register(handlerMapping, "/api/items/{id}", RequestMethod.GET);
+    register(handlerMapping, "/api/exception01");
+    assertThat(routeTrieFilter.compile(List.of(handlerMapping))).isTrue();
+    LocaleContextHolder.setLocale(Locale.KOREAN);
+  }
+
+  @AfterEach
+  void tearDown() {
+    LocaleContextHolder.resetLocaleContext();
+  }
+
+  @DisplayName("등록되지 않은 경로_ExceptionAspect와 같은 906 ErrorResponse 반환 및 컨트롤러 미호출")
+  @Test
+  void testNotFound() throws Exception {
+
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/unknown");
+    ResponseEntity<ErrorResponse> expected = exceptionAspect.handleException(
+        request, new NoHandlerFoundException("GET", "/api/unknown", new HttpHeaders()));
+
+    // When
+    MockHttpServletResponse response = perform(request);
+
+    // Then
+    assertThat(dispatched).hasValue(0);
+    assertThat(response.getStatus()).isEqualTo(expected.getStatusCodeValue()).isEqualTo(404);
+    assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+    assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+        .isEqualTo(objectMapper.writeValueAsString(expected.getBody()));
+    assertThat(errorMetrics.countOf(ResponseCode.NO_HANDLER_FOUND)).isEqualTo(1);
+  }
+
+  @DisplayName("등록된 경로에 없는 메서드_ExceptionAspect와 같은 907 ErrorResponse 반환 및 컨트롤러 미호출")
+  @Test
+  void testMethodNotAllowed() throws Exception {
+
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/items");
+    ResponseEntity<ErrorResponse> expected = exceptionAspect.handleException(
+        request, new HttpRequestMethodNotSupportedException("DELETE"));
+
+    // When
+    MockHttpServletResponse response = perform(request);
+
+    // Then
+    assertThat(dispatched).hasValue(0);
+    assertThat(response.getStatus()).isEqualTo(expected.getStatusCodeValue()).isEqualTo(405);
+    assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+        .isEqualTo(objectMapper.writeValueAsString(expected.getBody()));
+    assertThat(errorMetrics.countOf(ResponseCode.HTTP_REQUEST_METHOD_NOT_SUPPORTED))
+        .isEqualTo(1);
+  }
+
+  @DisplayName("거부한 요청_ExceptionAspect와 같은 최근 에러 기록")
+  @Test
+  void testRecentErrors() throws Exception {
+
+    // Given & When
+    perform(new MockHttpServletRequest("GET", "/api/unknown"));
+    perform(new MockHttpServletRequest("DELETE", "/api/items"));
+
+    // Then
+    RecentErrorsSnapshot snapshot = recentErrors.query(null, null, Long.MIN_VALUE, 10);
+    assertThat(snapshot.getErrors())
+        .extracting(RecentErrorsSnapshot.Error::getStatusCode,
+            RecentErrorsSnapshot.Error::getPath, RecentErrorsSnapshot.Error::getException)
+        .containsExactlyInAnyOrder(
+            tuple("906", "/api/unknown", NoHandlerFoundException.class.getName()),
+            tuple("907", "/api/items", HttpRequestMethodNotSupportedException.class.getName()));
+  }
+
+  @DisplayName("'/app/*'에 매핑된 DispatcherServlet_servlet path 이후 경로로 판단")
+  @Test
+  void testServletPath() throws Exception {
+
+    // Given
+    MockHttpServletRequest known = new MockHttpServletRequest("GET", "/app/api/items");
+    known.setServletPath("/app");
+    known.setPathInfo("/api/items");
+    MockHttpServletRequest unknown = new MockHttpServletRequest("GET", "/app/api/unknown");
+    unknown.setServletPath("/app");
+    unknown.setPathInfo("/api/unknown");
+
+    // When
+    perform(known);
+    MockHttpServletResponse response = perform(unknown);
+
+    // Then
+    assertThat(dispatched).hasValue(1);
+    assertThat(response.getStatus()).isEqualTo(404);
+  }
+
+  @DisplayName("등록된 경로, 패턴 경로, HEAD, 끝 '/'_DispatcherServlet으로 전달")
+  @Test
+  void testPass() throws Exception {
+
+    // Given & When
+    perform(new MockHttpServletRequest("POST", "/api/items"));
+    perform(new MockHttpServletRequest("GET", "/api/items/"));
+    perform(new MockHttpServletRequest("HEAD", "/api/items"));
+    perform(new MockHttpServletRequest("GET", "/api/items/1"));
+    perform(new MockHttpServletRequest("PATCH", "/api/exception01"));
+    perform(new MockHttpServletRequest("GET", "/api/exception01;a=b"));
+    perform(new MockHttpServletRequest("GET", "/api/%65xception01"));
+
+    // Then
+    assertThat(dispatched).hasValue(7);
+  }
+
+  @DisplayName("OPTIONS, JSON을 받지 않는 Accept 헤더_판단하지 않고 전달")
+  @Test
+  void testPassUndecidable() throws Exception {
+
+    // Given
+    MockHttpServletRequest html = new MockHttpServletRequest("GET", "/api/unknown");
+    html.addHeader(HttpHeaders.ACCEPT, MediaType.TEXT_HTML_VALUE);
+    MockHttpServletRequest json = new MockHttpServletRequest("GET", "/api/unknown");
+    json.addHeader(HttpHeaders.ACCEPT, "text/html, application/json;q=0.9");
+
+    // When
+    perform(new MockHttpServletRequest("OPTIONS", "/api/unknown"));
+    perform(html);
+    MockHttpServletResponse response = perform(json);
+
+    // Then
+    assertThat(dispatched).hasValue(2);
+    assertThat(response.getStatus()).isEqualTo(404);
+  }
+
+  @DisplayName("경로를 알 수 없는 HandlerMapping_trie를 만들지 않고 모두 전달")
+  @Test
+  void testUnsupportedHandlerMapping() throws Exception {
+
+    // Given
+    SimpleUrlHandlerMapping handlerMapping = new SimpleUrlHandlerMapping();
+    handlerMapping.setDefaultHandler(new Object());
+
+    // When
+    boolean compiled = routeTrieFilter.compile(List.of(handlerMapping));
+    perform(new MockHttpServletRequest("GET", "/api/unknown"));
+
+    // Then
+    assertThat(compiled).isFalse();
+    assertThat(routeTrieFilter.isCompiled()).isFalse();
+    assertThat(dispatched).hasValue(1);
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FilterChain filterChain = (req, res) -> dispatched.incrementAndGet();
+    routeTrieFilter.doFilter(request, response, filterChain);
+    return response;
+  }
+
+  private static void register(RequestMappingHandlerMapping handlerMapping, String path,
+      RequestMethod... methods) throws NoSuchMethodException {
+    handlerMapping.registerMapping(
+        RequestMappingInfo.paths(path).methods(methods).build(),
+        new Handler(),
+        Handler.class.getMethod("handle"));
+  }
+
+  private static AcceptHeaderLocaleResolver localeResolver() {
+    AcceptHeaderLocaleResolver localeResolver = new AcceptHeaderLocaleResolver();
+    localeResolver.setDefaultLocale(Locale.KOREAN);
+    return localeResolver;
+  }
+
+  public static class Handler {
+
+    public String handle() {
+      return "ok";
+    }
+  }
+}
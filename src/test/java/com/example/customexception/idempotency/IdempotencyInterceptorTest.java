@@ -0,0 +1,162 @@
+package com.example.customexception.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.customexception.advice.ExceptionAspect;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.dto.ErrorExceptionDto;
+import com.example.customexception.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.util.EnumSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.method.HandlerMethod;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class IdempotencyInterceptorTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @Autowired
+  ObjectMapper objectMapper;
+
+  @Autowired
+  ExceptionAspect exceptionAspect;
+
+  @DisplayName("Idempotency-Key 중복 요청_에러 코드:803")
+  @Test
+  void testDuplicatedRequest() throws Exception {
+
+    // Given
+    String url = "/api/methodArgumentNotvalidException";
+    ErrorExceptionDto.Request errorRequest = ErrorExceptionDto.Request.builder()
+        .title("title")
+        .description("description")
+        .completed(false)
+        .build();
+    String content = objectMapper.writeValueAsString(errorRequest);
+    mockMvc.perform(
+        post(url)
+            .header("Idempotency-Key", "duplicated")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(content)
+    ).andExpect(status().isOk());
+
+    // When
+    ResultActions resultActions = mockMvc.perform(
+        post(url)
+            .header("Idempotency-Key", "duplicated")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(content)
+    );
+
+    // Then
+    resultActions
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(
+            jsonPath("$.status_code")
+                .value(ResponseCode.DUPLICATED_REQUEST.getCode())
+        )
+        .andExpect(
+            jsonPath("$.message")
+                .value(ResponseCode.DUPLICATED_REQUEST.getMessage())
+        )
+        .andExpect(jsonPath("$.method").value(HttpMethod.POST.toString()))
+        .andExpect(jsonPath("$.path").value(url))
+        .andDo(print());
+  }
+
+  @DisplayName("4xx로 끝난 요청_키를 제거해 같은 키로 고친 요청 처리 후 중복 거부")
+  @Test
+  void testRetryAfterClientError() throws Exception {
+
+    // Given
+    String url = "/api/methodArgumentNotvalidException";
+    String invalid = objectMapper.writeValueAsString(ErrorExceptionDto.Request.builder()
+        .title("")
+        .description("description")
+        .completed(false)
+        .build());
+    String valid = objectMapper.writeValueAsString(ErrorExceptionDto.Request.builder()
+        .title("title")
+        .description("description")
+        .completed(false)
+        .build());
+    mockMvc.perform(
+        post(url)
+            .header("Idempotency-Key", "retry")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(invalid)
+    ).andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status_code")
+            .value(ResponseCode.METHOD_ARGUMENT_NOT_VALID.getCode()));
+
+    // When
+    ResultActions retried = mockMvc.perform(
+        post(url)
+            .header("Idempotency-Key", "retry")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(valid)
+    );
+    ResultActions duplicated = mockMvc.perform(
+        post(url)
+            .header("Idempotency-Key", "retry")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(valid)
+    );
+
+    // Then
+    retried.andExpect(status().isOk());
+    duplicated
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status_code").value(ResponseCode.DUPLICATED_REQUEST.getCode()));
+  }
+
+  @DisplayName("저장소가 처리 중인 키로 가득 참_HTTP 503, 에러 코드:909")
+  @Test
+  void testStoreFull() throws Exception {
+
+    // Given
+    IdempotencyKeyStore store = new IdempotencyKeyStore(Clock.systemUTC(), 60_000, 1, 1);
+    IdempotencyInterceptor interceptor = new IdempotencyInterceptor(
+        store, "Idempotency-Key", EnumSet.of(HttpMethod.POST), 64);
+    HandlerMethod handler =
+        new HandlerMethod(this, getClass().getDeclaredMethod("testStoreFull"));
+    store.tryAcquire("in-flight");
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/items");
+    request.addHeader("Idempotency-Key", "new");
+
+    // When
+    Throwable thrown = catchThrowable(
+        () -> interceptor.preHandle(request, new MockHttpServletResponse(), handler));
+    ResponseEntity<ErrorResponse> response =
+        exceptionAspect.handleException(request, (Exception) thrown);
+
+    // Then
+    assertThat(thrown).isSameAs(IdempotencyKeyStoreFullException.INSTANCE);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    assertThat(response.getBody().getStatusCode())
+        .isEqualTo(ResponseCode.SERVICE_UNAVAILABLE.getCode());
+  }
+}
@@ -0,0 +1,184 @@
+package com.example.customexception.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.idempotency.IdempotencyKeyStore.Acquisition;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyKeyStoreTest {
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2022-06-01T03:04:05Z"));
+
+  @DisplayName("처리 중 또는 처리 완료 키_중복 등록 거부, 제거 후 재등록")
+  @Test
+  void testDuplicate() {
+
+    // Given
+    IdempotencyKeyStore store = new IdempotencyKeyStore(clock, 60_000, 100, 4);
+
+    // When & Then
+    assertThat(store.tryAcquire("key")).isEqualTo(Acquisition.ACQUIRED);
+    assertThat(store.tryAcquire("key")).isEqualTo(Acquisition.DUPLICATED);
+    assertThat(store.isCompleted("key")).isFalse();
+    store.complete("key");
+    assertThat(store.tryAcquire("key")).isEqualTo(Acquisition.DUPLICATED);
+    assertThat(store.isCompleted("key")).isTrue();
+    store.release("key");
+    assertThat(store.tryAcquire("key")).isEqualTo(Acquisition.ACQUIRED);
+  }
+
+  @DisplayName("TTL 경과_만료 키 제거 후 재등록")
+  @Test
+  void testTtl() {
+
+    // Given
+    IdempotencyKeyStore store = new IdempotencyKeyStore(clock, 60_000, 100, 1);
+    store.tryAcquire("first");
+    clock.instant = clock.instant.plusSeconds(30);
+    store.tryAcquire("second");
+
+    // When
+    clock.instant = clock.instant.plusSeconds(30);
+    Acquisition acquisition = store.tryAcquire("first");
+
+    // Then
+    assertThat(acquisition).isEqualTo(Acquisition.ACQUIRED);
+    assertThat(store.isCompleted("second")).isFalse();
+    assertThat(store.size()).isEqualTo(2);
+  }
+
+  @DisplayName("최대 키 수 초과_오래된 처리 완료 키부터 제거")
+  @Test
+  void testCapacity() {
+
+    // Given
+    IdempotencyKeyStore store = new IdempotencyKeyStore(clock, 60_000, 100, 4);
+
+    // When
+    for (int i = 0; i < 10_000; i++) {
+      store.tryAcquire("key-" + i);
+      store.complete("key-" + i);
+    }
+
+    // Then
+    assertThat(store.size()).isLessThanOrEqualTo(100);
+    assertThat(store.isCompleted("key-9999")).isTrue();
+    assertThat(store.isCompleted("key-0")).isNull();
+  }
+
+  @DisplayName("처리 중인 키로 가득 참_처리 중 키를 제거하지 않고 새 키 거부")
+  @Test
+  void testFullOfInFlight() {
+
+    // Given
+    IdempotencyKeyStore store = new IdempotencyKeyStore(clock, 60_000, 2, 1);
+    store.tryAcquire("first");
+    store.tryAcquire("second");
+
+    // When
+    Acquisition full = store.tryAcquire("third");
+    store.complete("first");
+    Acquisition acquired = store.tryAcquire("third");
+
+    // Then
+    assertThat(full).isEqualTo(Acquisition.FULL);
+    assertThat(acquired).isEqualTo(Acquisition.ACQUIRED);
+    assertThat(store.isCompleted("first")).isNull();
+    assertThat(store.isCompleted("second")).isFalse();
+    assertThat(store.tryAcquire("second")).isEqualTo(Acquisition.DUPLICATED);
+  }
+
+  @DisplayName("처리 중인 키 뒤의 처리 완료 키_처리 중 키를 건너뛰지 않고 바로 제거, 이후 새 키 거부")
+  @Test
+  void testEvictCompletedBehindInFlight() {
+
+    // Given
+    IdempotencyKeyStore store = new IdempotencyKeyStore(clock, 60_000, 10_000, 1);
+    for (int i = 0; i < 9_999; i++) {
+      store.tryAcquire("in-flight-" + i);
+    }
+    store.tryAcquire("completed");
+    store.complete("completed");
+
+    // When
+    Acquisition acquired = store.tryAcquire("new");
+    int full = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (store.tryAcquire("rejected-" + i) == Acquisition.FULL) {
+        full++;
+      }
+    }
+
+    // Then
+    assertThat(acquired).isEqualTo(Acquisition.ACQUIRED);
+    assertThat(store.isCompleted("completed")).isNull();
+    assertThat(store.isCompleted("in-flight-0")).isFalse();
+    assertThat(full).isEqualTo(100_000);
+    assertThat(store.size()).isEqualTo(10_000);
+  }
+
+  @DisplayName("동시 중복 요청_하나만 등록")
+  @Test
+  void testConcurrentDuplicate() throws Exception {
+
+    // Given
+    IdempotencyKeyStore store = new IdempotencyKeyStore(clock, 60_000, 100, 4);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger acquired = new AtomicInteger();
+
+    // When
+    for (int i = 0; i < 8; i++) {
+      executor.execute(() -> {
+        try {
+          start.await();
+          if (store.tryAcquire("key") == Acquisition.ACQUIRED) {
+            acquired.incrementAndGet();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    executor.awaitTermination(5, TimeUnit.SECONDS);
+
+    // Then
+    assertThat(acquired).hasValue(1);
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.example.customexception.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.exception.ErrorException;
+import com.example.customexception.metrics.ErrorMetrics;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+class ErrorEventsTest {
+
+  private static final String ERROR_HANDLED = "com.example.customexception.ErrorHandled";
+  private static final String ERROR_COUNTS = "com.example.customexception.ErrorCounts";
+
+  @TempDir
+  Path directory;
+
+  @DisplayName("비활성화 후 활성화, 기록 중 에러 처리_ErrorHandled, 에러 코드별 ErrorCounts 이벤트 기록")
+  @Test
+  void testRecord() throws Exception {
+
+    // Given
+    ErrorMetrics errorMetrics = new ErrorMetrics(true, ResponseCodeRegistry.getInstance());
+    Path file = directory.resolve("errors.jfr");
+    new ErrorEvents(false, errorMetrics, ResponseCodeRegistry.getInstance()).close();
+
+    // When
+    try (ErrorEvents errorEvents =
+        new ErrorEvents(true, errorMetrics, ResponseCodeRegistry.getInstance());
+        Recording recording = new Recording()) {
+      recording.enable(ERROR_HANDLED);
+      recording.enable(ERROR_COUNTS).with("period", "endChunk");
+      recording.start();
+
+      assertThat(errorEvents.isEnabled()).isTrue();
+      ErrorHandledEvent event = new ErrorHandledEvent();
+      event.begin();
+      errorMetrics.record("handleRtaException", ResponseCode.NOT_FOUND,
+          HttpStatus.BAD_REQUEST, 1_000L);
+      errorMetrics.record("handleRtaException", ResponseCode.NOT_FOUND,
+          HttpStatus.BAD_REQUEST, 1_000L);
+      event.commit(ErrorException.class, ResponseCode.NOT_FOUND, HttpStatus.BAD_REQUEST,
+          "GET", "/api/exception04", "handleRtaException");
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    // Then
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    List<RecordedEvent> handled = byName(events, ERROR_HANDLED);
+    assertThat(handled).hasSize(1);
+    assertThat(handled.get(0).getClass("exceptionClass").getName())
+        .isEqualTo(ErrorException.class.getName());
+    assertThat(handled.get(0).getString("code")).isEqualTo("804");
+    assertThat(handled.get(0).getInt("httpStatus")).isEqualTo(400);
+    assertThat(handled.get(0).getString("method")).isEqualTo("GET");
+    assertThat(handled.get(0).getString("path")).isEqualTo("/api/exception04");
+    assertThat(handled.get(0).getString("handler")).isEqualTo("handleRtaException");
+
+    List<RecordedEvent> counts = byName(events, ERROR_COUNTS);
+    assertThat(counts).isNotEmpty();
+    assertThat(counts).allSatisfy(count -> {
+      assertThat(count.getString("code")).isEqualTo("804");
+      assertThat(count.getLong("count")).isEqualTo(2);
+    });
+  }
+
+  @DisplayName("기록 중이 아님_commit하지 않음")
+  @Test
+  void testNotRecording() {
+
+    // Given
+    ErrorHandledEvent event = new ErrorHandledEvent();
+    event.begin();
+
+    // When
+    event.commit(ErrorException.class, ResponseCode.NOT_FOUND, HttpStatus.BAD_REQUEST,
+        "GET", "/api/exception04", "handleRtaException");
+
+    // Then
+    assertThat(event.shouldCommit()).isFalse();
+    assertThat(event.code).isNull();
+  }
+
+  private static List<RecordedEvent> byName(List<RecordedEvent> events, String name) {
+    return events.stream()
+        .filter(event -> event.getEventType().getName().equals(name))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,199 @@
+package com.example.customexception.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.config.JournalProperties;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.exception.ErrorException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class ErrorJournalTest {
+
+  @TempDir
+  Path directory;
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2022-06-01T03:04:05Z"));
+
+  @DisplayName("기록 후 종료_reader로 같은 레코드 조회")
+  @Test
+  void testAppendAndRead() throws Exception {
+
+    // Given
+    try (ErrorJournal errorJournal = errorJournal(properties())) {
+
+      // When
+      errorJournal.append(ResponseCode.NOT_FOUND, "GET", "/api/exception04",
+          ErrorException.class);
+      clock.instant = clock.instant.plusMillis(1);
+      errorJournal.append(ResponseCode.INTERNAL_SERVER_ERROR, "GET", "/api/exception01",
+          RuntimeException.class);
+      errorJournal.append(ResponseCode.NOT_FOUND, "DELETE", "/api/exception04",
+          ErrorException.class);
+    }
+
+    // Then
+    List<JournalEvent> events = ErrorJournalReader.readAll(directory);
+    assertThat(events).hasSize(3);
+    assertThat(events.get(0).getCode()).isEqualTo(804);
+    assertThat(events.get(0).getEpochMillis())
+        .isEqualTo(Instant.parse("2022-06-01T03:04:05Z").toEpochMilli());
+    assertThat(events.get(0).getMethod()).isEqualTo("GET");
+    assertThat(events.get(0).getPath()).isEqualTo("/api/exception04");
+    assertThat(events.get(0).getException()).isEqualTo(ErrorException.class.getName());
+    assertThat(events.get(2).getMethod()).isEqualTo("DELETE");
+
+    Map<String, Long> byCode = ErrorJournalReader.aggregate(directory,
+        event -> event.getPath().startsWith("/api/exception0"),
+        event -> String.valueOf(event.getCode()));
+    assertThat(byCode).containsExactly(Map.entry("804", 2L), Map.entry("900", 1L));
+  }
+
+  @DisplayName("크기, 시간 기준 segment 교체_segment마다 사전 재정의 및 오래된 segment 삭제")
+  @Test
+  void testRotate() throws Exception {
+
+    // Given
+    JournalProperties properties = properties();
+    properties.setMaxSegments(3);
+
+    // When
+    try (ErrorJournal errorJournal = errorJournal(properties)) {
+      for (int i = 0; i < 6000; i++) {
+        errorJournal.append(ResponseCode.NOT_FOUND, "GET", "/api/exception04",
+            ErrorException.class);
+      }
+      clock.instant = clock.instant.plus(Duration.ofMinutes(1));
+      errorJournal.append(ResponseCode.INVALID_REQUEST, "POST", "/api/exception02",
+          ErrorException.class);
+    }
+
+    // Then
+    List<Path> segments = ErrorJournalReader.segments(directory);
+    assertThat(segments).hasSize(3);
+    assertThat(segments.get(2).getFileName().toString()).isEqualTo(JournalFormat.segmentName(4));
+    List<JournalEvent> last = ErrorJournalReader.readAll(segments.get(2));
+    assertThat(last).hasSize(1);
+    assertThat(last.get(0).getPath()).isEqualTo("/api/exception02");
+    assertThat(ErrorJournalReader.readAll(segments.get(1)))
+        .allSatisfy(event -> assertThat(event.getPath()).isEqualTo("/api/exception04"));
+  }
+
+  @DisplayName("사전 초과 후 segment 교체_초과 문자열은 \"?\", 새 segment부터 다시 기록")
+  @Test
+  void testStringsOverflowThenRotate() throws Exception {
+
+    // Given
+    JournalProperties properties = properties();
+    properties.setMaxStrings(3);
+
+    // When
+    try (ErrorJournal errorJournal = errorJournal(properties)) {
+      errorJournal.append(ResponseCode.NOT_FOUND, "GET", "/scan/1", ErrorException.class);
+      errorJournal.append(ResponseCode.NOT_FOUND, "GET", "/scan/2", ErrorException.class);
+      errorJournal.append(ResponseCode.NOT_FOUND, "GET", "/scan/3", RuntimeException.class);
+      clock.instant = clock.instant.plus(Duration.ofMinutes(1));
+      errorJournal.append(ResponseCode.NOT_FOUND, "GET", "/scan/2", ErrorException.class);
+      errorJournal.append(ResponseCode.NOT_FOUND, "POST", "/scan/2", RuntimeException.class);
+    }
+
+    // Then
+    List<JournalEvent> events = ErrorJournalReader.readAll(directory);
+    assertThat(events).extracting(JournalEvent::getPath)
+        .containsExactly("/scan/1", "?", "?", "/scan/2", "/scan/2");
+    assertThat(events).extracting(JournalEvent::getException)
+        .containsExactly(ErrorException.class.getName(), ErrorException.class.getName(), "?",
+            ErrorException.class.getName(), "?");
+    assertThat(events.get(4).getMethod()).isEqualTo("?");
+  }
+
+  @DisplayName("재시작_이전 segment 다음 번호로 기록")
+  @Test
+  void testRestart() throws Exception {
+
+    // Given
+    try (ErrorJournal errorJournal = errorJournal(properties())) {
+      errorJournal.append(ResponseCode.NOT_FOUND, "GET", "/a", ErrorException.class);
+    }
+
+    // When
+    try (ErrorJournal errorJournal = errorJournal(properties())) {
+      errorJournal.append(ResponseCode.NOT_FOUND, "GET", "/b", ErrorException.class);
+    }
+
+    // Then
+    assertThat(ErrorJournalReader.segments(directory)).extracting(Path::getFileName)
+        .extracting(Path::toString)
+        .containsExactly(JournalFormat.segmentName(1), JournalFormat.segmentName(2));
+    assertThat(ErrorJournalReader.readAll(directory)).extracting(JournalEvent::getPath)
+        .containsExactly("/a", "/b");
+  }
+
+  @DisplayName("비활성화_파일을 만들지 않음")
+  @Test
+  void testDisabled() throws Exception {
+
+    // Given
+    JournalProperties properties = properties();
+    properties.setEnabled(false);
+
+    // When
+    try (ErrorJournal errorJournal = errorJournal(properties)) {
+      errorJournal.append(ResponseCode.NOT_FOUND, "GET", "/a", ErrorException.class);
+    }
+
+    // Then
+    try (var files = Files.list(directory)) {
+      assertThat(files).isEmpty();
+    }
+  }
+
+  private ErrorJournal errorJournal(JournalProperties properties) {
+    return new ErrorJournal(properties, clock, ResponseCodeRegistry.getInstance());
+  }
+
+  private JournalProperties properties() {
+    JournalProperties properties = new JournalProperties();
+    properties.setEnabled(true);
+    properties.setDirectory(directory.toString());
+    properties.setSegmentSize(DataSize.ofKilobytes(64));
+    properties.setRotateInterval(Duration.ofMinutes(1));
+    return properties;
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
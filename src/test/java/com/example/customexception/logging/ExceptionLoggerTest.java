@@ -0,0 +1,83 @@
+package com.example.customexception.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.customexception.config.LoggingProperties;
+import com.example.customexception.constant.ResponseCode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+class ExceptionLoggerTest {
+
+  private final Logger logger = (Logger) LoggerFactory.getLogger(ExceptionLogger.class);
+
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    logger.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    logger.detachAppender(appender);
+  }
+
+  @DisplayName("같은 fingerprint_window 안에서 첫 번째만 스택 트레이스 출력 후 요약")
+  @Test
+  void testSampledLogging() {
+
+    // Given
+    LoggingProperties loggingProperties = new LoggingProperties();
+    loggingProperties.setWindow(Duration.ofSeconds(60));
+    ExceptionLogger exceptionLogger = new ExceptionLogger(
+        Clock.fixed(Instant.parse("2022-06-01T00:00:00Z"), ZoneOffset.UTC), loggingProperties);
+
+    // When
+    for (int i = 0; i < 5; i++) {
+      exceptionLogger.log("handleException", ResponseCode.INTERNAL_SERVER_ERROR, newException());
+    }
+    exceptionLogger.flushSummaries();
+
+    // Then
+    assertThat(appender.list).hasSize(2);
+    assertThat(appender.list.get(0).getThrowableProxy()).isNotNull();
+    assertThat(appender.list.get(1).getFormattedMessage()).contains("suppressed 4 times");
+    assertThat(exceptionLogger.fingerprintCount()).isEqualTo(1);
+  }
+
+  @DisplayName("sampled 비활성화_모든 예외 스택 트레이스 출력")
+  @Test
+  void testFullLogging() {
+
+    // Given
+    LoggingProperties loggingProperties = new LoggingProperties();
+    loggingProperties.setSampled(false);
+    ExceptionLogger exceptionLogger =
+        new ExceptionLogger(Clock.systemUTC(), loggingProperties);
+
+    // When
+    for (int i = 0; i < 3; i++) {
+      exceptionLogger.log("handleException", ResponseCode.INTERNAL_SERVER_ERROR, newException());
+    }
+
+    // Then
+    assertThat(appender.list).hasSize(3)
+        .allSatisfy(event -> assertThat(event.getThrowableProxy()).isNotNull());
+  }
+
+  private static RuntimeException newException() {
+    return new RuntimeException("RuntimeException 발생");
+  }
+}
@@ -0,0 +1,59 @@
+package com.example.customexception.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class ErrorMetricsTest {
+
+  @DisplayName("ResponseCode, HTTP 상태, 핸들러별 건수 및 처리 시간 집계")
+  @Test
+  void testSnapshot() {
+
+    // Given
+    ErrorMetrics errorMetrics = new ErrorMetrics(true, ResponseCodeRegistry.getInstance());
+
+    // When
+    for (int i = 0; i < 99; i++) {
+      errorMetrics.record(
+          "handleRtaException", ResponseCode.NOT_FOUND, HttpStatus.BAD_REQUEST, 1_000L);
+    }
+    errorMetrics.record(
+        "handleException", ResponseCode.INTERNAL_SERVER_ERROR,
+        HttpStatus.INTERNAL_SERVER_ERROR, 1_000_000L);
+    ErrorMetricsSnapshot snapshot = errorMetrics.snapshot();
+
+    // Then
+    assertThat(snapshot.getCodes())
+        .containsEntry("804", 99L)
+        .containsEntry("900", 1L);
+    assertThat(snapshot.getStatuses())
+        .containsEntry("400", 99L)
+        .containsEntry("500", 1L);
+    ErrorMetricsSnapshot.Handler handler = snapshot.getHandlers().get("handleRtaException");
+    assertThat(handler.getCount()).isEqualTo(99L);
+    assertThat(handler.getMeanNanos()).isEqualTo(1_000L);
+    assertThat(handler.getP99Nanos()).isBetween(1_000L, 1_023L);
+    assertThat(snapshot.getHandlers().get("handleException").getMaxNanos())
+        .isEqualTo(1_000_000L);
+  }
+
+  @DisplayName("비활성화_기록하지 않음")
+  @Test
+  void testDisabled() {
+
+    // Given
+    ErrorMetrics errorMetrics = new ErrorMetrics(false, ResponseCodeRegistry.getInstance());
+
+    // When
+    errorMetrics.record(
+        "handleRtaException", ResponseCode.NOT_FOUND, HttpStatus.BAD_REQUEST, 1_000L);
+
+    // Then
+    assertThat(errorMetrics.countOf(ResponseCode.NOT_FOUND)).isZero();
+  }
+}
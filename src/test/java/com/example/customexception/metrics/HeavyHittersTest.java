@@ -0,0 +1,110 @@
+package com.example.customexception.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.constant.ResponseCode;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HeavyHittersTest {
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2022-06-01T03:04:05Z"));
+
+  @DisplayName("한 번씩 발생한 경로가 많아도_많이 발생한 경로를 건수순으로 반환")
+  @Test
+  void testTop() {
+
+    // Given
+    HeavyHitters heavyHitters = new HeavyHitters(true, clock, 4, 4, 1024, 60_000);
+
+    // When
+    for (int i = 0; i < 5000; i++) {
+      heavyHitters.record(ResponseCode.NOT_FOUND, "/api/orders/" + i, "10.0.0." + (i % 200));
+      if (i % 10 == 0) {
+        heavyHitters.record(ResponseCode.INVALID_REQUEST, "/api/heavy/1", "10.0.1.1");
+      }
+      if (i % 20 == 0) {
+        heavyHitters.record(ResponseCode.NO_HANDLER_FOUND, "/api/heavy/2", "10.0.1.1");
+      }
+    }
+    HeavyHittersSnapshot snapshot = heavyHitters.snapshot(2);
+
+    // Then
+    assertThat(snapshot.getPaths()).extracting(HeavyHittersSnapshot.Entry::getKey)
+        .containsExactly("/api/heavy/1", "/api/heavy/2");
+    assertThat(snapshot.getPaths().get(0).getCount()).isGreaterThanOrEqualTo(500);
+    assertThat(snapshot.getCodes()).extracting(HeavyHittersSnapshot.Entry::getKey)
+        .containsExactly("804", "801");
+    assertThat(snapshot.getCodes().get(0).getCount()).isEqualTo(5000);
+    assertThat(snapshot.getClients().get(0).getKey()).isEqualTo("10.0.1.1");
+    assertThat(heavyHitters.snapshot(100).getPaths()).hasSizeLessThanOrEqualTo(4);
+  }
+
+  @DisplayName("감쇠 주기 경과_건수가 주기마다 절반으로 감소")
+  @Test
+  void testDecay() {
+
+    // Given
+    HeavyHitters heavyHitters = new HeavyHitters(true, clock, 4, 4, 1024, 60_000);
+    for (int i = 0; i < 100; i++) {
+      heavyHitters.record(ResponseCode.NOT_FOUND, "/api/orders", null);
+    }
+
+    // When
+    clock.instant = clock.instant.plusSeconds(60);
+    long afterOne = heavyHitters.snapshot(1).getPaths().get(0).getCount();
+    clock.instant = clock.instant.plusSeconds(120);
+    long afterThree = heavyHitters.snapshot(1).getPaths().get(0).getCount();
+
+    // Then
+    assertThat(afterOne).isEqualTo(50);
+    assertThat(afterThree).isEqualTo(12);
+    assertThat(heavyHitters.snapshot(1).getClients()).isEmpty();
+    assertThat(heavyHitters.snapshot(1).getHalfLifeSeconds()).isEqualTo(60);
+  }
+
+  @DisplayName("비활성화_기록하지 않음")
+  @Test
+  void testDisabled() {
+
+    // Given
+    HeavyHitters heavyHitters = new HeavyHitters(false, clock, 4, 4, 1024, 60_000);
+
+    // When
+    heavyHitters.record(ResponseCode.NOT_FOUND, "/api/orders", "10.0.0.1");
+
+    // Then
+    HeavyHittersSnapshot snapshot = heavyHitters.snapshot(10);
+    assertThat(snapshot.getPaths()).isEmpty();
+    assertThat(snapshot.getCodes()).isEmpty();
+    assertThat(snapshot.getClients()).isEmpty();
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.example.customexception.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.constant.ResponseCode;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+class RecentErrorsTest {
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2022-06-01T03:04:05Z"));
+
+  @DisplayName("에러 코드, 경로 접두사, 시간 조건 조회_최신순 반환")
+  @Test
+  void testQuery() {
+
+    // Given
+    RecentErrors recentErrors = new RecentErrors(true, clock, 16, 1);
+    recentErrors.publish(ResponseCode.NOT_FOUND, "GET", "/api/orders/1", "t1",
+        IllegalStateException.class);
+    clock.instant = clock.instant.plusSeconds(60);
+    recentErrors.publish(ResponseCode.NOT_FOUND, "GET", "/api/users/1", "t2",
+        IllegalStateException.class);
+    recentErrors.publish(ResponseCode.NO_HANDLER_FOUND, "DELETE", "/api/orders/2", "t3",
+        NoHandlerFoundException.class);
+
+    // When
+    RecentErrorsSnapshot all = recentErrors.query(null, null, Long.MIN_VALUE, 10);
+    RecentErrorsSnapshot byCode = recentErrors.query(
+        ResponseCode.NOT_FOUND, null, Long.MIN_VALUE, 10);
+    RecentErrorsSnapshot byPath = recentErrors.query(null, "/api/orders", Long.MIN_VALUE, 10);
+    RecentErrorsSnapshot byTime = recentErrors.query(null, null, clock.millis() - 30_000, 10);
+
+    // Then
+    assertThat(all.getErrors()).extracting(RecentErrorsSnapshot.Error::getTimestamp)
+        .containsExactly("t2", "t3", "t1");
+    assertThat(byCode.getErrors()).extracting(RecentErrorsSnapshot.Error::getPath)
+        .containsExactly("/api/users/1", "/api/orders/1");
+    assertThat(byPath.getErrors()).extracting(RecentErrorsSnapshot.Error::getStatusCode)
+        .containsExactly("906", "804");
+    assertThat(byPath.getErrors().get(0).getException())
+        .isEqualTo(NoHandlerFoundException.class.getName());
+    assertThat(byTime.getErrors()).hasSize(2);
+    assertThat(recentErrors.query(null, null, Long.MIN_VALUE, 1).getErrors()).hasSize(1);
+  }
+
+  @DisplayName("용량 초과_오래된 에러부터 덮어씀")
+  @Test
+  void testOverwrite() {
+
+    // Given
+    RecentErrors recentErrors = new RecentErrors(true, clock, 8, 1);
+
+    // When
+    for (int i = 0; i < 20; i++) {
+      clock.instant = clock.instant.plusMillis(1);
+      recentErrors.publish(ResponseCode.NOT_FOUND, "GET", "/api/" + i, String.valueOf(i),
+          IllegalStateException.class);
+    }
+
+    // Then
+    RecentErrorsSnapshot snapshot = recentErrors.query(null, null, Long.MIN_VALUE, 100);
+    assertThat(snapshot.getCapacity()).isEqualTo(8);
+    assertThat(snapshot.getErrors()).extracting(RecentErrorsSnapshot.Error::getTimestamp)
+        .containsExactly("19", "18", "17", "16", "15", "14", "13", "12");
+  }
+
+  @DisplayName("여러 스레드 동시 기록_조회 결과에 섞인 slot 없음")
+  @Test
+  void testConcurrentPublish() throws Exception {
+
+    // Given
+    RecentErrors recentErrors = new RecentErrors(true, Clock.systemUTC(), 64, 4);
+    ResponseCode[] codes = {ResponseCode.NOT_FOUND, ResponseCode.INVALID_REQUEST,
+        ResponseCode.CONSTRAINT_VIOLATION, ResponseCode.INTERNAL_SERVER_ERROR};
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (ResponseCode code : codes) {
+      threads.add(new Thread(() -> {
+        awaitQuietly(start);
+        for (int i = 0; i < 20_000; i++) {
+          recentErrors.publish(code, "GET", "/api/" + code.getCode(), code.getCode(),
+              IllegalStateException.class);
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+
+    // When
+    start.countDown();
+    List<RecentErrorsSnapshot.Error> observed = new ArrayList<>();
+    while (threads.stream().anyMatch(Thread::isAlive)) {
+      observed.addAll(recentErrors.query(null, null, Long.MIN_VALUE, 64).getErrors());
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    observed.addAll(recentErrors.query(null, null, Long.MIN_VALUE, 64).getErrors());
+
+    // Then
+    assertThat(observed).isNotEmpty().allSatisfy(error -> {
+      assertThat(error.getPath()).isEqualTo("/api/" + error.getStatusCode());
+      assertThat(error.getTimestamp()).isEqualTo(error.getStatusCode());
+    });
+  }
+
+  @DisplayName("비활성화_기록하지 않음")
+  @Test
+  void testDisabled() {
+
+    // Given
+    RecentErrors recentErrors = new RecentErrors(false, clock, 8, 1);
+
+    // When
+    recentErrors.publish(ResponseCode.NOT_FOUND, "GET", "/api", "t", RuntimeException.class);
+
+    // Then
+    assertThat(recentErrors.query(null, null, Long.MIN_VALUE, 10).getErrors()).isEmpty();
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.example.customexception.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.constant.ErrorCode;
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.constant.ResponseCodeRegistry.Definition;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpStatus;
+
+class ErrorMessagesTest {
+
+  private final ResponseCodeRegistry responseCodeRegistry = new ResponseCodeRegistry(
+      Collections.singletonList(
+          new Definition("1001", "결제 한도 초과", HttpStatus.BAD_REQUEST, false)));
+
+  private final ErrorMessages errorMessages = new ErrorMessages(
+      messageSource(),
+      responseCodeRegistry,
+      Arrays.asList(Locale.KOREAN, Locale.ENGLISH, Locale.JAPANESE),
+      Locale.KOREAN);
+
+  @DisplayName("지원 Locale_번들 메시지 반환")
+  @Test
+  void testSupportedLocale() {
+    assertThat(errorMessages.messageOf(ResponseCode.NOT_FOUND, Locale.KOREA))
+        .isEqualTo(ResponseCode.NOT_FOUND.getMessage());
+    assertThat(errorMessages.messageOf(ResponseCode.NOT_FOUND, Locale.US))
+        .isEqualTo("The requested information does not exist.");
+    assertThat(errorMessages.messageOf(ResponseCode.NOT_FOUND, Locale.JAPAN))
+        .isEqualTo("存在しない情報です。");
+  }
+
+  @DisplayName("지원하지 않는 Locale_기본 Locale 메시지 반환")
+  @Test
+  void testUnsupportedLocale() {
+    assertThat(errorMessages.messageOf(ResponseCode.NO_HANDLER_FOUND, Locale.FRENCH))
+        .isEqualTo(ResponseCode.NO_HANDLER_FOUND.getMessage());
+    assertThat(errorMessages.messageOf(ResponseCode.NO_HANDLER_FOUND, null))
+        .isEqualTo(ResponseCode.NO_HANDLER_FOUND.getMessage());
+  }
+
+  @DisplayName("번들에 없는 외부 정의 코드_정의 메시지 반환 및 동일 인스턴스 재사용")
+  @Test
+  void testExternalCode() {
+
+    // Given
+    ErrorCode errorCode = responseCodeRegistry.find("1001");
+
+    // When
+    String first = errorMessages.messageOf(ResponseCode.CUSTOM_EXCEPTION, Locale.ENGLISH);
+    String second = errorMessages.messageOf(ResponseCode.CUSTOM_EXCEPTION, Locale.UK);
+
+    // Then
+    assertThat(errorMessages.messageOf(errorCode, Locale.ENGLISH)).isEqualTo("결제 한도 초과");
+    assertThat(first).isSameAs(second);
+  }
+
+  private static ResourceBundleMessageSource messageSource() {
+    ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+    messageSource.setBasename("message/messages");
+    messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+    messageSource.setFallbackToSystemLocale(false);
+    return messageSource;
+  }
+}
@@ -0,0 +1,82 @@
+package com.example.customexception.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class ErrorResponseEncoderTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private final ErrorResponseEncoder errorResponseEncoder =
+      new ErrorResponseEncoder(ResponseCodeRegistry.getInstance());
+
+  @DisplayName("ResponseCode 기본 메시지_Jackson 직렬화 결과와 동일")
+  @ParameterizedTest
+  @EnumSource(ResponseCode.class)
+  void testEncodeDefaultMessage(ResponseCode responseCode) throws Exception {
+
+    // Given
+    ErrorResponse errorResponse = ErrorResponse.builder()
+        .statusCode(responseCode.getCode())
+        .method("GET")
+        .path("/api/exception02")
+        .timestamp("20220601120000")
+        .build();
+
+    // When & Then
+    assertThat(errorResponseEncoder.encode(errorResponse))
+        .isEqualTo(objectMapper.writeValueAsBytes(errorResponse));
+  }
+
+  @DisplayName("이스케이프 대상 문자_Jackson 직렬화 결과와 동일")
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "ErrorException 발생",
+      "quote \" backslash \\ slash /",
+      "control \b \t \n \f \r \u0000 \u001f \u007f",
+      "emoji 😀 lone \uD83D end",
+      "日本語のメッセージ",
+      ""
+  })
+  void testEncodeEscapedValues(String value) throws Exception {
+
+    // Given
+    ErrorResponse errorResponse = ErrorResponse.builder()
+        .statusCode(ResponseCode.CUSTOM_EXCEPTION.getCode())
+        .message(value.isEmpty() ? null : value)
+        .method("POST")
+        .path("/api/" + value)
+        .timestamp("20220601120000")
+        .build();
+    errorResponse.setMethod(value);
+
+    // When & Then
+    assertThat(errorResponseEncoder.encode(errorResponse))
+        .isEqualTo(objectMapper.writeValueAsBytes(errorResponse));
+  }
+
+  @DisplayName("null 필드, 등록되지 않은 코드_Jackson 직렬화 결과와 동일")
+  @ParameterizedTest
+  @ValueSource(strings = {"800", "999"})
+  void testEncodeNullValues(String statusCode) throws Exception {
+
+    // Given
+    ErrorResponse errorResponse = ErrorResponse.builder()
+        .statusCode(ResponseCode.CUSTOM_EXCEPTION.getCode())
+        .timestamp("20220601120000")
+        .build();
+    errorResponse.setStatusCode(statusCode);
+
+    // When & Then
+    assertThat(errorResponseEncoder.encode(errorResponse))
+        .isEqualTo(objectMapper.writeValueAsBytes(errorResponse));
+  }
+}
@@ -0,0 +1,93 @@
+package com.example.customexception.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimestampProviderTest {
+
+  private static final Instant NOW = Instant.parse("2022-06-01T03:04:05.123Z");
+
+  @DisplayName("고정 Clock_yyyyMMddHHmmss 포맷")
+  @Test
+  void testFixedClock() {
+
+    // Given
+    TimestampProvider timestampProvider = new TimestampProvider(
+        Clock.fixed(NOW, ZoneId.of("Asia/Seoul")), "yyyyMMddHHmmss", ChronoUnit.SECONDS);
+
+    // When & Then
+    assertThat(timestampProvider.now()).isEqualTo("20220601120405");
+  }
+
+  @DisplayName("같은 초_문자열 재사용, 다음 초_새 문자열")
+  @Test
+  void testSecondResolution() {
+
+    // Given
+    MutableClock clock = new MutableClock(NOW);
+    TimestampProvider timestampProvider =
+        new TimestampProvider(clock, "yyyyMMddHHmmss", ChronoUnit.SECONDS);
+
+    // When
+    String first = timestampProvider.now();
+    clock.instant = NOW.plusMillis(500);
+    String sameSecond = timestampProvider.now();
+    clock.instant = NOW.plusSeconds(1);
+    String nextSecond = timestampProvider.now();
+
+    // Then
+    assertThat(sameSecond).isSameAs(first);
+    assertThat(first).isEqualTo("20220601030405");
+    assertThat(nextSecond).isEqualTo("20220601030406");
+  }
+
+  @DisplayName("밀리초 resolution_밀리초 단위 갱신")
+  @Test
+  void testMillisResolution() {
+
+    // Given
+    MutableClock clock = new MutableClock(NOW);
+    TimestampProvider timestampProvider =
+        new TimestampProvider(clock, "yyyyMMddHHmmssSSS", ChronoUnit.MILLIS);
+
+    // When
+    String first = timestampProvider.now();
+    clock.instant = NOW.plusMillis(1);
+    String next = timestampProvider.now();
+
+    // Then
+    assertThat(first).isEqualTo("20220601030405123");
+    assertThat(next).isEqualTo("20220601030405124");
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.example.customexception.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SnakeCaseConverterTest {
+
+  @DisplayName("Camel Case_Snake Case 변환")
+  @ParameterizedTest
+  @CsvSource({
+      "title, title",
+      "Title, title",
+      "errorRequest, error_request",
+      "HTTPStatus, http_status",
+      "userID, user_id",
+      "requestURLPath, request_url_path",
+      "field2Name, field2_name",
+      "items[0].fieldName, items[0].field_name",
+      "already_snake, already_snake"
+  })
+  void testToSnakeCase(String input, String expected) {
+    assertThat(SnakeCaseConverter.toSnakeCase(input)).isEqualTo(expected);
+  }
+
+  @DisplayName("빈 문자열_빈 문자열 반환")
+  @Test
+  void testEmptyString() {
+    assertThat(SnakeCaseConverter.toSnakeCase("")).isEmpty();
+  }
+
+  @DisplayName("캐시된 변환_동일 인스턴스 반환")
+  @Test
+  void testCachedLookup() {
+
+    // Given
+    String first = SnakeCaseConverter.toSnakeCase("completedAt");
+
+    // When
+    String second = SnakeCaseConverter.toSnakeCase("completedAt");
+
+    // Then
+    assertThat(second).isSameAs(first);
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.customexception.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadsTest {
+
+  @DisplayName("Java 21 이상_가상 스레드 Executor 생성, 미만_empty")
+  @Test
+  void testNewVirtualThreadPerTaskExecutor() throws Exception {
+
+    // Given
+    boolean expected = Runtime.version().feature() >= 21;
+
+    // When
+    Optional<ExecutorService> executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+    // Then
+    assertThat(VirtualThreads.isSupported()).isEqualTo(expected);
+    assertThat(executor.isPresent()).isEqualTo(expected);
+    if (executor.isPresent()) {
+      Future<String> threadName = executor.get().submit(() -> Thread.currentThread().toString());
+      assertThat(threadName.get()).startsWith("VirtualThread");
+      executor.get().shutdown();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.customexception.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.dto.ErrorExceptionDto;
+import com.example.customexception.response.BatchErrorResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BatchValidatorTest {
+
+  private final RequestValidator requestValidator = new RequestValidator(false);
+
+  private final BatchValidator batchValidator = new BatchValidator(requestValidator, 4, 16);
+
+  @AfterEach
+  void tearDown() {
+    batchValidator.close();
+    requestValidator.close();
+  }
+
+  @DisplayName("병렬 검증_실패 요청만 인덱스 오름차순으로 반환")
+  @Test
+  void testValidate() {
+
+    // Given
+    List<ErrorExceptionDto.Request> errorRequests = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      errorRequests.add(i % 37 == 5 ? invalidRequest() : validRequest());
+    }
+
+    // When
+    List<BatchErrorResponse.ItemError> errors = batchValidator.validate(errorRequests);
+
+    // Then
+    assertThat(errors).hasSize(27);
+    for (int i = 0; i < errors.size(); i++) {
+      assertThat(errors.get(i).getIndex()).isEqualTo(37 * i + 5);
+    }
+    assertThat(errors.get(0).getMessage())
+        .isEqualTo(RequestValidator.violationMessage(requestValidator.validate(invalidRequest())))
+        .startsWith("completed:")
+        .contains(", description:", ", title:");
+  }
+
+  @DisplayName("chunkSize 이하 또는 위반 없음_빈 목록 반환")
+  @Test
+  void testValidateValid() {
+
+    // Given
+    List<ErrorExceptionDto.Request> small = Collections.nCopies(16, validRequest());
+    List<ErrorExceptionDto.Request> large = Collections.nCopies(1000, validRequest());
+
+    // When & Then
+    assertThat(batchValidator.validate(small)).isEmpty();
+    assertThat(batchValidator.validate(large)).isEmpty();
+    assertThat(batchValidator.validate(Collections.emptyList())).isEmpty();
+  }
+
+  private static ErrorExceptionDto.Request validRequest() {
+    return ErrorExceptionDto.Request.builder()
+        .title("title")
+        .description("description")
+        .completed(false)
+        .build();
+  }
+
+  private static ErrorExceptionDto.Request invalidRequest() {
+    return ErrorExceptionDto.Request.builder()
+        .title("")
+        .description("")
+        .completed(true)
+        .build();
+  }
+}
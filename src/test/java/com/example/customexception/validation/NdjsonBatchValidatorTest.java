@@ -0,0 +1,184 @@
+package com.example.customexception.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.customexception.constant.ResponseCode;
+import com.example.customexception.constant.ResponseCodeRegistry;
+import com.example.customexception.dto.ErrorExceptionDto;
+import com.example.customexception.response.BatchErrorResponse;
+import com.example.customexception.response.ErrorMessages;
+import com.example.customexception.response.TimestampProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NdjsonBatchValidatorTest {
+
+  private static final String VALID =
+      "{\"title\":\"title\",\"description\":\"description\",\"completed\":false}";
+
+  private static final String INVALID =
+      "{\"title\":\"\",\"description\":\"description\",\"completed\":false}";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final RequestValidator requestValidator = new RequestValidator(false);
+
+  private final NdjsonBatchValidator ndjsonBatchValidator = new NdjsonBatchValidator(
+      requestValidator,
+      objectMapper,
+      new ErrorMessages(ResponseCodeRegistry.getInstance()),
+      new TimestampProvider(
+          Clock.fixed(Instant.parse("2022-06-01T03:04:05Z"), ZoneOffset.UTC),
+          "yyyyMMddHHmmss",
+          ChronoUnit.SECONDS),
+      128);
+
+  @AfterEach
+  void tearDown() {
+    requestValidator.close();
+  }
+
+  @DisplayName("줄별 검증_실패한 줄만 에러 기록 후 마지막 줄에 요약")
+  @Test
+  void testValidate() throws Exception {
+
+    // Given
+    String body = VALID + "\n"
+        + INVALID + "\r\n"
+        + "\n"
+        + "{\"title\":\n"
+        + "{\"title\":\"" + "a".repeat(200) + "\"}\n"
+        + "null\n"
+        + VALID + " trailing\n"
+        + VALID;
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    BatchErrorResponse.Summary summary = validate(
+        new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), outputStream);
+
+    // Then
+    List<JsonNode> records = records(outputStream);
+    assertThat(records).hasSize(6);
+    assertRecord(records.get(0), 2, ResponseCode.CONSTRAINT_VIOLATION);
+    assertThat(records.get(0).get("message").asText()).startsWith("title:");
+    assertRecord(records.get(1), 4, ResponseCode.HTTP_MESSAGE_NOT_READABLE_EXCEPTION);
+    assertRecord(records.get(2), 5, ResponseCode.INVALID_REQUEST);
+    assertRecord(records.get(3), 6, ResponseCode.HTTP_MESSAGE_NOT_READABLE_EXCEPTION);
+    assertRecord(records.get(4), 7, ResponseCode.HTTP_MESSAGE_NOT_READABLE_EXCEPTION);
+    assertThat(records.get(4).get("message").asText())
+        .isEqualTo(ResponseCode.HTTP_MESSAGE_NOT_READABLE_EXCEPTION.getMessage());
+
+    JsonNode last = records.get(5);
+    assertThat(last.get("status_code").asText())
+        .isEqualTo(ResponseCode.CONSTRAINT_VIOLATION.getCode());
+    assertThat(last.get("summary").get("total").asLong()).isEqualTo(7);
+    assertThat(last.get("summary").get("valid").asLong()).isEqualTo(2);
+    assertThat(last.get("summary").get("invalid").asLong()).isEqualTo(5);
+    assertThat(last.has("errors")).isFalse();
+    assertThat(summary.getInvalid()).isEqualTo(5);
+  }
+
+  @DisplayName("입력 대기 전 flush_이전 줄 에러를 다음 입력 전에 출력")
+  @Test
+  void testFlushBeforeBlockingRead() throws Exception {
+
+    // Given
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    List<Integer> outputSizes = new ArrayList<>();
+    InputStream inputStream = new ChunkedInputStream(outputStream, outputSizes,
+        INVALID + "\n", VALID + "\n", INVALID + "\n");
+
+    // When
+    validate(inputStream, outputStream);
+
+    // Then
+    assertThat(outputSizes).hasSize(4);
+    assertThat(outputSizes.get(0)).isZero();
+    assertThat(outputSizes.get(1)).isPositive();
+    assertThat(outputSizes.get(2)).isEqualTo(outputSizes.get(1));
+    assertThat(outputSizes.get(3)).isGreaterThan(outputSizes.get(2));
+    assertThat(records(outputStream)).hasSize(3);
+  }
+
+  private BatchErrorResponse.Summary validate(
+      InputStream inputStream,
+      ByteArrayOutputStream outputStream) throws IOException {
+    return ndjsonBatchValidator.validate(
+        ErrorExceptionDto.Request.class,
+        inputStream,
+        outputStream,
+        "POST",
+        "/api/batch/validate/stream",
+        Locale.KOREAN);
+  }
+
+  private List<JsonNode> records(ByteArrayOutputStream outputStream) throws IOException {
+    String output = outputStream.toString(StandardCharsets.UTF_8);
+    assertThat(output).endsWith("\n");
+    List<JsonNode> records = new ArrayList<>();
+    for (String line : output.split("\n")) {
+      records.add(objectMapper.readTree(line));
+    }
+    return records;
+  }
+
+  private static void assertRecord(JsonNode record, long line, ResponseCode responseCode) {
+    assertThat(record.get("line").asLong()).isEqualTo(line);
+    assertThat(record.get("status_code").asText()).isEqualTo(responseCode.getCode());
+    assertThat(record.get("method").asText()).isEqualTo("POST");
+    assertThat(record.get("path").asText()).isEqualTo("/api/batch/validate/stream");
+    assertThat(record.get("timestamp").asText()).isEqualTo("20220601030405");
+  }
+
+  /**
+   * read 호출마다 한 덩어리만 반환하고, 그때까지의 출력 크기를 기록
+   */
+  private static class ChunkedInputStream extends InputStream {
+
+    private final ByteArrayOutputStream outputStream;
+    private final List<Integer> outputSizes;
+    private final String[] chunks;
+    private int next;
+
+    private ChunkedInputStream(
+        ByteArrayOutputStream outputStream,
+        List<Integer> outputSizes,
+        String... chunks) {
+      this.outputStream = outputStream;
+      this.outputSizes = outputSizes;
+      this.chunks = chunks;
+    }
+
+    @Override
+    public int read() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      outputSizes.add(outputStream.size());
+      if (next == chunks.length) {
+        return -1;
+      }
+      byte[] chunk = chunks[next++].getBytes(StandardCharsets.UTF_8);
+      System.arraycopy(chunk, 0, b, off, chunk.length);
+      return chunk.length;
+    }
+  }
+}